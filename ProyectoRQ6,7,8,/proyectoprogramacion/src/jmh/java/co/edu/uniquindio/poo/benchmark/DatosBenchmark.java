@@ -0,0 +1,60 @@
+/**
+ * Clase que construye los datos usados por los benchmarks del Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo.benchmark;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import co.edu.uniquindio.poo.Equipo;
+import co.edu.uniquindio.poo.Estadistica;
+import co.edu.uniquindio.poo.GeneradorTorneo;
+import co.edu.uniquindio.poo.Jugador;
+import co.edu.uniquindio.poo.Persona;
+import co.edu.uniquindio.poo.TipoGenero;
+import co.edu.uniquindio.poo.TipoTorneo;
+import co.edu.uniquindio.poo.TipoTorneoGenero;
+import co.edu.uniquindio.poo.Torneo;
+
+/**
+ * Los torneos se crean con el generador de torneos y los enfrentamientos usan
+ * un reloj fijo, de modo que los resultados no dependan de la fecha en que se
+ * ejecutan.
+ */
+final class DatosBenchmark {
+    static final ZoneId ZONA = ZoneId.of("America/Bogota");
+    static final LocalDate FECHA_ACTUAL = LocalDate.of(2023, 8, 15);
+    static final LocalTime HORA_ACTUAL = LocalTime.of(15, 0);
+    static final Clock RELOJ = Clock.fixed(LocalDateTime.of(FECHA_ACTUAL, HORA_ACTUAL).atZone(ZONA).toInstant(),
+            ZONA);
+    static final long SEMILLA = 42;
+    static final Persona REPRESENTANTE = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+
+    private DatosBenchmark() {
+    }
+
+    /**
+     * Crea un torneo con la cantidad de equipos y jugadores por equipo dada. El
+     * torneo se genera siempre con la misma semilla.
+     */
+    static Torneo crearTorneo(int equipos, int jugadoresPorEquipo) {
+        return new GeneradorTorneo(SEMILLA).generar(TipoTorneo.REGIONAL, TipoTorneoGenero.MIXTO, (byte) 0, equipos,
+                jugadoresPorEquipo, 0, 0, 0);
+    }
+
+    static Equipo crearEquipo(int numero) {
+        return new Equipo("Equipo " + numero, REPRESENTANTE, new Estadistica());
+    }
+
+    static Jugador crearJugador(int numero) {
+        return new Jugador("Nombre" + numero, "Apellido" + numero, "jugador" + numero + "@email.com", "3000000000",
+                FECHA_ACTUAL.minusYears(18 + numero % 10), numero % 2 == 0 ? TipoGenero.HOMBRE : TipoGenero.MUJER);
+    }
+}
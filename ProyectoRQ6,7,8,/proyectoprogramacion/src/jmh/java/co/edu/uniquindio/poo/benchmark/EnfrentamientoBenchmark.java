@@ -0,0 +1,133 @@
+/**
+ * Benchmarks del registro de enfrentamientos, su resultado y la clasificación de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo.benchmark;
+
+import java.util.Collection;
+import java.util.OptionalInt;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.uniquindio.poo.Enfrentamiento;
+import co.edu.uniquindio.poo.Equipo;
+import co.edu.uniquindio.poo.Lugar;
+import co.edu.uniquindio.poo.Torneo;
+
+/**
+ * Cada iteración parte de un torneo con un lote de enfrentamientos pendientes.
+ * Los enfrentamientos están programados a la hora del reloj fijo, cada uno en
+ * un lugar distinto, y cada invocación lleva a cabo el siguiente enfrentamiento
+ * del lote, de modo que ninguno se finaliza dos veces y siempre se actualizan
+ * las estadísticas y la clasificación.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnfrentamientoBenchmark {
+    private static final int TAMANO_LOTE = 10_000;
+    private static final Lugar LUGAR = new Lugar("Centenario", "Armenia");
+
+    @Param({ "100", "1000", "10000" })
+    public int equipos;
+
+    private Torneo torneo;
+    private Equipo[] equiposRegistrados;
+    private Enfrentamiento[] enfrentamientos;
+    private SplittableRandom aleatorio;
+    private int siguiente;
+    private int siguientePendiente;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        torneo = DatosBenchmark.crearTorneo(equipos, 0);
+        equiposRegistrados = torneo.getEquipos().toArray(Equipo[]::new);
+        aleatorio = new SplittableRandom(42);
+        enfrentamientos = new Enfrentamiento[TAMANO_LOTE];
+        for (int i = 0; i < TAMANO_LOTE; i++) {
+            var enfrentamiento = crearEnfrentamiento(i, 0, new Lugar("Cancha " + i, "Armenia"));
+            enfrentamiento.setPuntosVisitanteLocalEnfrentamiento(aleatorio.nextInt(4), aleatorio.nextInt(4));
+            torneo.registrarEnfrentamiento(enfrentamiento);
+            enfrentamientos[i] = enfrentamiento;
+        }
+        siguiente = 1;
+        siguientePendiente = 0;
+    }
+
+    private Enfrentamiento crearEnfrentamiento(int numero, int jornada, Lugar lugar) {
+        var visitante = equiposRegistrados[numero % equiposRegistrados.length];
+        var local = equiposRegistrados[(numero + 1) % equiposRegistrados.length];
+        return new Enfrentamiento(DatosBenchmark.FECHA_ACTUAL.plusDays(jornada), DatosBenchmark.HORA_ACTUAL, lugar,
+                visitante, local, DatosBenchmark.RELOJ);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = TAMANO_LOTE)
+    @Measurement(iterations = 10, batchSize = TAMANO_LOTE)
+    public Torneo registrarEnfrentamiento() {
+        int numero = siguiente++;
+        torneo.registrarEnfrentamiento(crearEnfrentamiento(numero, 1 + numero / equipos, LUGAR));
+        return torneo;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = TAMANO_LOTE)
+    @Measurement(iterations = 10, batchSize = TAMANO_LOTE)
+    public Enfrentamiento llevarACaboEnfrentamiento() {
+        var enfrentamiento = enfrentamientos[siguientePendiente++];
+        enfrentamiento.llevarACaboEnfrentamiento();
+        return enfrentamiento;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = TAMANO_LOTE)
+    @Measurement(iterations = 10, batchSize = TAMANO_LOTE)
+    public Collection<Equipo> obtenerClasificacionDespuesDeResultado() {
+        enfrentamientos[siguientePendiente++].llevarACaboEnfrentamiento();
+        return torneo.obtenerListaEquiposClasificacionResultadosEnfrentamiento();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Collection<Equipo> obtenerClasificacion() {
+        return torneo.obtenerListaEquiposClasificacionResultadosEnfrentamiento();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Collection<Equipo> obtenerMejoresEquipos() {
+        return torneo.obtenerMejoresEquiposClasificacion(10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public OptionalInt obtenerPosicionEquipo() {
+        var equipo = equiposRegistrados[aleatorio.nextInt(equiposRegistrados.length)];
+        return torneo.obtenerPosicionEquipoClasificacion(equipo.getNombre());
+    }
+}
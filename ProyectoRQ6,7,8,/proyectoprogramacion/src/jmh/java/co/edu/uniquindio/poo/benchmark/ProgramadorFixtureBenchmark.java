@@ -0,0 +1,78 @@
+/**
+ * Benchmarks de la programación del fixture de todos contra todos de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo.benchmark;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.uniquindio.poo.Enfrentamiento;
+import co.edu.uniquindio.poo.GeneradorTorneo;
+import co.edu.uniquindio.poo.Lugar;
+import co.edu.uniquindio.poo.ProgramadorFixture;
+import co.edu.uniquindio.poo.TipoTorneo;
+import co.edu.uniquindio.poo.TipoTorneoGenero;
+import co.edu.uniquindio.poo.Torneo;
+
+/**
+ * Programar el fixture registra todos sus enfrentamientos en el torneo, por eso
+ * cada medición programa el fixture completo sobre un torneo recién creado. Con
+ * 2000 equipos el fixture de una vuelta tiene 1.999.000 enfrentamientos, y la
+ * medición incluye su registro con todos los índices del torneo.
+ * <p>
+ * El heap se fija desde el inicio y el torneo de la medición anterior se
+ * recolecta antes de crear el siguiente, de modo que cada medición no incluya
+ * el crecimiento del heap ni la limpieza de los cientos de megabytes del
+ * fixture anterior.
+ */
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = { "-Xms4g", "-Xmx4g" })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProgramadorFixtureBenchmark {
+    private static final int JUECES = 50;
+    private static final int LUGARES = 50;
+
+    @Param({ "200", "2000" })
+    public int equipos;
+
+    private Torneo torneo;
+    private List<Lugar> lugares;
+    private List<LocalTime> horarios;
+
+    @Setup(Level.Invocation)
+    public void preparar() {
+        torneo = null;
+        System.gc();
+        torneo = new GeneradorTorneo(DatosBenchmark.SEMILLA).generar(TipoTorneo.REGIONAL, TipoTorneoGenero.MIXTO,
+                (byte) 0, equipos, 0, JUECES, 0, 0);
+        lugares = IntStream.range(0, LUGARES).mapToObj(i -> new Lugar("Cancha " + i, "Armenia")).toList();
+        horarios = List.of(LocalTime.of(10, 0), LocalTime.of(15, 0), LocalTime.of(19, 0));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public List<Enfrentamiento> programarTodosContraTodos() {
+        return new ProgramadorFixture(torneo).programar(false, lugares, horarios, 7);
+    }
+}
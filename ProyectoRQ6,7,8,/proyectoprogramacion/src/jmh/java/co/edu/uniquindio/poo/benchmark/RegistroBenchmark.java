@@ -0,0 +1,88 @@
+/**
+ * Benchmarks del registro y búsqueda de equipos y jugadores en un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo.benchmark;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.uniquindio.poo.Equipo;
+import co.edu.uniquindio.poo.Jugador;
+import co.edu.uniquindio.poo.Torneo;
+
+/**
+ * Los benchmarks de registro hacen crecer el torneo, por eso se miden como
+ * lotes de tamaño fijo sobre un torneo recién creado en cada iteración.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegistroBenchmark {
+    private static final int JUGADORES_POR_EQUIPO = 10;
+    private static final int TAMANO_LOTE = 10_000;
+
+    @Param({ "100", "1000", "10000" })
+    public int equipos;
+
+    private Torneo torneo;
+    private Equipo[] equiposRegistrados;
+    private Jugador[] jugadoresRegistrados;
+    private SplittableRandom aleatorio;
+    private int siguiente;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        torneo = DatosBenchmark.crearTorneo(equipos, JUGADORES_POR_EQUIPO);
+        equiposRegistrados = torneo.getEquipos().toArray(Equipo[]::new);
+        jugadoresRegistrados = torneo.getEquipos().stream()
+                .flatMap(equipo -> equipo.getJugadores().stream())
+                .toArray(Jugador[]::new);
+        aleatorio = new SplittableRandom(42);
+        siguiente = equipos * JUGADORES_POR_EQUIPO;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = TAMANO_LOTE)
+    @Measurement(iterations = 10, batchSize = TAMANO_LOTE)
+    public Torneo registrarEquipo() {
+        torneo.registrarEquipo(DatosBenchmark.crearEquipo(siguiente++));
+        return torneo;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5, batchSize = TAMANO_LOTE)
+    @Measurement(iterations = 10, batchSize = TAMANO_LOTE)
+    public Torneo registrarJugador() {
+        var equipo = equiposRegistrados[aleatorio.nextInt(equiposRegistrados.length)];
+        torneo.registrarJugador(equipo.getNombre(), DatosBenchmark.crearJugador(siguiente++));
+        return torneo;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Optional<Jugador> buscarJugador() {
+        return torneo.buscarJugador(jugadoresRegistrados[aleatorio.nextInt(jugadoresRegistrados.length)]);
+    }
+}
@@ -0,0 +1,462 @@
+/**
+ * Clase que agrupa por columnas las estadísticas de los equipos de varios Torneos
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * Cada equipo de cada torneo agregado ocupa una fila, y cada dato de su
+ * estadística se guarda en un arreglo de enteros propio, de modo que las sumas,
+ * promedios y filtros sobre una columna recorren memoria contigua sin pasar por
+ * los objetos de los equipos. Las filas se mantienen al día observando la
+ * estadística de cada equipo, y los equipos inscritos después de agregar el
+ * torneo se agregan al inscribirse.
+ * <p>
+ * Las actualizaciones de las filas toman el bloqueo de lectura de las columnas,
+ * que solo impide que los arreglos cambien de tamaño mientras se escriben, de
+ * modo que los resultados de equipos distintos se copian a la vez sin esperarse
+ * entre sí. Cada fila se copia de una lectura de todos los contadores de la
+ * estadística en un mismo instante. Agregar filas y las
+ * consultas toman el bloqueo de escritura y ven todas las actualizaciones
+ * terminadas. Al cerrar el almacén se quitan los observadores de los torneos y
+ * de las estadísticas y las filas dejan de actualizarse.
+ */
+public class AlmacenEstadisticas implements AutoCloseable {
+    private static final int MARCA = 0x41455354;
+    private static final short VERSION = 1;
+    private static final int CAPACIDAD_INICIAL = 64;
+    private static final Columna[] COLUMNAS = Columna.values();
+
+    private final ReadWriteLock bloqueoColumnas;
+    private final List<String> torneos;
+    private final Map<Torneo, Torneo.Observador> torneosObservados;
+    private final Map<Estadistica, Estadistica.Observador> observadas;
+    private final int[][] columnas;
+    private int[] torneoFila;
+    private String[] equipoFila;
+    private int filas;
+    private boolean cerrado;
+
+    /**
+     * Columnas de la estadística de cada equipo.
+     */
+    public enum Columna {
+        GANADO,
+        EMPATADO,
+        PERDIDO,
+        PUNTAJE
+    }
+
+    public AlmacenEstadisticas() {
+        this.bloqueoColumnas = new ReentrantReadWriteLock();
+        this.torneos = new ArrayList<>();
+        this.torneosObservados = new IdentityHashMap<>();
+        this.observadas = new IdentityHashMap<>();
+        this.columnas = new int[COLUMNAS.length][CAPACIDAD_INICIAL];
+        this.torneoFila = new int[CAPACIDAD_INICIAL];
+        this.equipoFila = new String[CAPACIDAD_INICIAL];
+    }
+
+    /**
+     * Agrega una fila por cada equipo del torneo que tenga estadística y mantiene
+     * las filas actualizadas con los resultados que se registren después, hasta
+     * que se cierre el almacén.
+     *
+     * @param torneo Torneo a agregar.
+     * @return Número con el que se identifica al torneo en el almacén.
+     */
+    public int agregarTorneo(Torneo torneo) {
+        ASSERTION.assertion(torneo != null, "El torneo es requerido");
+        bloqueoColumnas.writeLock().lock();
+        try {
+            ASSERTION.assertion(!cerrado, "El almacén está cerrado");
+            int numeroTorneo = torneos.size();
+            torneos.add(torneo.getNombre());
+            var observador = new Torneo.Observador() {
+
+                @Override
+                public void equipoRegistrado(Equipo equipo) {
+                    agregarEquipo(numeroTorneo, equipo);
+                }
+            };
+            torneosObservados.put(torneo, observador);
+            torneo.agregarObservador(observador);
+            torneo.getEquipos().forEach(equipo -> agregarEquipo(numeroTorneo, equipo));
+            return numeroTorneo;
+        } finally {
+            bloqueoColumnas.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Agrega la fila de un equipo y observa su estadística, si no se había
+     * agregado ya al recorrer los equipos del torneo.
+     */
+    private void agregarEquipo(int numeroTorneo, Equipo equipo) {
+        var estadistica = equipo.getEstadistica();
+        if (estadistica == null) {
+            return;
+        }
+        bloqueoColumnas.writeLock().lock();
+        try {
+            if (cerrado || observadas.containsKey(estadistica)) {
+                return;
+            }
+            asegurarCapacidad(filas + 1);
+            int fila = filas++;
+            torneoFila[fila] = numeroTorneo;
+            equipoFila[fila] = equipo.getNombre();
+            Estadistica.Observador observador = actualizada -> actualizarFila(fila, actualizada);
+            observadas.put(estadistica, observador);
+            estadistica.agregarObservador(observador);
+            actualizarFila(fila, estadistica);
+        } finally {
+            bloqueoColumnas.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Copia en la fila los contadores actuales de la estadística, leídos en un
+     * mismo instante. Después de copiarlos se vuelven a leer y, si otro hilo
+     * registró un resultado mientras tanto, se copian de nuevo. Los contadores
+     * solo crecen, así que una copia vieja que otro hilo escriba tarde nunca
+     * coincide con los contadores actuales y ese hilo la corrige, por lo que la
+     * fila siempre termina con los valores finales aunque las notificaciones
+     * lleguen en desorden.
+     */
+    private void actualizarFila(int fila, Estadistica estadistica) {
+        bloqueoColumnas.readLock().lock();
+        try {
+            var valores = estadistica.getValores();
+            while (true) {
+                columnas[Columna.GANADO.ordinal()][fila] = valores.ganado();
+                columnas[Columna.EMPATADO.ordinal()][fila] = valores.empatado();
+                columnas[Columna.PERDIDO.ordinal()][fila] = valores.perdido();
+                columnas[Columna.PUNTAJE.ordinal()][fila] = valores.puntaje();
+                var actuales = estadistica.getValores();
+                if (actuales.equals(valores)) {
+                    break;
+                }
+                valores = actuales;
+            }
+        } finally {
+            bloqueoColumnas.readLock().unlock();
+        }
+    }
+
+    private void asegurarCapacidad(int capacidad) {
+        if (capacidad <= torneoFila.length) {
+            return;
+        }
+        int nuevaCapacidad = Math.max(capacidad, torneoFila.length * 2);
+        for (int i = 0; i < columnas.length; i++) {
+            columnas[i] = Arrays.copyOf(columnas[i], nuevaCapacidad);
+        }
+        torneoFila = Arrays.copyOf(torneoFila, nuevaCapacidad);
+        equipoFila = Arrays.copyOf(equipoFila, nuevaCapacidad);
+    }
+
+    /**
+     * Quita los observadores de los torneos y de las estadísticas agregados. Las
+     * filas se conservan con sus últimos valores y se pueden seguir consultando y
+     * guardando, pero no se pueden agregar más torneos.
+     */
+    @Override
+    public void close() {
+        bloqueoColumnas.writeLock().lock();
+        try {
+            cerrado = true;
+            torneosObservados.forEach(Torneo::quitarObservador);
+            torneosObservados.clear();
+            observadas.forEach(Estadistica::quitarObservador);
+            observadas.clear();
+        } finally {
+            bloqueoColumnas.writeLock().unlock();
+        }
+    }
+
+    public int getFilas() {
+        return consultar(() -> filas);
+    }
+
+    public int getTorneos() {
+        return consultar(torneos::size);
+    }
+
+    public String getNombreTorneo(int numeroTorneo) {
+        return consultar(() -> torneos.get(numeroTorneo));
+    }
+
+    public int getTorneo(int fila) {
+        return consultar(() -> {
+            validarFila(fila);
+            return torneoFila[fila];
+        });
+    }
+
+    public String getNombreEquipo(int fila) {
+        return consultar(() -> {
+            validarFila(fila);
+            return equipoFila[fila];
+        });
+    }
+
+    /**
+     * Obtiene el valor de una columna en una fila.
+     *
+     * @param columna Columna a consultar.
+     * @param fila    Fila a consultar.
+     * @return Valor de la columna en la fila.
+     */
+    public int obtener(Columna columna, int fila) {
+        return consultar(() -> {
+            validarFila(fila);
+            return columnas[columna.ordinal()][fila];
+        });
+    }
+
+    /**
+     * Suma los valores de una columna en todas las filas.
+     *
+     * @param columna Columna a sumar.
+     * @return Suma de la columna.
+     */
+    public long sumar(Columna columna) {
+        return consultar(() -> sumarFilas(columna));
+    }
+
+    private long sumarFilas(Columna columna) {
+        var valores = columnas[columna.ordinal()];
+        long suma = 0;
+        for (int i = 0; i < filas; i++) {
+            suma += valores[i];
+        }
+        return suma;
+    }
+
+    /**
+     * Suma los valores de una columna en las filas de un torneo.
+     *
+     * @param columna      Columna a sumar.
+     * @param numeroTorneo Número del torneo en el almacén.
+     * @return Suma de la columna en el torneo.
+     */
+    public long sumar(Columna columna, int numeroTorneo) {
+        return consultar(() -> {
+            var valores = columnas[columna.ordinal()];
+            long suma = 0;
+            for (int i = 0; i < filas; i++) {
+                if (torneoFila[i] == numeroTorneo) {
+                    suma += valores[i];
+                }
+            }
+            return suma;
+        });
+    }
+
+    /**
+     * Calcula el promedio de una columna en todas las filas.
+     *
+     * @param columna Columna a promediar.
+     * @return Promedio de la columna, o 0 si no hay filas.
+     */
+    public double promediar(Columna columna) {
+        return consultar(() -> filas == 0 ? 0 : (double) sumarFilas(columna) / filas);
+    }
+
+    /**
+     * Cuenta las filas en las que el valor de una columna cumple una condición.
+     *
+     * @param columna   Columna a evaluar.
+     * @param condicion Condición sobre el valor de la columna.
+     * @return Cantidad de filas que cumplen la condición.
+     */
+    public int contar(Columna columna, IntPredicate condicion) {
+        return consultar(() -> contarFilas(columna, condicion));
+    }
+
+    private int contarFilas(Columna columna, IntPredicate condicion) {
+        var valores = columnas[columna.ordinal()];
+        int cantidad = 0;
+        for (int i = 0; i < filas; i++) {
+            if (condicion.test(valores[i])) {
+                cantidad++;
+            }
+        }
+        return cantidad;
+    }
+
+    /**
+     * Obtiene las filas en las que el valor de una columna cumple una condición.
+     *
+     * @param columna   Columna a evaluar.
+     * @param condicion Condición sobre el valor de la columna.
+     * @return Arreglo con las filas que cumplen la condición, en orden.
+     */
+    public int[] filtrar(Columna columna, IntPredicate condicion) {
+        return consultar(() -> {
+            var valores = columnas[columna.ordinal()];
+            var resultado = new int[contarFilas(columna, condicion)];
+            int cantidad = 0;
+            for (int i = 0; i < filas && cantidad < resultado.length; i++) {
+                if (condicion.test(valores[i])) {
+                    resultado[cantidad++] = i;
+                }
+            }
+            return resultado;
+        });
+    }
+
+    /**
+     * Ejecuta una consulta con el bloqueo de escritura de las columnas, de modo
+     * que ve las filas completas y todas las actualizaciones terminadas.
+     */
+    private <T> T consultar(Supplier<T> consulta) {
+        bloqueoColumnas.writeLock().lock();
+        try {
+            return consulta.get();
+        } finally {
+            bloqueoColumnas.writeLock().unlock();
+        }
+    }
+
+    private void validarFila(int fila) {
+        ASSERTION.assertion(fila >= 0 && fila < filas, "La fila no existe");
+    }
+
+    /**
+     * Guarda el almacén en un archivo proyectado en memoria: primero los nombres de
+     * los torneos y luego cada columna completa, seguida de los nombres de los
+     * equipos.
+     *
+     * @param archivo Archivo donde se guarda el almacén.
+     * @throws IOException Si no se puede escribir el archivo.
+     */
+    public void guardar(Path archivo) throws IOException {
+        ASSERTION.assertion(archivo != null, "El archivo es requerido");
+        bloqueoColumnas.writeLock().lock();
+        try {
+            guardarColumnas(archivo);
+        } finally {
+            bloqueoColumnas.writeLock().unlock();
+        }
+    }
+
+    private void guardarColumnas(Path archivo) throws IOException {
+        var nombresTorneos = codificar(torneos.toArray(String[]::new), torneos.size());
+        var nombresEquipos = codificar(equipoFila, filas);
+        long longitud = Integer.BYTES + Short.BYTES + 2L * Integer.BYTES + longitud(nombresTorneos)
+                + (long) (COLUMNAS.length + 1) * filas * Integer.BYTES + longitud(nombresEquipos);
+        try (var canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var datos = canal.map(FileChannel.MapMode.READ_WRITE, 0, longitud);
+            datos.putInt(MARCA).putShort(VERSION).putInt(torneos.size()).putInt(filas);
+            escribirTextos(datos, nombresTorneos);
+            escribirColumna(datos, torneoFila);
+            for (var columna : columnas) {
+                escribirColumna(datos, columna);
+            }
+            escribirTextos(datos, nombresEquipos);
+            datos.force();
+        }
+    }
+
+    /**
+     * Carga un almacén guardado. Las filas cargadas no están asociadas a ningún
+     * equipo, pero se pueden agregar torneos nuevos.
+     *
+     * @param archivo Archivo del almacén.
+     * @return Almacén con las filas guardadas.
+     * @throws IOException    Si no se puede leer el archivo.
+     * @throws AssertionError Si el archivo no es un almacén de estadísticas.
+     */
+    public static AlmacenEstadisticas cargar(Path archivo) throws IOException {
+        ASSERTION.assertion(archivo != null, "El archivo es requerido");
+        try (var canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            var datos = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            ASSERTION.assertion(datos.remaining() >= Integer.BYTES + Short.BYTES && datos.getInt() == MARCA,
+                    "El archivo no es un almacén de estadísticas");
+            ASSERTION.assertion(datos.getShort() == VERSION, "La versión del almacén no es compatible");
+            int cantidadTorneos = datos.getInt();
+            int filas = datos.getInt();
+
+            var almacen = new AlmacenEstadisticas();
+            almacen.asegurarCapacidad(filas);
+            almacen.torneos.addAll(Arrays.asList(leerTextos(datos, cantidadTorneos)));
+            leerColumna(datos, almacen.torneoFila, filas);
+            for (var columna : almacen.columnas) {
+                leerColumna(datos, columna, filas);
+            }
+            System.arraycopy(leerTextos(datos, filas), 0, almacen.equipoFila, 0, filas);
+            almacen.filas = filas;
+            return almacen;
+        }
+    }
+
+    private static byte[][] codificar(String[] textos, int cantidad) {
+        var codificados = new byte[cantidad][];
+        for (int i = 0; i < cantidad; i++) {
+            codificados[i] = textos[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return codificados;
+    }
+
+    private static long longitud(byte[][] textos) {
+        long longitud = 0;
+        for (var texto : textos) {
+            longitud += Integer.BYTES + texto.length;
+        }
+        return longitud;
+    }
+
+    private static void escribirTextos(ByteBuffer datos, byte[][] textos) {
+        for (var texto : textos) {
+            datos.putInt(texto.length).put(texto);
+        }
+    }
+
+    private void escribirColumna(ByteBuffer datos, int[] columna) {
+        datos.asIntBuffer().put(columna, 0, filas);
+        datos.position(datos.position() + filas * Integer.BYTES);
+    }
+
+    private static String[] leerTextos(ByteBuffer datos, int cantidad) {
+        var textos = new String[cantidad];
+        var bytes = new byte[64];
+        for (int i = 0; i < cantidad; i++) {
+            int longitud = datos.getInt();
+            if (longitud > bytes.length) {
+                bytes = new byte[Math.max(longitud, bytes.length * 2)];
+            }
+            datos.get(bytes, 0, longitud);
+            textos[i] = new String(bytes, 0, longitud, StandardCharsets.UTF_8);
+        }
+        return textos;
+    }
+
+    private static void leerColumna(ByteBuffer datos, int[] columna, int filas) {
+        datos.asIntBuffer().get(columna, 0, filas);
+        datos.position(datos.position() + filas * Integer.BYTES);
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * Clase que asigna jueces a los enfrentamientos pendientes de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * Los enfrentamientos sin juez se recorren en orden de inicio. Los jueces que
+ * están ocupados se guardan en un montículo ordenado por la hora en que quedan
+ * libres, y los libres en otro ordenado por la cantidad de enfrentamientos que
+ * ya tienen, de modo que cada enfrentamiento recibe al juez libre con menos
+ * carga. Cada juez lleva además un índice de sus reservas por hora de inicio,
+ * con el que se descartan en tiempo logarítmico los jueces que ya tenían otro
+ * enfrentamiento asignado a la misma hora.
+ */
+public class AsignadorJueces {
+    private static final long MINUTOS_DIA = 24 * 60;
+
+    private final Torneo torneo;
+    private final long duracionMinutos;
+
+    /**
+     * Crea un asignador de jueces para un torneo.
+     *
+     * @param torneo                  Torneo cuyos enfrentamientos se asignan.
+     * @param duracionEnfrentamiento Tiempo que un juez queda ocupado con cada
+     *                                enfrentamiento.
+     */
+    public AsignadorJueces(Torneo torneo, Duration duracionEnfrentamiento) {
+        ASSERTION.assertion(torneo != null, "El torneo es requerido");
+        ASSERTION.assertion(duracionEnfrentamiento != null && duracionEnfrentamiento.toMinutes() > 0,
+                "La duración del enfrentamiento debe ser de al menos un minuto");
+        this.torneo = torneo;
+        this.duracionMinutos = duracionEnfrentamiento.toMinutes();
+    }
+
+    /**
+     * Asigna un juez del torneo a cada enfrentamiento pendiente que aún no tiene
+     * jueces. Ningún juez queda con dos enfrentamientos que se crucen en el
+     * tiempo, teniendo en cuenta también los que ya tenía asignados.
+     *
+     * @return Lista con los enfrentamientos que no se pudieron asignar porque no
+     *         había jueces libres a esa hora, en orden de inicio.
+     */
+    public List<Enfrentamiento> asignar() {
+        var cargas = new ArrayList<CargaJuez>();
+        var cargasPorLicencia = new HashMap<String, CargaJuez>();
+        for (var juez : torneo.getJueces()) {
+            var carga = new CargaJuez(juez, cargas.size());
+            cargas.add(carga);
+            cargasPorLicencia.put(juez.getLicenciaJuez(), carga);
+        }
+
+        var porAsignar = new ArrayList<Enfrentamiento>();
+        for (var enfrentamiento : torneo.getEnfrentamientos()) {
+            if (enfrentamiento.getEstadoEnfrentamiento() == EstadoEnfrentamiento.FINALIZADO
+                    || enfrentamiento.getFecha() == null || enfrentamiento.getHora() == null) {
+                continue;
+            }
+            if (enfrentamiento.getJueces().isEmpty()) {
+                porAsignar.add(enfrentamiento);
+            } else {
+                reservarJuecesAsignados(enfrentamiento, cargasPorLicencia);
+            }
+        }
+        porAsignar.sort(Comparator.comparingLong(AsignadorJueces::calcularInicio));
+
+        var libres = new PriorityQueue<CargaJuez>(
+                Comparator.comparingInt((CargaJuez carga) -> carga.enfrentamientos).thenComparingInt(carga -> carga.orden));
+        var ocupados = new PriorityQueue<CargaJuez>(Comparator.comparingLong((CargaJuez carga) -> carga.libreDesde));
+        libres.addAll(cargas);
+        var sinAsignar = new ArrayList<Enfrentamiento>();
+        var descartados = new ArrayList<CargaJuez>();
+        for (var enfrentamiento : porAsignar) {
+            long inicio = calcularInicio(enfrentamiento);
+            long fin = inicio + duracionMinutos;
+            while (!ocupados.isEmpty() && ocupados.peek().libreDesde <= inicio) {
+                libres.add(ocupados.poll());
+            }
+            CargaJuez elegido = null;
+            while (elegido == null && !libres.isEmpty()) {
+                var candidato = libres.poll();
+                if (candidato.estaLibre(inicio, fin)) {
+                    elegido = candidato;
+                } else {
+                    descartados.add(candidato);
+                }
+            }
+            libres.addAll(descartados);
+            descartados.clear();
+            if (elegido == null) {
+                sinAsignar.add(enfrentamiento);
+                continue;
+            }
+            enfrentamiento.registrarJuez(elegido.juez);
+            elegido.reservar(inicio, fin);
+            elegido.libreDesde = fin;
+            ocupados.add(elegido);
+        }
+        return sinAsignar;
+    }
+
+    /**
+     * Registra en el índice de cada juez del torneo los enfrentamientos que ya
+     * tenía asignados.
+     */
+    private void reservarJuecesAsignados(Enfrentamiento enfrentamiento, Map<String, CargaJuez> cargasPorLicencia) {
+        long inicio = calcularInicio(enfrentamiento);
+        for (var juez : enfrentamiento.getJueces()) {
+            var carga = cargasPorLicencia.get(juez.getLicenciaJuez());
+            if (carga != null) {
+                carga.reservar(inicio, inicio + duracionMinutos);
+            }
+        }
+    }
+
+    /**
+     * Calcula el minuto en que empieza un enfrentamiento, contado desde el
+     * 1970-01-01.
+     */
+    private static long calcularInicio(Enfrentamiento enfrentamiento) {
+        return enfrentamiento.getFecha().toEpochDay() * MINUTOS_DIA + enfrentamiento.getHora().toSecondOfDay() / 60;
+    }
+
+    /**
+     * Carga de trabajo y reservas de un juez durante la asignación.
+     */
+    private static final class CargaJuez {
+        private final Juez juez;
+        private final int orden;
+        private final NavigableMap<Long, Long> reservas;
+        private int enfrentamientos;
+        private long libreDesde;
+
+        private CargaJuez(Juez juez, int orden) {
+            this.juez = juez;
+            this.orden = orden;
+            this.reservas = new TreeMap<>();
+            this.libreDesde = Long.MIN_VALUE;
+        }
+
+        /**
+         * Indica si el juez no tiene reservas que se crucen con el intervalo dado.
+         * Basta revisar la última reserva que empieza antes del fin del intervalo.
+         */
+        private boolean estaLibre(long inicio, long fin) {
+            var anterior = reservas.lowerEntry(fin);
+            return anterior == null || anterior.getValue() <= inicio;
+        }
+
+        /**
+         * Agrega una reserva uniéndola con las que se cruzan con ella, para que
+         * las reservas del índice nunca se crucen entre sí.
+         */
+        private void reservar(long inicio, long fin) {
+            var anterior = reservas.floorEntry(inicio);
+            if (anterior != null && anterior.getValue() >= inicio) {
+                inicio = anterior.getKey();
+                fin = Math.max(fin, anterior.getValue());
+            }
+            for (var siguiente = reservas.ceilingEntry(inicio); siguiente != null
+                    && siguiente.getKey() <= fin; siguiente = reservas.ceilingEntry(inicio)) {
+                fin = Math.max(fin, siguiente.getValue());
+                reservas.remove(siguiente.getKey());
+            }
+            reservas.put(inicio, fin);
+            enfrentamientos++;
+        }
+    }
+}
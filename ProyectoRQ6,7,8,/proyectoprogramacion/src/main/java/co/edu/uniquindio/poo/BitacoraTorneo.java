@@ -0,0 +1,809 @@
+/**
+ * Clase que guarda en un archivo la bitácora de los cambios de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * La bitácora es un archivo binario al que solo se agregan registros, uno por
+ * cada cambio del torneo: inscripción de equipos, jugadores y jueces, registro
+ * de enfrentamientos y de sus jueces, puntos, reprogramaciones, cambios de
+ * estado y finalizaciones. Cada registro lleva su longitud y una suma de verificación,
+ * de modo que si el proceso se detiene a mitad de una escritura el registro
+ * incompleto se descarta al volver a abrir la bitácora.
+ *
+ * Los registros se acumulan en memoria y se escriben por grupos: el primer hilo
+ * que necesita que sus registros queden en disco escribe y sincroniza todos los
+ * pendientes, incluidos los de los demás hilos, que solo esperan a que termine.
+ * Si la escritura falla, el grupo vuelve a quedar pendiente para la siguiente
+ * escritura y todos los hilos que esperaban registros de ese grupo reciben el
+ * error.
+ *
+ * Los enfrentamientos se identifican por el orden en que fueron registrados en
+ * el torneo. Al reconstruir el torneo no se validan las fechas de inscripción ni
+ * la fecha actual, pues los cambios ya fueron validados cuando se hicieron.
+ *
+ * Para no reproducir toda la bitácora, se puede guardar una instantánea del
+ * torneo junto con la posición de la bitácora en ese momento. Al recuperar el
+ * torneo se carga la instantánea y solo se aplican los registros posteriores.
+ */
+public class BitacoraTorneo implements Closeable {
+    private static final int MARCA = 0x42544f52;
+    private static final short VERSION = 1;
+    private static final int LONGITUD_ENCABEZADO = 6;
+    private static final int LIMITE_PENDIENTE = 64 * 1024;
+
+    private static final byte EQUIPO = 1;
+    private static final byte JUGADOR = 2;
+    private static final byte JUEZ = 3;
+    private static final byte ENFRENTAMIENTO = 4;
+    private static final byte JUEZ_ENFRENTAMIENTO = 5;
+    private static final byte PUNTOS = 6;
+    private static final byte FECHA_HORA = 7;
+    private static final byte FINALIZADO = 8;
+    private static final byte ESTADO = 9;
+
+    private final Torneo torneo;
+    private final FileChannel canal;
+    private final boolean sincronizarCadaCambio;
+    private final Map<Enfrentamiento, Integer> indicesEnfrentamiento;
+    private final BufferRegistro registro;
+    private final DataOutputStream salidaRegistro;
+    private final BufferRegistro pendiente;
+    private final DataOutputStream salidaPendiente;
+    private final CRC32 verificacion;
+    private final ObservadorBitacora observador;
+    private long registros;
+    private long registrosEscritos;
+    private boolean escribiendo;
+    private long fallosEscritura;
+    private long fallidosHasta;
+    private IOException ultimoFallo;
+    private boolean cerrada;
+
+    private BitacoraTorneo(Torneo torneo, FileChannel canal, boolean sincronizarCadaCambio, long registros) {
+        this.torneo = torneo;
+        this.canal = canal;
+        this.sincronizarCadaCambio = sincronizarCadaCambio;
+        this.indicesEnfrentamiento = new IdentityHashMap<>();
+        this.registro = new BufferRegistro();
+        this.salidaRegistro = new DataOutputStream(registro);
+        this.pendiente = new BufferRegistro();
+        this.salidaPendiente = new DataOutputStream(pendiente);
+        this.verificacion = new CRC32();
+        this.observador = new ObservadorBitacora();
+        this.registros = registros;
+        this.registrosEscritos = registros;
+        torneo.getEnfrentamientos()
+                .forEach(enfrentamiento -> indicesEnfrentamiento.put(enfrentamiento, indicesEnfrentamiento.size()));
+    }
+
+    /**
+     * Posición de la bitácora después de un registro.
+     *
+     * @param registros Cantidad de registros anteriores a la posición.
+     * @param bytes     Longitud en bytes de la bitácora hasta la posición.
+     */
+    public record Posicion(long registros, long bytes) {
+    }
+
+    /**
+     * Abre la bitácora de un torneo. Si el archivo ya existe, primero reconstruye
+     * el torneo aplicando en orden los cambios guardados. A partir de ese momento
+     * cada cambio del torneo se agrega a la bitácora.
+     *
+     * @param archivo               Archivo de la bitácora.
+     * @param torneo                Torneo sin equipos, jueces ni
+     *                              enfrentamientos, con los mismos datos con los
+     *                              que se creó el torneo guardado.
+     * @param sincronizarCadaCambio Indica si cada cambio debe quedar en disco
+     *                              antes de continuar. Si no, los cambios se
+     *                              escriben por grupos y se pueden perder los
+     *                              últimos si el proceso se detiene antes de
+     *                              sincronizar.
+     * @return La bitácora abierta.
+     * @throws IOException    Si no se puede leer o escribir el archivo.
+     * @throws AssertionError Si el torneo no está vacío o el archivo no es una
+     *                        bitácora.
+     */
+    public static BitacoraTorneo abrir(Path archivo, Torneo torneo, boolean sincronizarCadaCambio)
+            throws IOException {
+        ASSERTION.assertion(torneo != null, "El torneo es requerido");
+        ASSERTION.assertion(torneo.getEquipos().isEmpty() && torneo.getJueces().isEmpty()
+                && torneo.getEnfrentamientos().isEmpty(), "El torneo debe estar vacío");
+        return abrirDesde(archivo, torneo, null, sincronizarCadaCambio);
+    }
+
+    /**
+     * Abre la bitácora de un torneo restaurado desde una instantánea, aplicando
+     * solo los cambios guardados después de la posición de la instantánea. A
+     * partir de ese momento cada cambio del torneo se agrega a la bitácora.
+     *
+     * @param archivo               Archivo de la bitácora.
+     * @param torneo                Torneo en el estado que tenía en la posición
+     *                              dada, con sus enfrentamientos en el orden de la
+     *                              bitácora.
+     * @param desde                 Posición de la bitácora guardada con la
+     *                              instantánea.
+     * @param sincronizarCadaCambio Indica si cada cambio debe quedar en disco
+     *                              antes de continuar.
+     * @return La bitácora abierta.
+     * @throws IOException    Si no se puede leer o escribir el archivo.
+     * @throws AssertionError Si el archivo no es una bitácora o es más corto que
+     *                        la posición dada.
+     */
+    public static BitacoraTorneo abrir(Path archivo, Torneo torneo, Posicion desde, boolean sincronizarCadaCambio)
+            throws IOException {
+        ASSERTION.assertion(torneo != null, "El torneo es requerido");
+        ASSERTION.assertion(desde != null, "La posición de la bitácora es requerida");
+        return abrirDesde(archivo, torneo, desde, sincronizarCadaCambio);
+    }
+
+    /**
+     * Abre la bitácora y aplica sus cambios desde la posición dada, o desde el
+     * inicio si no se da una posición.
+     */
+    private static BitacoraTorneo abrirDesde(Path archivo, Torneo torneo, Posicion desde,
+            boolean sincronizarCadaCambio) throws IOException {
+        ASSERTION.assertion(archivo != null, "El archivo es requerido");
+
+        var canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long registros = 0;
+            if (desde != null) {
+                ASSERTION.assertion(desde.bytes() >= LONGITUD_ENCABEZADO && desde.bytes() <= canal.size(),
+                        "La bitácora no llega hasta la posición de la instantánea");
+                var reproduccion = new Reproduccion(torneo);
+                long longitudValida = reproduccion.reproducir(Files.newInputStream(archivo), desde.bytes());
+                registros = desde.registros() + reproduccion.registros;
+                canal.truncate(longitudValida);
+            } else if (canal.size() == 0) {
+                var encabezado = ByteBuffer.allocate(LONGITUD_ENCABEZADO).putInt(MARCA).putShort(VERSION).flip();
+                while (encabezado.hasRemaining()) {
+                    canal.write(encabezado);
+                }
+                canal.force(true);
+            } else {
+                var reproduccion = new Reproduccion(torneo);
+                long longitudValida = reproduccion.reproducir(Files.newInputStream(archivo), LONGITUD_ENCABEZADO);
+                registros = reproduccion.registros;
+                canal.truncate(longitudValida);
+            }
+            canal.position(canal.size());
+            var bitacora = new BitacoraTorneo(torneo, canal, sincronizarCadaCambio, registros);
+            torneo.agregarObservador(bitacora.observador);
+            return bitacora;
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Recupera un torneo cargando su instantánea y aplicando los cambios que la
+     * bitácora guardó después de ella.
+     *
+     * @param instantanea           Archivo de la instantánea, guardada con
+     *                              {@link #guardarInstantanea(Path)}.
+     * @param archivo               Archivo de la bitácora.
+     * @param reloj                 Reloj del torneo y de sus enfrentamientos.
+     * @param sincronizarCadaCambio Indica si cada cambio debe quedar en disco
+     *                              antes de continuar.
+     * @return La bitácora abierta sobre el torneo recuperado.
+     * @throws IOException    Si no se puede leer o escribir alguno de los
+     *                        archivos.
+     * @throws AssertionError Si la instantánea no tiene la posición de la
+     *                        bitácora o los archivos no son válidos.
+     */
+    public static BitacoraTorneo recuperar(Path instantanea, Path archivo, Clock reloj,
+            boolean sincronizarCadaCambio) throws IOException {
+        var contenido = InstantaneaTorneo.cargarContenido(instantanea, reloj);
+        ASSERTION.assertion(contenido.posicionBitacora() != null,
+                "La instantánea no tiene la posición de la bitácora");
+        return abrir(archivo, contenido.torneo(), contenido.posicionBitacora(), sincronizarCadaCambio);
+    }
+
+    public Torneo getTorneo() {
+        return torneo;
+    }
+
+    /**
+     * Obtiene la cantidad de cambios guardados en la bitácora, incluidos los que
+     * aún no se han escrito en disco.
+     *
+     * @return Cantidad de cambios de la bitácora.
+     */
+    public synchronized long getRegistros() {
+        return registros;
+    }
+
+    /**
+     * Escribe en disco todos los cambios pendientes.
+     */
+    public void sincronizar() {
+        long hasta;
+        synchronized (this) {
+            hasta = registros;
+        }
+        esperarEscritura(hasta);
+    }
+
+    /**
+     * Escribe los cambios pendientes y guarda una instantánea del torneo con la
+     * posición de la bitácora, de modo que al recuperar el torneo solo se aplican
+     * los cambios posteriores. Los enfrentamientos se guardan en el orden de la
+     * bitácora. Mientras se guarda se bloquean los cambios del torneo, de modo
+     * que la instantánea incluye exactamente los cambios anteriores a la
+     * posición.
+     *
+     * @param instantanea Archivo de la instantánea.
+     * @throws IOException Si no se puede escribir la bitácora o la instantánea.
+     */
+    public void guardarInstantanea(Path instantanea) throws IOException {
+        ASSERTION.assertion(instantanea != null, "El archivo es requerido");
+        torneo.ejecutarSinCambios(() -> {
+            try {
+                sincronizar();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            synchronized (this) {
+                ASSERTION.assertion(!cerrada, "La bitácora está cerrada");
+                var enfrentamientos = new Enfrentamiento[indicesEnfrentamiento.size()];
+                indicesEnfrentamiento.forEach((enfrentamiento, indice) -> enfrentamientos[indice] = enfrentamiento);
+                InstantaneaTorneo.guardar(torneo, instantanea, List.of(enfrentamientos),
+                        new Posicion(registros, canal.position()));
+            }
+        });
+    }
+
+    /**
+     * Escribe los cambios pendientes, deja de registrar los cambios del torneo y
+     * cierra el archivo.
+     *
+     * @throws IOException Si no se puede escribir o cerrar el archivo.
+     */
+    @Override
+    public void close() throws IOException {
+        torneo.quitarObservador(observador);
+        try {
+            sincronizar();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            synchronized (this) {
+                cerrada = true;
+            }
+            canal.close();
+        }
+    }
+
+    /**
+     * Agrega un registro a los cambios pendientes y, según el modo de la
+     * bitácora, espera a que quede en disco.
+     */
+    private void agregar(byte tipo, Escritura escritura) {
+        agregar(tipo, escritura, null);
+    }
+
+    /**
+     * Agrega un registro a los cambios pendientes y, si se da un enfrentamiento
+     * nuevo, le asigna su índice en la misma sección crítica, de modo que los
+     * índices quedan en el mismo orden que los registros de la bitácora.
+     */
+    private void agregar(byte tipo, Escritura escritura, Enfrentamiento enfrentamientoNuevo) {
+        long numero;
+        synchronized (this) {
+            ASSERTION.assertion(!cerrada, "La bitácora está cerrada");
+            try {
+                registro.reset();
+                salidaRegistro.writeByte(tipo);
+                escritura.escribir(salidaRegistro);
+                verificacion.reset();
+                verificacion.update(registro.datos(), 0, registro.size());
+                salidaPendiente.writeInt(registro.size());
+                salidaPendiente.write(registro.datos(), 0, registro.size());
+                salidaPendiente.writeInt((int) verificacion.getValue());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (enfrentamientoNuevo != null) {
+                indicesEnfrentamiento.put(enfrentamientoNuevo, indicesEnfrentamiento.size());
+            }
+            numero = ++registros;
+            if (!sincronizarCadaCambio && pendiente.size() < LIMITE_PENDIENTE) {
+                return;
+            }
+        }
+        esperarEscritura(numero);
+    }
+
+    /**
+     * Espera a que el registro con el número dado esté en disco. Si ningún otro
+     * hilo está escribiendo, este hilo escribe y sincroniza en una sola operación
+     * todos los registros pendientes.
+     *
+     * @throws UncheckedIOException Si falla la escritura del grupo que incluía el
+     *                              registro, la haya hecho este hilo u otro.
+     */
+    private void esperarEscritura(long numero) {
+        byte[] lote;
+        long hasta;
+        synchronized (this) {
+            long fallosAlEsperar = fallosEscritura;
+            while (escribiendo && registrosEscritos < numero) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Se interrumpió la escritura de la bitácora", e);
+                }
+                if (fallosEscritura != fallosAlEsperar && fallidosHasta >= numero) {
+                    throw new UncheckedIOException(ultimoFallo);
+                }
+            }
+            if (registrosEscritos >= numero) {
+                return;
+            }
+            escribiendo = true;
+            lote = pendiente.toByteArray();
+            hasta = registros;
+            pendiente.reset();
+        }
+        IOException fallo = null;
+        long posicion = -1;
+        try {
+            posicion = canal.position();
+            var buffer = ByteBuffer.wrap(lote);
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            canal.force(false);
+        } catch (IOException e) {
+            fallo = e;
+            if (posicion >= 0) {
+                try {
+                    canal.position(posicion);
+                } catch (IOException suprimida) {
+                    fallo.addSuppressed(suprimida);
+                }
+            }
+        }
+        synchronized (this) {
+            escribiendo = false;
+            if (fallo == null) {
+                registrosEscritos = hasta;
+            } else {
+                // El grupo vuelve al inicio de los pendientes y la siguiente escritura lo
+                // repite desde la posición donde empezaba, sobre lo que alcanzó a escribir
+                restaurarPendiente(lote);
+                fallosEscritura++;
+                fallidosHasta = hasta;
+                ultimoFallo = fallo;
+            }
+            notifyAll();
+        }
+        if (fallo != null) {
+            throw new UncheckedIOException(fallo);
+        }
+    }
+
+    /**
+     * Pone un lote que no se pudo escribir antes de los registros que quedaron
+     * pendientes mientras se escribía.
+     */
+    private void restaurarPendiente(byte[] lote) {
+        var posteriores = pendiente.toByteArray();
+        pendiente.reset();
+        pendiente.write(lote, 0, lote.length);
+        pendiente.write(posteriores, 0, posteriores.length);
+    }
+
+    /**
+     * Obtiene el índice de un enfrentamiento. Se llama dentro de la sección
+     * crítica en que se agregan los registros.
+     */
+    private int indice(Enfrentamiento enfrentamiento) {
+        var indice = indicesEnfrentamiento.get(enfrentamiento);
+        ASSERTION.assertion(indice != null, "El enfrentamiento no esta registrado en la bitácora");
+        return indice;
+    }
+
+    private static void escribirPersona(DataOutput salida, Persona persona) throws IOException {
+        salida.writeUTF(persona.getNombre());
+        salida.writeUTF(persona.getApellido());
+        salida.writeUTF(persona.getEmail());
+        salida.writeUTF(persona.getCelular());
+    }
+
+    private static void escribirJugador(DataOutput salida, Jugador jugador) throws IOException {
+        escribirPersona(salida, jugador);
+        salida.writeLong(jugador.getFechaNacimiento().toEpochDay());
+        salida.writeByte(jugador.getTipoGenero() == null ? -1 : jugador.getTipoGenero().ordinal());
+    }
+
+    private static void escribirJuez(DataOutput salida, Juez juez) throws IOException {
+        escribirPersona(salida, juez);
+        salida.writeUTF(juez.getLicenciaJuez());
+    }
+
+    private static void escribirEquipo(DataOutput salida, Equipo equipo) throws IOException {
+        salida.writeUTF(equipo.getNombre());
+        escribirPersona(salida, equipo.getRepresentante());
+        var estadistica = equipo.getEstadistica();
+        salida.writeBoolean(estadistica != null);
+        if (estadistica != null) {
+            salida.writeInt(estadistica.getGanado());
+            salida.writeInt(estadistica.getEmpatado());
+            salida.writeInt(estadistica.getPerdido());
+        }
+        var jugadores = List.copyOf(equipo.getJugadores());
+        salida.writeInt(jugadores.size());
+        for (var jugador : jugadores) {
+            escribirJugador(salida, jugador);
+        }
+    }
+
+    /**
+     * Escribe un equipo de un enfrentamiento: solo su nombre si está inscrito en
+     * el torneo, o todos sus datos si no lo está.
+     */
+    private void escribirReferenciaEquipo(DataOutput salida, Equipo equipo) throws IOException {
+        boolean inscrito = torneo.buscarEquipoPorNombre(equipo.getNombre()).orElse(null) == equipo;
+        salida.writeBoolean(inscrito);
+        if (inscrito) {
+            salida.writeUTF(equipo.getNombre());
+        } else {
+            escribirEquipo(salida, equipo);
+        }
+    }
+
+    private static void escribirFechaHora(DataOutput salida, LocalDate fecha, LocalTime hora) throws IOException {
+        salida.writeLong(fecha == null ? Long.MIN_VALUE : fecha.toEpochDay());
+        salida.writeLong(hora == null ? -1 : hora.toNanoOfDay());
+    }
+
+    private static void escribirTextoOpcional(DataOutput salida, String texto) throws IOException {
+        salida.writeBoolean(texto != null);
+        if (texto != null) {
+            salida.writeUTF(texto);
+        }
+    }
+
+    /**
+     * Escritura del contenido de un registro.
+     */
+    private interface Escritura {
+        void escribir(DataOutput salida) throws IOException;
+    }
+
+    /**
+     * Buffer en memoria que permite leer y reutilizar su arreglo sin copiarlo.
+     */
+    private static final class BufferRegistro extends ByteArrayOutputStream {
+
+        private byte[] datos() {
+            return buf;
+        }
+    }
+
+    /**
+     * Agrega a la bitácora cada cambio del torneo.
+     */
+    private class ObservadorBitacora implements Torneo.Observador {
+
+        @Override
+        public void equipoRegistrado(Equipo equipo) {
+            agregar(EQUIPO, salida -> escribirEquipo(salida, equipo));
+        }
+
+        @Override
+        public void jugadorRegistrado(Equipo equipo, Jugador jugador) {
+            agregar(JUGADOR, salida -> {
+                salida.writeUTF(equipo.getNombre());
+                escribirJugador(salida, jugador);
+            });
+        }
+
+        @Override
+        public void juezRegistrado(Juez juez) {
+            agregar(JUEZ, salida -> escribirJuez(salida, juez));
+        }
+
+        @Override
+        public void enfrentamientoRegistrado(Enfrentamiento enfrentamiento) {
+            agregar(ENFRENTAMIENTO, salida -> {
+                escribirFechaHora(salida, enfrentamiento.getFecha(), enfrentamiento.getHora());
+                var lugar = enfrentamiento.getLugar();
+                salida.writeBoolean(lugar != null);
+                if (lugar != null) {
+                    escribirTextoOpcional(salida, lugar.getNombre());
+                    escribirTextoOpcional(salida, lugar.getUbicacion());
+                }
+                escribirReferenciaEquipo(salida, enfrentamiento.getVisitante());
+                escribirReferenciaEquipo(salida, enfrentamiento.getLocal());
+                var jueces = List.copyOf(enfrentamiento.getJueces());
+                salida.writeInt(jueces.size());
+                for (var juez : jueces) {
+                    escribirJuez(salida, juez);
+                }
+            }, enfrentamiento);
+        }
+
+        @Override
+        public void juezRegistrado(Enfrentamiento enfrentamiento, Juez juez) {
+            agregar(JUEZ_ENFRENTAMIENTO, salida -> {
+                salida.writeInt(indice(enfrentamiento));
+                escribirJuez(salida, juez);
+            });
+        }
+
+        @Override
+        public void puntosActualizados(Enfrentamiento enfrentamiento) {
+            agregar(PUNTOS, salida -> {
+                salida.writeInt(indice(enfrentamiento));
+                salida.writeInt(enfrentamiento.getPuntosVisitanteEnfrentamiento());
+                salida.writeInt(enfrentamiento.getPuntosLocalEnfrentamiento());
+            });
+        }
+
+        @Override
+        public void fechaHoraActualizada(Enfrentamiento enfrentamiento) {
+            agregar(FECHA_HORA, salida -> {
+                salida.writeInt(indice(enfrentamiento));
+                escribirFechaHora(salida, enfrentamiento.getFecha(), enfrentamiento.getHora());
+                var estado = enfrentamiento.getEstadoEnfrentamiento();
+                salida.writeByte(estado == null ? -1 : estado.ordinal());
+            });
+        }
+
+        @Override
+        public void estadoActualizado(Enfrentamiento enfrentamiento) {
+            agregar(ESTADO, salida -> {
+                salida.writeInt(indice(enfrentamiento));
+                var estado = enfrentamiento.getEstadoEnfrentamiento();
+                salida.writeByte(estado == null ? -1 : estado.ordinal());
+            });
+        }
+
+        @Override
+        public void enfrentamientoFinalizado(Enfrentamiento enfrentamiento) {
+            agregar(FINALIZADO, salida -> salida.writeInt(indice(enfrentamiento)));
+        }
+    }
+
+    /**
+     * Reconstruye un torneo aplicando en orden los registros de una bitácora.
+     */
+    private static final class Reproduccion {
+        private static final TipoGenero[] GENEROS = TipoGenero.values();
+        private static final EstadoEnfrentamiento[] ESTADOS = EstadoEnfrentamiento.values();
+
+        private final Torneo torneo;
+        private final List<Enfrentamiento> enfrentamientos;
+        private final LectorRegistro lector;
+        private final DataInputStream entradaRegistro;
+        private final CRC32 verificacion;
+        private long registros;
+
+        private Reproduccion(Torneo torneo) {
+            this.torneo = torneo;
+            this.enfrentamientos = new ArrayList<>(torneo.getEnfrentamientos());
+            this.lector = new LectorRegistro();
+            this.entradaRegistro = new DataInputStream(lector);
+            this.verificacion = new CRC32();
+        }
+
+        /**
+         * Aplica los registros completos de la bitácora a partir de una posición.
+         *
+         * @param desde Posición en bytes del primer registro que se aplica.
+         * @return Longitud en bytes de la parte válida de la bitácora.
+         */
+        private long reproducir(InputStream archivo, long desde) throws IOException {
+            try (var entrada = new DataInputStream(new BufferedInputStream(archivo, 1 << 16))) {
+                ASSERTION.assertion(entrada.readInt() == MARCA, "El archivo no es una bitácora de torneo");
+                ASSERTION.assertion(entrada.readShort() == VERSION, "La versión de la bitácora no es compatible");
+                entrada.skipNBytes(desde - LONGITUD_ENCABEZADO);
+                long longitudValida = desde;
+                byte[] datos = new byte[256];
+                while (true) {
+                    int longitud;
+                    try {
+                        longitud = entrada.readInt();
+                        if (longitud <= 0) {
+                            return longitudValida;
+                        }
+                        if (longitud > datos.length) {
+                            datos = new byte[Math.max(longitud, datos.length * 2)];
+                        }
+                        entrada.readFully(datos, 0, longitud);
+                        verificacion.reset();
+                        verificacion.update(datos, 0, longitud);
+                        if (entrada.readInt() != (int) verificacion.getValue()) {
+                            return longitudValida;
+                        }
+                    } catch (EOFException e) {
+                        // El último registro quedó incompleto
+                        return longitudValida;
+                    }
+                    lector.reiniciar(datos, longitud);
+                    aplicar(entradaRegistro);
+                    registros++;
+                    longitudValida += Integer.BYTES + longitud + Integer.BYTES;
+                }
+            }
+        }
+
+        private void aplicar(DataInput entrada) throws IOException {
+            byte tipo = entrada.readByte();
+            switch (tipo) {
+                case EQUIPO -> torneo.inscribirEquipo(leerEquipo(entrada));
+                case JUGADOR -> {
+                    var nombre = entrada.readUTF();
+                    var equipo = torneo.buscarEquipoPorNombre(nombre).orElse(null);
+                    ASSERTION.assertion(equipo != null, "El equipo " + nombre + " no esta registrado");
+                    equipo.registrarJugador(leerJugador(entrada));
+                }
+                case JUEZ -> torneo.registrarJuez(leerJuez(entrada));
+                case ENFRENTAMIENTO -> {
+                    var fecha = leerFecha(entrada);
+                    var hora = leerHora(entrada);
+                    Lugar lugar = null;
+                    if (entrada.readBoolean()) {
+                        lugar = new Lugar(leerTextoOpcional(entrada), leerTextoOpcional(entrada));
+                    }
+                    var visitante = leerReferenciaEquipo(entrada);
+                    var local = leerReferenciaEquipo(entrada);
+                    var enfrentamiento = new Enfrentamiento(fecha, hora, lugar, visitante, local, torneo.getReloj());
+                    int jueces = entrada.readInt();
+                    for (int i = 0; i < jueces; i++) {
+                        enfrentamiento.registrarJuez(leerJuezEnfrentamiento(entrada));
+                    }
+                    torneo.registrarEnfrentamiento(enfrentamiento);
+                    enfrentamientos.add(enfrentamiento);
+                }
+                case JUEZ_ENFRENTAMIENTO -> {
+                    var enfrentamiento = leerEnfrentamiento(entrada);
+                    enfrentamiento.registrarJuez(leerJuezEnfrentamiento(entrada));
+                }
+                case PUNTOS -> leerEnfrentamiento(entrada)
+                        .setPuntosVisitanteLocalEnfrentamiento(entrada.readInt(), entrada.readInt());
+                case FECHA_HORA -> {
+                    var enfrentamiento = leerEnfrentamiento(entrada);
+                    var fecha = leerFecha(entrada);
+                    var hora = leerHora(entrada);
+                    byte estado = entrada.readByte();
+                    enfrentamiento.reprogramar(fecha, hora, estado < 0 ? null : ESTADOS[estado]);
+                }
+                case FINALIZADO -> leerEnfrentamiento(entrada).finalizar();
+                case ESTADO -> {
+                    var enfrentamiento = leerEnfrentamiento(entrada);
+                    byte estado = entrada.readByte();
+                    enfrentamiento.cambiarEstado(estado < 0 ? null : ESTADOS[estado]);
+                }
+                default -> ASSERTION.assertion(false, "Tipo de registro desconocido: " + tipo);
+            }
+        }
+
+        private Enfrentamiento leerEnfrentamiento(DataInput entrada) throws IOException {
+            int indice = entrada.readInt();
+            ASSERTION.assertion(indice >= 0 && indice < enfrentamientos.size(), "El enfrentamiento no existe");
+            return enfrentamientos.get(indice);
+        }
+
+        private Equipo leerReferenciaEquipo(DataInput entrada) throws IOException {
+            if (!entrada.readBoolean()) {
+                return leerEquipo(entrada);
+            }
+            var nombre = entrada.readUTF();
+            var equipo = torneo.buscarEquipoPorNombre(nombre).orElse(null);
+            ASSERTION.assertion(equipo != null, "El equipo " + nombre + " no esta registrado");
+            return equipo;
+        }
+
+        /**
+         * Lee un juez de un enfrentamiento, usando el juez del torneo con la misma
+         * licencia si existe.
+         */
+        private Juez leerJuezEnfrentamiento(DataInput entrada) throws IOException {
+            var juez = leerJuez(entrada);
+            return torneo.buscarJuezPorLicencia(juez.getLicenciaJuez()).orElse(juez);
+        }
+
+        private static Equipo leerEquipo(DataInput entrada) throws IOException {
+            var nombre = entrada.readUTF();
+            var representante = new Persona(entrada.readUTF(), entrada.readUTF(), entrada.readUTF(),
+                    entrada.readUTF());
+            Estadistica estadistica = null;
+            if (entrada.readBoolean()) {
+                estadistica = new Estadistica(entrada.readInt(), entrada.readInt(), entrada.readInt());
+            }
+            var equipo = new Equipo(nombre, representante, estadistica);
+            int jugadores = entrada.readInt();
+            for (int i = 0; i < jugadores; i++) {
+                equipo.registrarJugador(leerJugador(entrada));
+            }
+            return equipo;
+        }
+
+        private static Jugador leerJugador(DataInput entrada) throws IOException {
+            var nombre = entrada.readUTF();
+            var apellido = entrada.readUTF();
+            var email = entrada.readUTF();
+            var celular = entrada.readUTF();
+            var fechaNacimiento = LocalDate.ofEpochDay(entrada.readLong());
+            byte genero = entrada.readByte();
+            return new Jugador(nombre, apellido, email, celular, fechaNacimiento, genero < 0 ? null : GENEROS[genero]);
+        }
+
+        private static Juez leerJuez(DataInput entrada) throws IOException {
+            return new Juez(entrada.readUTF(), entrada.readUTF(), entrada.readUTF(), entrada.readUTF(),
+                    entrada.readUTF());
+        }
+
+        private static LocalDate leerFecha(DataInput entrada) throws IOException {
+            long dia = entrada.readLong();
+            return dia == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(dia);
+        }
+
+        private static LocalTime leerHora(DataInput entrada) throws IOException {
+            long nanos = entrada.readLong();
+            return nanos < 0 ? null : LocalTime.ofNanoOfDay(nanos);
+        }
+
+        private static String leerTextoOpcional(DataInput entrada) throws IOException {
+            return entrada.readBoolean() ? entrada.readUTF() : null;
+        }
+    }
+
+    /**
+     * Flujo de entrada sobre un registro ya leído, que se reutiliza para no crear
+     * objetos por cada registro.
+     */
+    private static final class LectorRegistro extends ByteArrayInputStream {
+
+        private LectorRegistro() {
+            super(new byte[0]);
+        }
+
+        private void reiniciar(byte[] datos, int longitud) {
+            this.buf = datos;
+            this.pos = 0;
+            this.count = longitud;
+            this.mark = 0;
+        }
+    }
+}
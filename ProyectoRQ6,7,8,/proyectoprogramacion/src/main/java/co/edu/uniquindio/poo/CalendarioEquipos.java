@@ -0,0 +1,168 @@
+/**
+ * Clase que agrupa los enfrentamientos de cada equipo de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cada equipo tiene su lista de enfrentamientos ordenada por fecha y hora. Los
+ * enfrentamientos con la misma fecha y hora conservan el orden en que fueron
+ * agregados. Cada lista se bloquea por separado, de modo que se pueden
+ * programar a la vez enfrentamientos de equipos distintos.
+ */
+class CalendarioEquipos {
+
+    static final Comparator<Enfrentamiento> ORDEN_FECHA_HORA = CalendarioEquipos::compararFechaHora;
+
+    private final Map<String, List<Enfrentamiento>> enfrentamientosPorEquipo;
+
+    CalendarioEquipos() {
+        this.enfrentamientosPorEquipo = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Agrega un enfrentamiento al calendario de los dos equipos que se enfrentan.
+     * 
+     * @param enfrentamiento Enfrentamiento a agregar.
+     */
+    void agregar(Enfrentamiento enfrentamiento) {
+        for (String nombre : nombresEquipos(enfrentamiento)) {
+            var lista = enfrentamientosPorEquipo.computeIfAbsent(nombre, n -> new ArrayList<>());
+            synchronized (lista) {
+                lista.add(buscarPosicionInsercion(lista, enfrentamiento), enfrentamiento);
+            }
+        }
+    }
+
+    /**
+     * Agrega varios enfrentamientos a la vez, por ejemplo un fixture completo.
+     * Los enfrentamientos se agrupan por equipo y, si el lote no venía ordenado
+     * por fecha y hora, se ordena cada grupo; si el grupo empieza después del
+     * último enfrentamiento del equipo, se agrega al final en un solo paso, y si
+     * no, cada enfrentamiento se inserta en su posición.
+     * 
+     * @param lote Enfrentamientos a agregar.
+     */
+    void agregarTodos(List<Enfrentamiento> lote) {
+        var nuevosPorEquipo = new HashMap<String, List<Enfrentamiento>>();
+        boolean ordenados = true;
+        Enfrentamiento anterior = null;
+        for (var enfrentamiento : lote) {
+            String local = enfrentamiento.getLocal().getNombre();
+            String visitante = enfrentamiento.getVisitante().getNombre();
+            nuevosPorEquipo.computeIfAbsent(local, n -> new ArrayList<>()).add(enfrentamiento);
+            if (!local.equals(visitante)) {
+                nuevosPorEquipo.computeIfAbsent(visitante, n -> new ArrayList<>()).add(enfrentamiento);
+            }
+            ordenados = ordenados && (anterior == null || compararFechaHora(anterior, enfrentamiento) <= 0);
+            anterior = enfrentamiento;
+        }
+        if (!ordenados) {
+            nuevosPorEquipo.values().forEach(nuevos -> nuevos.sort(ORDEN_FECHA_HORA));
+        }
+        nuevosPorEquipo.forEach((nombre, nuevos) -> {
+            var lista = enfrentamientosPorEquipo.putIfAbsent(nombre, nuevos);
+            if (lista == null) {
+                return;
+            }
+            synchronized (lista) {
+                if (lista.isEmpty() || compararFechaHora(lista.get(lista.size() - 1), nuevos.get(0)) <= 0) {
+                    lista.addAll(nuevos);
+                } else {
+                    nuevos.forEach(enfrentamiento -> lista.add(buscarPosicionInsercion(lista, enfrentamiento),
+                            enfrentamiento));
+                }
+            }
+        });
+    }
+
+    /**
+     * Reubica un enfrentamiento en el calendario de sus equipos después de un
+     * cambio de fecha u hora.
+     * 
+     * @param enfrentamiento Enfrentamiento reprogramado.
+     */
+    void reubicar(Enfrentamiento enfrentamiento) {
+        for (String nombre : nombresEquipos(enfrentamiento)) {
+            var lista = enfrentamientosPorEquipo.get(nombre);
+            if (lista == null) {
+                continue;
+            }
+            synchronized (lista) {
+                if (lista.remove(enfrentamiento)) {
+                    lista.add(buscarPosicionInsercion(lista, enfrentamiento), enfrentamiento);
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtiene los enfrentamientos de un equipo ordenados por fecha y hora.
+     * 
+     * @param nombre Nombre del equipo.
+     * @return Copia inmodificable de los enfrentamientos del equipo.
+     */
+    List<Enfrentamiento> obtenerEnfrentamientos(String nombre) {
+        var lista = enfrentamientosPorEquipo.get(nombre);
+        if (lista == null) {
+            return List.of();
+        }
+        synchronized (lista) {
+            return List.copyOf(lista);
+        }
+    }
+
+    private static List<String> nombresEquipos(Enfrentamiento enfrentamiento) {
+        String local = enfrentamiento.getLocal().getNombre();
+        String visitante = enfrentamiento.getVisitante().getNombre();
+        return local.equals(visitante) ? List.of(local) : List.of(local, visitante);
+    }
+
+    /**
+     * Busca por bisección la posición después del último enfrentamiento que no es
+     * posterior al enfrentamiento dado. Como los enfrentamientos suelen
+     * registrarse en orden de fecha, primero se compara con el último.
+     */
+    private static int buscarPosicionInsercion(List<Enfrentamiento> lista, Enfrentamiento enfrentamiento) {
+        int fin = lista.size();
+        if (fin == 0 || compararFechaHora(lista.get(fin - 1), enfrentamiento) <= 0) {
+            return fin;
+        }
+        int inicio = 0;
+        while (inicio < fin) {
+            int medio = (inicio + fin) >>> 1;
+            if (compararFechaHora(lista.get(medio), enfrentamiento) <= 0) {
+                inicio = medio + 1;
+            } else {
+                fin = medio;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Compara dos enfrentamientos por fecha y luego por hora, dejando al final los
+     * que no tienen fecha u hora.
+     */
+    private static int compararFechaHora(Enfrentamiento primero, Enfrentamiento segundo) {
+        int comparacion = compararNulosAlFinal(primero.getFecha(), segundo.getFecha());
+        return comparacion != 0 ? comparacion : compararNulosAlFinal(primero.getHora(), segundo.getHora());
+    }
+
+    private static <T extends Comparable<? super T>> int compararNulosAlFinal(T primero, T segundo) {
+        if (primero == null || segundo == null) {
+            return primero == segundo ? 0 : primero == null ? 1 : -1;
+        }
+        return primero.compareTo(segundo);
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * Clase que agrupa las reservas de cada lugar de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * Cada lugar tiene sus enfrentamientos ordenados por el minuto en que empiezan.
+ * Como todos los enfrentamientos duran lo mismo y las reservas de un lugar no se
+ * cruzan, para saber si un horario está libre basta revisar el enfrentamiento
+ * anterior y el siguiente, en tiempo logarítmico. Los enfrentamientos sin
+ * lugar, fecha u hora no ocupan ningún lugar.
+ * <p>
+ * Al reprogramar un enfrentamiento primero se reserva la nueva fecha y hora,
+ * validando y reservando en un solo paso con el lugar bloqueado, y solo
+ * después de aplicar el cambio se libera la reserva anterior. Si el cambio se
+ * cancela se libera la nueva reserva. Así el enfrentamiento nunca queda sin su
+ * reserva ni con una reserva que otro tomó mientras tanto.
+ */
+class CalendarioLugares {
+    private static final long MINUTOS_DIA = 24 * 60;
+
+    private final long duracionMinutos;
+    private final Map<ClaveLugar, NavigableMap<Long, Enfrentamiento>> reservasPorLugar;
+
+    CalendarioLugares(Duration duracionEnfrentamiento) {
+        ASSERTION.assertion(duracionEnfrentamiento != null && duracionEnfrentamiento.toMinutes() > 0,
+                "La duración del enfrentamiento debe ser de al menos un minuto");
+        this.duracionMinutos = duracionEnfrentamiento.toMinutes();
+        this.reservasPorLugar = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Reserva el lugar del enfrentamiento en su fecha y hora.
+     *
+     * @param enfrentamiento Enfrentamiento a reservar.
+     * @throws AssertionError Si el lugar ya está reservado a esa hora.
+     */
+    void reservar(Enfrentamiento enfrentamiento) {
+        reservar(enfrentamiento, enfrentamiento.getFecha(), enfrentamiento.getHora());
+    }
+
+    /**
+     * Reserva el lugar del enfrentamiento en una fecha y hora, por ejemplo antes de
+     * reprogramarlo, sin tener en cuenta las reservas del mismo enfrentamiento.
+     * La validación y la reserva se hacen con el lugar bloqueado, de modo que dos
+     * enfrentamientos no pueden tomar a la vez el mismo horario.
+     *
+     * @param enfrentamiento Enfrentamiento a reservar.
+     * @param fecha          Fecha de la reserva.
+     * @param hora           Hora de la reserva.
+     * @throws AssertionError Si el lugar ya está reservado a esa hora.
+     */
+    void reservar(Enfrentamiento enfrentamiento, LocalDate fecha, LocalTime hora) {
+        if (!ocupaLugar(enfrentamiento.getLugar(), fecha, hora)) {
+            return;
+        }
+        var reservas = obtenerReservas(enfrentamiento.getLugar());
+        long inicio = calcularInicio(fecha, hora);
+        synchronized (reservas) {
+            validarLibre(reservas, inicio, enfrentamiento);
+            reservas.put(inicio, enfrentamiento);
+        }
+    }
+
+    /**
+     * Libera la reserva que tenía el enfrentamiento en la fecha y hora dadas, salvo
+     * que sea la reserva de su fecha y hora actuales.
+     *
+     * @param enfrentamiento Enfrentamiento cuya reserva se libera.
+     * @param fecha          Fecha de la reserva.
+     * @param hora           Hora de la reserva.
+     */
+    void liberar(Enfrentamiento enfrentamiento, LocalDate fecha, LocalTime hora) {
+        if (!ocupaLugar(enfrentamiento.getLugar(), fecha, hora)) {
+            return;
+        }
+        long inicio = calcularInicio(fecha, hora);
+        var fechaActual = enfrentamiento.getFecha();
+        var horaActual = enfrentamiento.getHora();
+        if (fechaActual != null && horaActual != null && calcularInicio(fechaActual, horaActual) == inicio) {
+            return;
+        }
+        var reservas = obtenerReservas(enfrentamiento.getLugar());
+        synchronized (reservas) {
+            reservas.remove(inicio, enfrentamiento);
+        }
+    }
+
+    /**
+     * Libera la reserva de la fecha y hora actuales del enfrentamiento, por
+     * ejemplo si al final no se registra.
+     *
+     * @param enfrentamiento Enfrentamiento cuya reserva se libera.
+     */
+    void cancelar(Enfrentamiento enfrentamiento) {
+        if (!ocupaLugar(enfrentamiento.getLugar(), enfrentamiento.getFecha(), enfrentamiento.getHora())) {
+            return;
+        }
+        var reservas = obtenerReservas(enfrentamiento.getLugar());
+        synchronized (reservas) {
+            reservas.remove(calcularInicio(enfrentamiento.getFecha(), enfrentamiento.getHora()), enfrentamiento);
+        }
+    }
+
+    /**
+     * Obtiene los horarios en que un lugar está libre entre dos fechas.
+     *
+     * @param lugar    Lugar a consultar.
+     * @param desde    Primera fecha a consultar.
+     * @param hasta    Última fecha a consultar.
+     * @param horarios Horas del día en que se pueden programar enfrentamientos.
+     * @return Lista con las fechas y horas libres, en orden.
+     */
+    List<LocalDateTime> obtenerHorariosLibres(Lugar lugar, LocalDate desde, LocalDate hasta,
+            List<LocalTime> horarios) {
+        var horariosOrdenados = horarios.stream().sorted().toList();
+        var reservas = obtenerReservas(lugar);
+        var libres = new ArrayList<LocalDateTime>();
+        synchronized (reservas) {
+            for (var fecha = desde; !fecha.isAfter(hasta); fecha = fecha.plusDays(1)) {
+                for (var hora : horariosOrdenados) {
+                    if (buscarCruce(reservas, calcularInicio(fecha, hora), null) == null) {
+                        libres.add(fecha.atTime(hora));
+                    }
+                }
+            }
+        }
+        return libres;
+    }
+
+    private void validarLibre(NavigableMap<Long, Enfrentamiento> reservas, long inicio,
+            Enfrentamiento enfrentamiento) {
+        ASSERTION.assertion(buscarCruce(reservas, inicio, enfrentamiento) == null,
+                "El lugar ya esta reservado a esa hora");
+    }
+
+    /**
+     * Busca un enfrentamiento distinto del dado que se cruce con un enfrentamiento
+     * que empieza en el minuto dado. Solo pueden cruzarse el último que empieza
+     * antes o a la vez y el primero que empieza después, saltando las reservas del
+     * mismo enfrentamiento, que mientras se reprograma puede tener dos.
+     */
+    private Enfrentamiento buscarCruce(NavigableMap<Long, Enfrentamiento> reservas, long inicio,
+            Enfrentamiento enfrentamiento) {
+        var anterior = reservas.floorEntry(inicio);
+        while (anterior != null && anterior.getValue() == enfrentamiento) {
+            anterior = reservas.lowerEntry(anterior.getKey());
+        }
+        if (anterior != null && anterior.getKey() + duracionMinutos > inicio) {
+            return anterior.getValue();
+        }
+        var siguiente = reservas.higherEntry(inicio);
+        while (siguiente != null && siguiente.getValue() == enfrentamiento) {
+            siguiente = reservas.higherEntry(siguiente.getKey());
+        }
+        if (siguiente != null && siguiente.getKey() < inicio + duracionMinutos) {
+            return siguiente.getValue();
+        }
+        return null;
+    }
+
+    private NavigableMap<Long, Enfrentamiento> obtenerReservas(Lugar lugar) {
+        return reservasPorLugar.computeIfAbsent(ClaveLugar.de(lugar), clave -> new TreeMap<>());
+    }
+
+    private static boolean ocupaLugar(Lugar lugar, LocalDate fecha, LocalTime hora) {
+        return lugar != null && fecha != null && hora != null;
+    }
+
+    /**
+     * Calcula el minuto en que empieza un enfrentamiento, contado desde el
+     * 1970-01-01.
+     */
+    private static long calcularInicio(LocalDate fecha, LocalTime hora) {
+        return fecha.toEpochDay() * MINUTOS_DIA + hora.toSecondOfDay() / 60;
+    }
+
+    /**
+     * Clave con la que se identifica un lugar, pues dos objetos Lugar con el mismo
+     * nombre y ubicación corresponden al mismo lugar.
+     */
+    private record ClaveLugar(String nombre, String ubicacion) {
+
+        static ClaveLugar de(Lugar lugar) {
+            return new ClaveLugar(lugar.getNombre(), lugar.getUbicacion());
+        }
+    }
+}
@@ -7,39 +7,70 @@
  */
 package co.edu.uniquindio.poo;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.Optional;
-import java.util.function.Predicate;
-import java.time.format.DateTimeFormatter;
 
 import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 
+/**
+ * Los cambios de un enfrentamiento, como registrar jueces, reprogramarlo o
+ * finalizarlo, se hacen uno a la vez, de modo que dos anotadores no pueden
+ * finalizar el mismo enfrentamiento dos veces. Cada cambio se ejecuta dentro de
+ * {@link Observador#ejecutarCambio} de sus observadores.
+ *
+ * Los jueces y los observadores se guardan en arreglos que se reemplazan en
+ * cada cambio, de modo que se consultan sin bloquearse y un torneo con
+ * millones de enfrentamientos no paga una lista por cada uno.
+ */
 public class Enfrentamiento {
 
-    private LocalDate fecha;
-    private LocalTime hora;
-    private String resultadoEnfrentamiento;
+    private static final Juez[] SIN_JUECES = new Juez[0];
+    private static final Observador[] SIN_OBSERVADORES = new Observador[0];
+
+    private volatile LocalDate fecha;
+    private volatile LocalTime hora;
+    private volatile ResultadoEnfrentamiento resultadoEnfrentamiento;
     private Lugar lugar;
-    private EstadoEnfrentamiento estadoEnfrentamiento;
-    private final Collection<Juez> jueces;
+    private volatile EstadoEnfrentamiento estadoEnfrentamiento;
+    private volatile Juez[] jueces;
     private final Equipo visitante;
     private final Equipo local;
     private int puntosVisitanteEnfrentamiento;
     private int puntosLocalEnfrentamiento;
+    private volatile Observador[] observadores;
+    private final Clock reloj;
+    private boolean resultadoReservado;
+    private boolean registroReservado;
 
     public Enfrentamiento(LocalDate fecha, LocalTime hora, Lugar lugar, Equipo visitante,
             Equipo local) {
+        this(fecha, hora, lugar, visitante, local, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Crea un enfrentamiento que toma la fecha y hora actual del reloj dado, lo
+     * que permite ejecutar operaciones por lotes o pruebas con un reloj fijo.
+     */
+    public Enfrentamiento(LocalDate fecha, LocalTime hora, Lugar lugar, Equipo visitante,
+            Equipo local, Clock reloj) {
+        ASSERTION.assertion(reloj != null, "El reloj es requerido");
+        this.reloj = reloj;
         this.fecha = fecha;
         this.hora = hora;
         this.lugar = lugar;
         this.visitante = visitante;
         this.local = local;
-        this.jueces = new LinkedList<>();
+        this.jueces = SIN_JUECES;
+        this.observadores = SIN_OBSERVADORES;
 
     }
 
@@ -75,32 +106,150 @@ public class Enfrentamiento {
         return estadoEnfrentamiento;
     }
 
+    /**
+     * Obtiene el texto del resultado del enfrentamiento, que se arma a partir del
+     * resultado cada vez que se solicita.
+     * 
+     * @return Texto del resultado, o null si el enfrentamiento no ha finalizado.
+     */
     public String getResultadoEnfrentamiento() {
-        return resultadoEnfrentamiento;
+        var resultado = resultadoEnfrentamiento;
+        return resultado == null ? null : resultado.describir();
+    }
+
+    /**
+     * Obtiene el resultado del enfrentamiento.
+     * 
+     * @return Optional con el resultado, o vacío si el enfrentamiento no ha
+     *         finalizado.
+     */
+    public Optional<ResultadoEnfrentamiento> getResultado() {
+        return Optional.ofNullable(resultadoEnfrentamiento);
+    }
+
+    /**
+     * Obtiene el equipo que ganó el enfrentamiento.
+     * 
+     * @return Optional con el equipo ganador, o vacío si el enfrentamiento no ha
+     *         finalizado o terminó en empate.
+     */
+    public Optional<Equipo> getGanador() {
+        var resultado = resultadoEnfrentamiento;
+        if (resultado == null || resultado.tipo() == TipoResultado.EMPATE) {
+            return Optional.empty();
+        }
+        return Optional.of(resultado.tipo() == TipoResultado.GANA_VISITANTE ? visitante : local);
     }
 
     public Collection<Juez> getJueces() {
-        return Collections.unmodifiableCollection(jueces);
+        return Collections.unmodifiableList(Arrays.asList(jueces));
+    }
+
+    /**
+     * Obtiene los jueces del enfrentamiento sin envolverlos en una colección. El
+     * arreglo no debe modificarse; cada registro de un juez lo reemplaza por uno
+     * nuevo.
+     * 
+     * @return Arreglo con los jueces del enfrentamiento.
+     */
+    Juez[] getArregloJueces() {
+        return jueces;
     }
 
-    public void setFechaHora(LocalDate fecha, LocalTime hora) {
-        LocalDate fechaActual = LocalDate.now();
+    /**
+     * Obtiene la clave natural del enfrentamiento, formada por los equipos, la
+     * fecha, la hora y el lugar. Dos enfrentamientos con la misma clave
+     * corresponden al mismo partido.
+     * 
+     * @return Clave natural del enfrentamiento.
+     */
+    public Clave getClave() {
+        return new Clave(local.getNombre(), visitante.getNombre(), fecha, hora,
+                lugar == null ? null : lugar.getNombre(), lugar == null ? null : lugar.getUbicacion());
+    }
+
+    public synchronized void setFechaHora(LocalDate fecha, LocalTime hora) {
+        LocalDate fechaActual = LocalDate.now(reloj);
         ASSERTION.assertion(fecha.isAfter(fechaActual));
-        this.fecha = fecha;
-        this.hora = hora;
+        cambiarFechaHora(fecha, hora, estadoEnfrentamiento);
 
     }
 
+    /**
+     * Cambia la fecha, la hora y el estado del enfrentamiento sin validar la fecha
+     * actual, por ejemplo al reconstruir un torneo guardado.
+     * 
+     * @param fecha  Nueva fecha del enfrentamiento.
+     * @param hora   Nueva hora del enfrentamiento.
+     * @param estado Estado del enfrentamiento después del cambio.
+     */
+    synchronized void reprogramar(LocalDate fecha, LocalTime hora, EstadoEnfrentamiento estado) {
+        cambiarFechaHora(fecha, hora, estado);
+    }
+
+    /**
+     * Cambia la fecha, la hora y el estado del enfrentamiento notificando a los
+     * observadores, dentro de {@link Observador#ejecutarCambio} de cada uno. Si
+     * un observador rechaza el cambio, los que ya lo habían validado son
+     * notificados de que el cambio se canceló y el enfrentamiento no cambia.
+     */
+    private void cambiarFechaHora(LocalDate fecha, LocalTime hora, EstadoEnfrentamiento estado) {
+        validarRegistroLibre();
+        ejecutarCambio(() -> {
+            var validados = new ArrayList<Observador>(observadores.length);
+            try {
+                for (var observador : observadores) {
+                    observador.validarFechaHora(this, fecha, hora);
+                    validados.add(observador);
+                }
+            } catch (RuntimeException e) {
+                validados.forEach(observador -> observador.fechaHoraRechazada(this, fecha, hora));
+                throw e;
+            }
+            LocalDate fechaAnterior = this.fecha;
+            LocalTime horaAnterior = this.hora;
+            this.fecha = fecha;
+            this.hora = hora;
+            this.estadoEnfrentamiento = estado;
+            for (var observador : observadores) {
+                observador.fechaHoraActualizada(this, fechaAnterior, horaAnterior);
+            }
+        });
+    }
+
+    /**
+     * Ejecuta un cambio del enfrentamiento dentro de {@link Observador#ejecutarCambio}
+     * de todos sus observadores, en el orden en que fueron agregados.
+     */
+    private void ejecutarCambio(Runnable cambio) {
+        ejecutarCambio(observadores, 0, cambio);
+    }
+
+    private void ejecutarCambio(Observador[] envolventes, int desde, Runnable cambio) {
+        if (desde == envolventes.length) {
+            cambio.run();
+        } else {
+            envolventes[desde].ejecutarCambio(this, () -> ejecutarCambio(envolventes, desde + 1, cambio));
+        }
+    }
+
     /**
      * Establece los puntos obtenidos por cada equipo en el enfrentamiento.
      * 
      * @param puntosEquipo1Enfrentamiento Puntos obtenidos por el primer equipo.
      * @param puntosEquipo2Enfrentamiento Puntos obtenidos por el segundo equipo.
      */
-    public void setPuntosVisitanteLocalEnfrentamiento(int puntosVisitanteEnfrentamiento,
+    public synchronized void setPuntosVisitanteLocalEnfrentamiento(int puntosVisitanteEnfrentamiento,
             int puntosLocalEnfrentamiento) {
+        ejecutarCambio(() -> actualizarPuntos(puntosVisitanteEnfrentamiento, puntosLocalEnfrentamiento));
+    }
+
+    private void actualizarPuntos(int puntosVisitanteEnfrentamiento, int puntosLocalEnfrentamiento) {
         this.puntosVisitanteEnfrentamiento = puntosVisitanteEnfrentamiento;
         this.puntosLocalEnfrentamiento = puntosLocalEnfrentamiento;
+        for (var observador : observadores) {
+            observador.puntosActualizados(this);
+        }
     }
 
     /**
@@ -108,9 +257,83 @@ public class Enfrentamiento {
      * 
      * @param juez Juez a ser registrado.
      */
-    public void registrarJuez(Juez juez) {
-        validarJuezExiste(juez);
-        jueces.add(juez);
+    public synchronized void registrarJuez(Juez juez) {
+        validarRegistroLibre();
+        ejecutarCambio(() -> {
+            validarJuezExiste(juez);
+            var actuales = jueces;
+            var nuevos = Arrays.copyOf(actuales, actuales.length + 1);
+            nuevos[actuales.length] = juez;
+            jueces = nuevos;
+            for (var observador : observadores) {
+                observador.juezRegistrado(this, juez);
+            }
+        });
+    }
+
+    /**
+     * Agrega un observador que será notificado de los cambios en el
+     * enfrentamiento.
+     * 
+     * @param observador Observador a agregar.
+     */
+    synchronized void agregarObservador(Observador observador) {
+        var actuales = observadores;
+        var nuevos = Arrays.copyOf(actuales, actuales.length + 1);
+        nuevos[actuales.length] = observador;
+        observadores = nuevos;
+    }
+
+    /**
+     * Reserva el enfrentamiento para registrarlo en un lote. Mientras está
+     * reservado no se pueden registrar jueces ni cambiar su fecha y hora, de
+     * modo que su clave y sus jueces no cambian entre la validación del lote y
+     * el registro. La reserva termina con {@link #completarRegistro} o con
+     * {@link #liberarRegistro}.
+     * 
+     * @return true si se reservó, o false si ya estaba reservado.
+     */
+    synchronized boolean reservarRegistro() {
+        if (registroReservado) {
+            return false;
+        }
+        registroReservado = true;
+        return true;
+    }
+
+    /**
+     * Libera la reserva del registro sin agregar ningún observador.
+     */
+    synchronized void liberarRegistro() {
+        registroReservado = false;
+    }
+
+    /**
+     * Agrega los observadores del torneo en el que se registró el enfrentamiento
+     * y libera la reserva del registro. Como los arreglos de observadores nunca
+     * se modifican, si el enfrentamiento no tenía observadores usa el arreglo
+     * dado, que pueden compartir todos los enfrentamientos de un lote.
+     * 
+     * @param observadoresTorneo Observadores a agregar.
+     */
+    synchronized void completarRegistro(Observador[] observadoresTorneo) {
+        var actuales = observadores;
+        if (actuales.length == 0) {
+            observadores = observadoresTorneo;
+        } else {
+            var nuevos = Arrays.copyOf(actuales, actuales.length + observadoresTorneo.length);
+            System.arraycopy(observadoresTorneo, 0, nuevos, actuales.length, observadoresTorneo.length);
+            observadores = nuevos;
+        }
+        registroReservado = false;
+    }
+
+    /**
+     * Valida que el enfrentamiento no esté reservado para registrarse en un
+     * lote.
+     */
+    private void validarRegistroLibre() {
+        ASSERTION.assertion(!registroReservado, "El enfrentamiento se está registrando en un torneo");
     }
 
     /**
@@ -132,8 +355,12 @@ public class Enfrentamiento {
      *         si no se encuentra.
      */
     private Optional<Juez> buscarJuezPorLicencia(String licenciaJuez) {
-        Predicate<Juez> condicion = juez -> juez.getLicenciaJuez().equals(licenciaJuez);
-        return jueces.stream().filter(condicion).findAny();
+        for (var juez : jueces) {
+            if (juez.getLicenciaJuez().equals(licenciaJuez)) {
+                return Optional.of(juez);
+            }
+        }
+        return Optional.empty();
     }
 
     /**
@@ -142,55 +369,263 @@ public class Enfrentamiento {
      * @param fecha Nueva fecha del enfrentamiento.
      * @param hora  Nueva hora del enfrentamiento.
      */
-    public void aplazarEnfrentamiento(LocalDate fecha, LocalTime hora) {
+    public synchronized void aplazarEnfrentamiento(LocalDate fecha, LocalTime hora) {
         ASSERTION.assertion(fecha.isAfter(this.fecha));
-        this.fecha = fecha;
-        this.hora = hora;
-        estadoEnfrentamiento = EstadoEnfrentamiento.APLAZADO;
+        cambiarFechaHora(fecha, hora, EstadoEnfrentamiento.APLAZADO);
     }
 
     /**
      * Lleva a cabo el enfrentamiento actualizando el estado de los equipos y su
      * estadística.
+     * 
+     * @throws AssertionError Si el enfrentamiento ya fue finalizado o tiene
+     *                        reservado el registro de su resultado.
      */
-    public void llevarACaboEnfrentamiento() {
+    public synchronized void llevarACaboEnfrentamiento() {
+        ejecutarCambio(() -> {
+            ASSERTION.assertion(estadoEnfrentamiento != EstadoEnfrentamiento.FINALIZADO,
+                    "El enfrentamiento ya fue finalizado");
+            ASSERTION.assertion(!resultadoReservado, "El resultado del enfrentamiento se está registrando");
 
-        LocalDate fechaActual = LocalDate.now();
-        LocalTime horaActual = LocalTime.now();
+            LocalDateTime ahora = LocalDateTime.now(reloj);
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH-mm");
+            if (ahora.toLocalDate().equals(fecha)
+                    && ahora.toLocalTime().truncatedTo(ChronoUnit.MINUTES).equals(hora.truncatedTo(ChronoUnit.MINUTES))) {
 
-        if (fechaActual.equals(fecha) && horaActual.format(formatter).equals(hora.format(formatter))) {
+                aplicarFinalizacion();
+            } else {
+                actualizarEstado(EstadoEnfrentamiento.PENDIENTE);
+            }
+        });
+    }
 
-            estadoEnfrentamiento = EstadoEnfrentamiento.EN_JUEGO;
-            resultadoEnfrentamiento = "El resultado es: ";
-            estadoEnfrentamiento = EstadoEnfrentamiento.FINALIZADO;
-            if (puntosVisitanteEnfrentamiento > puntosLocalEnfrentamiento) {
+    /**
+     * Cambia el estado del enfrentamiento sin validar la fecha actual, por ejemplo
+     * al reconstruir un torneo guardado.
+     * 
+     * @param estado Nuevo estado del enfrentamiento.
+     */
+    synchronized void cambiarEstado(EstadoEnfrentamiento estado) {
+        ejecutarCambio(() -> actualizarEstado(estado));
+    }
 
-                visitante.getEstadistica().actualizarEstadisticas(true, false, false);
-                local.getEstadistica().actualizarEstadisticas(false, false, true);
-                resultadoEnfrentamiento += "El equipo 1 ganó con " + puntosVisitanteEnfrentamiento
-                        + " puntos y el equipo 2 perdió con " + puntosLocalEnfrentamiento + " puntos";
+    private void actualizarEstado(EstadoEnfrentamiento estado) {
+        estadoEnfrentamiento = estado;
+        for (var observador : observadores) {
+            observador.estadoActualizado(this);
+        }
+    }
 
-            } else if (puntosVisitanteEnfrentamiento < puntosLocalEnfrentamiento) {
+    /**
+     * Reserva el registro del resultado del enfrentamiento. Mientras está
+     * reservado, solo quien lo reservó puede finalizarlo, con
+     * {@link #registrarResultado}, o liberarlo, con {@link #liberarResultado}.
+     * 
+     * @return true si se reservó, o false si el enfrentamiento ya fue finalizado
+     *         o ya estaba reservado.
+     */
+    synchronized boolean reservarResultado() {
+        if (estadoEnfrentamiento == EstadoEnfrentamiento.FINALIZADO || resultadoReservado) {
+            return false;
+        }
+        resultadoReservado = true;
+        return true;
+    }
 
-                visitante.getEstadistica().actualizarEstadisticas(false, false, true);
-                local.getEstadistica().actualizarEstadisticas(true, false, false);
-                resultadoEnfrentamiento += "El equipo 1 perdió con " + puntosVisitanteEnfrentamiento
-                        + " puntos y el equipo 2 ganó con " + puntosLocalEnfrentamiento + " puntos";
+    /**
+     * Libera la reserva del registro del resultado sin finalizar el
+     * enfrentamiento.
+     */
+    synchronized void liberarResultado() {
+        resultadoReservado = false;
+    }
 
-            } else if (puntosVisitanteEnfrentamiento == puntosLocalEnfrentamiento) {
+    /**
+     * Registra el marcador del enfrentamiento y lo finaliza en un solo paso, sin
+     * importar la fecha y hora actual. El registro debe estar reservado con
+     * {@link #reservarResultado} y la reserva se libera aunque el registro
+     * falle.
+     * 
+     * @param puntosVisitante Puntos obtenidos por el equipo visitante.
+     * @param puntosLocal     Puntos obtenidos por el equipo local.
+     * @throws AssertionError Si el registro del resultado no está reservado.
+     */
+    synchronized void registrarResultado(int puntosVisitante, int puntosLocal) {
+        ASSERTION.assertion(resultadoReservado, "El resultado del enfrentamiento no esta reservado");
+        try {
+            ejecutarCambio(() -> {
+                actualizarPuntos(puntosVisitante, puntosLocal);
+                aplicarFinalizacion();
+            });
+        } finally {
+            resultadoReservado = false;
+        }
+    }
 
+    /**
+     * Finaliza el enfrentamiento con los puntos registrados, actualizando la
+     * estadística de los equipos sin importar la fecha y hora actual.
+     */
+    synchronized void finalizar() {
+        ejecutarCambio(this::aplicarFinalizacion);
+    }
+
+    private void aplicarFinalizacion() {
+        var resultado = ResultadoEnfrentamiento.de(puntosVisitanteEnfrentamiento, puntosLocalEnfrentamiento);
+        resultadoEnfrentamiento = resultado;
+        estadoEnfrentamiento = EstadoEnfrentamiento.FINALIZADO;
+        switch (resultado.tipo()) {
+            case GANA_VISITANTE -> {
+                visitante.getEstadistica().actualizarEstadisticas(true, false, false);
+                local.getEstadistica().actualizarEstadisticas(false, false, true);
+            }
+            case GANA_LOCAL -> {
+                visitante.getEstadistica().actualizarEstadisticas(false, false, true);
+                local.getEstadistica().actualizarEstadisticas(true, false, false);
+            }
+            case EMPATE -> {
                 visitante.getEstadistica().actualizarEstadisticas(false, true, false);
                 local.getEstadistica().actualizarEstadisticas(false, true, false);
-                resultadoEnfrentamiento += "El equipo 1 empató con " + puntosVisitanteEnfrentamiento
-                        + " el equipo 2 con " + puntosLocalEnfrentamiento + " puntos";
-
             }
-        } else {
-            estadoEnfrentamiento = EstadoEnfrentamiento.PENDIENTE;
+        }
+        for (var observador : observadores) {
+            observador.enfrentamientoFinalizado(this);
+        }
+    }
+
+    /**
+     * Restaura el estado, los puntos y el resultado de un enfrentamiento guardado
+     * sin actualizar la estadística de los equipos ni notificar a los
+     * observadores, pues la estadística guardada ya incluye el resultado.
+     *
+     * @param estado          Estado del enfrentamiento.
+     * @param puntosVisitante Puntos del equipo visitante.
+     * @param puntosLocal     Puntos del equipo local.
+     * @param resultado       Resultado del enfrentamiento, o null si no ha
+     *                        finalizado.
+     */
+    synchronized void restaurar(EstadoEnfrentamiento estado, int puntosVisitante, int puntosLocal,
+            ResultadoEnfrentamiento resultado) {
+        this.estadoEnfrentamiento = estado;
+        this.puntosVisitanteEnfrentamiento = puntosVisitante;
+        this.puntosLocalEnfrentamiento = puntosLocal;
+        this.resultadoEnfrentamiento = resultado;
+    }
+
+    /**
+     * Clave natural de un enfrentamiento.
+     * 
+     * @param local     Nombre del equipo local.
+     * @param visitante Nombre del equipo visitante.
+     * @param fecha     Fecha del enfrentamiento.
+     * @param hora      Hora del enfrentamiento.
+     * @param lugar     Nombre del lugar del enfrentamiento.
+     * @param ubicacion Ubicación del lugar del enfrentamiento.
+     */
+    public record Clave(String local, String visitante, LocalDate fecha, LocalTime hora, String lugar,
+            String ubicacion) {
+
+        /**
+         * Obtiene la clave que tendría el mismo enfrentamiento en otra fecha y hora.
+         * 
+         * @param fecha Fecha del enfrentamiento.
+         * @param hora  Hora del enfrentamiento.
+         * @return Clave con la fecha y hora dadas.
+         */
+        public Clave conFechaHora(LocalDate fecha, LocalTime hora) {
+            return new Clave(local, visitante, fecha, hora, lugar, ubicacion);
+        }
+    }
+
+    /**
+     * Observador de los cambios en un enfrentamiento, permite que el torneo en el
+     * que está registrado mantenga sus índices actualizados.
+     */
+    interface Observador {
+
+        /**
+         * Notifica que un juez fue registrado en el enfrentamiento.
+         * 
+         * @param enfrentamiento Enfrentamiento en el que se registró el juez.
+         * @param juez           Juez registrado.
+         */
+        default void juezRegistrado(Enfrentamiento enfrentamiento, Juez juez) {
+        }
+
+        /**
+         * Ejecuta un cambio del enfrentamiento, con sus validaciones y
+         * notificaciones. El observador puede envolver el cambio, por ejemplo
+         * para mantener un bloqueo mientras se valida y se aplica, y debe
+         * ejecutarlo exactamente una vez. Por omisión solo lo ejecuta.
+         * 
+         * @param enfrentamiento Enfrentamiento que cambia.
+         * @param cambio         Cambio a ejecutar.
+         */
+        default void ejecutarCambio(Enfrentamiento enfrentamiento, Runnable cambio) {
+            cambio.run();
+        }
+
+        /**
+         * Valida la nueva fecha y hora de un enfrentamiento antes de que cambien, en
+         * caso de no ser válidas genera un error y el enfrentamiento no cambia. Si la
+         * validación es exitosa, el observador recibe después
+         * {@link #fechaHoraActualizada} o, si otro observador rechaza el cambio,
+         * {@link #fechaHoraRechazada}.
+         * 
+         * @param enfrentamiento Enfrentamiento que se desea reprogramar.
+         * @param fecha          Nueva fecha del enfrentamiento.
+         * @param hora           Nueva hora del enfrentamiento.
+         */
+        default void validarFechaHora(Enfrentamiento enfrentamiento, LocalDate fecha, LocalTime hora) {
         }
 
+        /**
+         * Notifica que un cambio de fecha y hora que el observador ya había validado
+         * fue rechazado por otro observador, por lo que el enfrentamiento no cambió.
+         * 
+         * @param enfrentamiento Enfrentamiento que se deseaba reprogramar.
+         * @param fecha          Fecha rechazada.
+         * @param hora           Hora rechazada.
+         */
+        default void fechaHoraRechazada(Enfrentamiento enfrentamiento, LocalDate fecha, LocalTime hora) {
+        }
+
+        /**
+         * Notifica que la fecha y hora del enfrentamiento cambiaron.
+         * 
+         * @param enfrentamiento Enfrentamiento cuya fecha y hora cambiaron.
+         * @param fechaAnterior  Fecha que tenía el enfrentamiento antes del cambio.
+         * @param horaAnterior   Hora que tenía el enfrentamiento antes del cambio.
+         */
+        default void fechaHoraActualizada(Enfrentamiento enfrentamiento, LocalDate fechaAnterior,
+                LocalTime horaAnterior) {
+        }
+
+        /**
+         * Notifica que cambiaron los puntos del enfrentamiento.
+         * 
+         * @param enfrentamiento Enfrentamiento cuyos puntos cambiaron.
+         */
+        default void puntosActualizados(Enfrentamiento enfrentamiento) {
+        }
+
+        /**
+         * Notifica que cambió el estado del enfrentamiento sin que cambiaran su
+         * fecha y hora ni finalizara, como cuando queda pendiente.
+         * 
+         * @param enfrentamiento Enfrentamiento cuyo estado cambió.
+         */
+        default void estadoActualizado(Enfrentamiento enfrentamiento) {
+        }
+
+        /**
+         * Notifica que el enfrentamiento finalizó y que las estadísticas de los
+         * equipos ya fueron actualizadas.
+         * 
+         * @param enfrentamiento Enfrentamiento finalizado.
+         */
+        default void enfrentamientoFinalizado(Enfrentamiento enfrentamiento) {
+        }
     }
 
 }
@@ -7,20 +7,23 @@
  */
 package co.edu.uniquindio.poo;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
 
 public class Equipo {
 
+    private static final Observador[] SIN_OBSERVADORES = new Observador[0];
+
     private String nombre;
     private Persona representante;
-    private Collection<Jugador> jugadores;
+    private final PlantillaJugadores jugadores;
     private Estadistica estadistica;
+    private final Collection<Observador> observadores;
 
     public Equipo(String nombre, Persona representante, Estadistica estadistica) {
         ASSERTION.assertion(nombre != null && !nombre.isBlank(), "El nombre es requerido");
@@ -29,7 +32,8 @@ public class Equipo {
         this.nombre = nombre;
         this.representante = representante;
         this.estadistica = estadistica;
-        this.jugadores = new LinkedList<>();
+        this.jugadores = new PlantillaJugadores();
+        this.observadores = new CopyOnWriteArrayList<>();
 
     }
 
@@ -50,13 +54,71 @@ public class Equipo {
     }
 
     /**
-     * Registra un jugador en el equipo.
+     * Obtiene la cantidad de jugadores del género dado registrados en el equipo.
+     * La cantidad se lleva al día con cada registro, por lo que la consulta no
+     * recorre los jugadores.
+     * 
+     * @param genero Género de los jugadores a contar.
+     * @return Cantidad de jugadores del género.
+     */
+    public int getCantidadJugadores(TipoGenero genero) {
+        return jugadores.contarGenero(genero);
+    }
+
+    /**
+     * Obtiene la plantilla de jugadores del equipo, que permite filtrar por
+     * género y fecha de nacimiento sin recorrer cada jugador.
+     * 
+     * @return Plantilla de jugadores del equipo.
+     */
+    PlantillaJugadores getPlantilla() {
+        return jugadores;
+    }
+
+    /**
+     * Registra un jugador en el equipo. Los registros en un mismo equipo se hacen
+     * uno a la vez, mientras que la lista de jugadores se puede consultar sin
+     * bloquearse. Si un observador rechaza al jugador o no se puede agregar, los
+     * observadores que ya lo habían validado son notificados del rechazo. El
+     * registro se ejecuta dentro de {@link Observador#ejecutarCambio} de cada
+     * observador.
      * 
      * @param jugador Jugador a registrar.
      */
-    public void registrarJugador(Jugador jugador) {
-        validarJugadorExiste(jugador);
-        jugadores.add(jugador);
+    public synchronized void registrarJugador(Jugador jugador) {
+        ejecutarCambio(observadores.toArray(SIN_OBSERVADORES), 0, () -> {
+            validarJugadorExiste(jugador);
+            var validados = new ArrayList<Observador>(observadores.size());
+            try {
+                for (var observador : observadores) {
+                    observador.validarJugador(this, jugador);
+                    validados.add(observador);
+                }
+                jugadores.agregar(jugador);
+            } catch (RuntimeException e) {
+                validados.forEach(observador -> observador.jugadorRechazado(this, jugador));
+                throw e;
+            }
+            observadores.forEach(observador -> observador.jugadorRegistrado(this, jugador));
+        });
+    }
+
+    private void ejecutarCambio(Observador[] envolventes, int desde, Runnable cambio) {
+        if (desde == envolventes.length) {
+            cambio.run();
+        } else {
+            envolventes[desde].ejecutarCambio(this, () -> ejecutarCambio(envolventes, desde + 1, cambio));
+        }
+    }
+
+    /**
+     * Agrega un observador que será notificado cada vez que se registre un
+     * jugador en el equipo.
+     * 
+     * @param observador Observador a agregar.
+     */
+    void agregarObservador(Observador observador) {
+        observadores.add(observador);
     }
 
     /**
@@ -67,9 +129,7 @@ public class Equipo {
      *         vacío si no se encuentra.
      */
     public Optional<Jugador> buscarJugador(Jugador jugador) {
-        Predicate<Jugador> nombreIgual = j -> j.getNombre().equals(jugador.getNombre());
-        Predicate<Jugador> apellidoIgual = j -> j.getApellido().equals(jugador.getApellido());
-        return jugadores.stream().filter(nombreIgual.and(apellidoIgual)).findAny();
+        return Optional.ofNullable(jugadores.buscar(jugador.getNombre(), jugador.getApellido()));
     }
 
     /**
@@ -98,4 +158,54 @@ public class Equipo {
 
     }
 
+    /**
+     * Observador de los cambios en la lista de jugadores del equipo. Permite que
+     * el torneo en el que está inscrito el equipo valide y conozca los jugadores
+     * que se registran directamente en el equipo.
+     */
+    interface Observador {
+
+        /**
+         * Ejecuta el registro de un jugador, con sus validaciones y
+         * notificaciones. El observador puede envolver el registro, por ejemplo
+         * para mantener un bloqueo mientras se valida y se aplica, y debe
+         * ejecutarlo exactamente una vez. Por omisión solo lo ejecuta.
+         * 
+         * @param equipo Equipo que cambia.
+         * @param cambio Registro a ejecutar.
+         */
+        default void ejecutarCambio(Equipo equipo, Runnable cambio) {
+            cambio.run();
+        }
+
+        /**
+         * Valida un jugador antes de ser registrado en el equipo, en caso de no ser
+         * válido genera un error y el jugador no se registra.
+         * 
+         * @param equipo  Equipo en el que se desea registrar el jugador.
+         * @param jugador Jugador que se desea registrar.
+         */
+        default void validarJugador(Equipo equipo, Jugador jugador) {
+        }
+
+        /**
+         * Notifica que un jugador que el observador ya había validado no se
+         * registró, porque otro observador lo rechazó o no se pudo agregar al
+         * equipo.
+         * 
+         * @param equipo  Equipo en el que se deseaba registrar el jugador.
+         * @param jugador Jugador rechazado.
+         */
+        default void jugadorRechazado(Equipo equipo, Jugador jugador) {
+        }
+
+        /**
+         * Notifica que un jugador fue registrado en el equipo.
+         * 
+         * @param equipo  Equipo en el que se registró el jugador.
+         * @param jugador Jugador registrado.
+         */
+        void jugadorRegistrado(Equipo equipo, Jugador jugador);
+    }
+
 }
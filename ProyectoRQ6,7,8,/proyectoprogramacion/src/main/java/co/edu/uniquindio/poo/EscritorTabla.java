@@ -0,0 +1,412 @@
+/**
+ * Clase que escribe tablas de datos en CSV o JSON sobre un Writer
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * Los valores se copian carácter a carácter en un buffer fijo que se vacía en
+ * el Writer cuando se llena, y los números, fechas y horas se escriben dígito a
+ * dígito, de modo que escribir una fila no crea textos intermedios y la memoria
+ * usada no depende de la cantidad de filas.
+ */
+abstract class EscritorTabla {
+    private static final int TAMANO_BUFFER = 8192;
+
+    private final Writer salida;
+    private final char[] buffer;
+    private final char[] digitos;
+    private int usado;
+    protected final String[] columnas;
+    protected int columna;
+    protected long filas;
+
+    protected EscritorTabla(Writer salida, String... columnas) {
+        ASSERTION.assertion(salida != null, "La salida es requerida");
+        this.salida = salida;
+        this.columnas = columnas;
+        this.buffer = new char[TAMANO_BUFFER];
+        this.digitos = new char[20];
+    }
+
+    /**
+     * Crea un escritor de tablas en el formato dado.
+     *
+     * @param formato  Formato de la tabla.
+     * @param salida   Writer donde se escribe la tabla.
+     * @param columnas Nombres de las columnas.
+     * @return Escritor de la tabla.
+     */
+    static EscritorTabla crear(FormatoExportacion formato, Writer salida, String... columnas) {
+        ASSERTION.assertion(formato != null, "El formato es requerido");
+        return switch (formato) {
+            case CSV -> new Csv(salida, columnas);
+            case JSON -> new Json(salida, columnas);
+        };
+    }
+
+    /**
+     * Escribe el inicio de la tabla.
+     */
+    abstract void iniciar() throws IOException;
+
+    /**
+     * Escribe el inicio de una fila.
+     */
+    abstract void iniciarFila() throws IOException;
+
+    /**
+     * Escribe el fin de una fila.
+     */
+    abstract void terminarFila() throws IOException;
+
+    /**
+     * Escribe el fin de la tabla y vacía el buffer en el Writer, sin cerrarlo.
+     */
+    void terminar() throws IOException {
+        vaciar();
+        salida.flush();
+    }
+
+    /**
+     * Escribe el inicio del siguiente campo de la fila.
+     */
+    protected abstract void iniciarCampo() throws IOException;
+
+    /**
+     * Escribe el contenido de un campo de texto.
+     */
+    protected abstract void escribirTexto(CharSequence texto) throws IOException;
+
+    /**
+     * Escribe un campo vacío.
+     */
+    protected abstract void escribirNulo() throws IOException;
+
+    /**
+     * Escribe el siguiente campo de la fila como texto.
+     *
+     * @param texto Texto del campo, puede ser null.
+     */
+    void texto(CharSequence texto) throws IOException {
+        iniciarCampo();
+        if (texto == null) {
+            escribirNulo();
+        } else {
+            escribirTexto(texto);
+        }
+        columna++;
+    }
+
+    /**
+     * Escribe el siguiente campo de la fila como el nombre de un enumerado.
+     *
+     * @param valor Valor del campo, puede ser null.
+     */
+    void enumerado(Enum<?> valor) throws IOException {
+        texto(valor == null ? null : valor.name());
+    }
+
+    /**
+     * Escribe el siguiente campo de la fila como un número entero.
+     *
+     * @param valor Valor del campo.
+     */
+    void entero(long valor) throws IOException {
+        iniciarCampo();
+        escribirEntero(valor, 1);
+        columna++;
+    }
+
+    /**
+     * Escribe el siguiente campo de la fila como el celular de una persona. Los
+     * celulares empacados se escriben dígito a dígito sin armar su texto.
+     *
+     * @param persona Persona dueña del celular.
+     */
+    void celular(Persona persona) throws IOException {
+        int cantidad = persona.getDigitosCelular();
+        if (cantidad == 0) {
+            texto(persona.getCelular());
+            return;
+        }
+        iniciarCampo();
+        abrirValor();
+        escribirEntero(persona.getNumeroCelular(), cantidad);
+        cerrarValor();
+        columna++;
+    }
+
+    /**
+     * Escribe el siguiente campo de la fila como una fecha en formato AAAA-MM-DD.
+     *
+     * @param fecha Fecha del campo, puede ser null.
+     */
+    void fecha(LocalDate fecha) throws IOException {
+        if (fecha == null || fecha.getYear() < 0 || fecha.getYear() > 9999) {
+            texto(fecha == null ? null : fecha.toString());
+            return;
+        }
+        iniciarCampo();
+        abrirValor();
+        escribirEntero(fecha.getYear(), 4);
+        escribir('-');
+        escribirEntero(fecha.getMonthValue(), 2);
+        escribir('-');
+        escribirEntero(fecha.getDayOfMonth(), 2);
+        cerrarValor();
+        columna++;
+    }
+
+    /**
+     * Escribe el siguiente campo de la fila como una hora en formato HH:MM, o
+     * HH:MM:SS si tiene segundos.
+     *
+     * @param hora Hora del campo, puede ser null.
+     */
+    void hora(LocalTime hora) throws IOException {
+        if (hora == null || hora.getNano() != 0) {
+            texto(hora == null ? null : hora.toString());
+            return;
+        }
+        iniciarCampo();
+        abrirValor();
+        escribirEntero(hora.getHour(), 2);
+        escribir(':');
+        escribirEntero(hora.getMinute(), 2);
+        if (hora.getSecond() != 0) {
+            escribir(':');
+            escribirEntero(hora.getSecond(), 2);
+        }
+        cerrarValor();
+        columna++;
+    }
+
+    /**
+     * Escribe lo que antecede a un valor que no requiere escaparse.
+     */
+    protected void abrirValor() throws IOException {
+    }
+
+    /**
+     * Escribe lo que sigue a un valor que no requiere escaparse.
+     */
+    protected void cerrarValor() throws IOException {
+    }
+
+    protected void escribir(char caracter) throws IOException {
+        if (usado == buffer.length) {
+            vaciar();
+        }
+        buffer[usado++] = caracter;
+    }
+
+    protected void escribir(String texto) throws IOException {
+        for (int i = 0; i < texto.length(); i++) {
+            escribir(texto.charAt(i));
+        }
+    }
+
+    /**
+     * Escribe un número con al menos la cantidad de dígitos dada, completando con
+     * ceros a la izquierda.
+     */
+    private void escribirEntero(long valor, int minimoDigitos) throws IOException {
+        if (valor < 0) {
+            escribir('-');
+        }
+        int cantidad = 0;
+        do {
+            digitos[cantidad++] = (char) ('0' + Math.abs(valor % 10));
+            valor /= 10;
+        } while (valor != 0);
+        while (cantidad < minimoDigitos) {
+            digitos[cantidad++] = '0';
+        }
+        while (cantidad > 0) {
+            escribir(digitos[--cantidad]);
+        }
+    }
+
+    private void vaciar() throws IOException {
+        salida.write(buffer, 0, usado);
+        usado = 0;
+    }
+
+    /**
+     * Tabla en CSV: una línea de encabezado con los nombres de las columnas y una
+     * línea por fila. Los textos con comas, comillas o saltos de línea se
+     * encierran entre comillas.
+     */
+    private static final class Csv extends EscritorTabla {
+
+        private Csv(Writer salida, String... columnas) {
+            super(salida, columnas);
+        }
+
+        @Override
+        void iniciar() throws IOException {
+            iniciarFila();
+            for (var nombre : columnas) {
+                texto(nombre);
+            }
+            columna = 0;
+            escribir('\n');
+        }
+
+        @Override
+        void iniciarFila() {
+            columna = 0;
+        }
+
+        @Override
+        void terminarFila() throws IOException {
+            ASSERTION.assertion(columna == columnas.length, "La fila no tiene todas las columnas");
+            escribir('\n');
+            filas++;
+        }
+
+        @Override
+        protected void iniciarCampo() throws IOException {
+            if (columna > 0) {
+                escribir(',');
+            }
+        }
+
+        @Override
+        protected void escribirTexto(CharSequence texto) throws IOException {
+            boolean comillas = false;
+            for (int i = 0; i < texto.length() && !comillas; i++) {
+                char caracter = texto.charAt(i);
+                comillas = caracter == ',' || caracter == '"' || caracter == '\n' || caracter == '\r';
+            }
+            if (comillas) {
+                escribir('"');
+            }
+            for (int i = 0; i < texto.length(); i++) {
+                char caracter = texto.charAt(i);
+                if (caracter == '"') {
+                    escribir('"');
+                }
+                escribir(caracter);
+            }
+            if (comillas) {
+                escribir('"');
+            }
+        }
+
+        @Override
+        protected void escribirNulo() {
+        }
+    }
+
+    /**
+     * Tabla en JSON: un arreglo con un objeto por fila, cuyas llaves son los
+     * nombres de las columnas.
+     */
+    private static final class Json extends EscritorTabla {
+        private static final char[] HEXADECIMAL = "0123456789abcdef".toCharArray();
+
+        private Json(Writer salida, String... columnas) {
+            super(salida, columnas);
+        }
+
+        @Override
+        void iniciar() throws IOException {
+            escribir('[');
+        }
+
+        @Override
+        void iniciarFila() throws IOException {
+            escribir(filas == 0 ? '\n' : ',');
+            if (filas > 0) {
+                escribir('\n');
+            }
+            escribir('{');
+            columna = 0;
+        }
+
+        @Override
+        void terminarFila() throws IOException {
+            ASSERTION.assertion(columna == columnas.length, "La fila no tiene todas las columnas");
+            escribir('}');
+            filas++;
+        }
+
+        @Override
+        void terminar() throws IOException {
+            if (filas > 0) {
+                escribir('\n');
+            }
+            escribir(']');
+            escribir('\n');
+            super.terminar();
+        }
+
+        @Override
+        protected void iniciarCampo() throws IOException {
+            if (columna > 0) {
+                escribir(',');
+            }
+            escribirTexto(columnas[columna]);
+            escribir(':');
+        }
+
+        @Override
+        protected void abrirValor() throws IOException {
+            escribir('"');
+        }
+
+        @Override
+        protected void cerrarValor() throws IOException {
+            escribir('"');
+        }
+
+        @Override
+        protected void escribirTexto(CharSequence texto) throws IOException {
+            escribir('"');
+            for (int i = 0; i < texto.length(); i++) {
+                char caracter = texto.charAt(i);
+                switch (caracter) {
+                    case '"' -> escribirEscape('"');
+                    case '\\' -> escribirEscape('\\');
+                    case '\n' -> escribirEscape('n');
+                    case '\r' -> escribirEscape('r');
+                    case '\t' -> escribirEscape('t');
+                    default -> {
+                        if (caracter < 0x20) {
+                            escribirEscape('u');
+                            escribir('0');
+                            escribir('0');
+                            escribir(HEXADECIMAL[caracter >> 4]);
+                            escribir(HEXADECIMAL[caracter & 0xf]);
+                        } else {
+                            escribir(caracter);
+                        }
+                    }
+                }
+            }
+            escribir('"');
+        }
+
+        private void escribirEscape(char caracter) throws IOException {
+            escribir('\\');
+            escribir(caracter);
+        }
+
+        @Override
+        protected void escribirNulo() throws IOException {
+            escribir("null");
+        }
+    }
+}
@@ -7,36 +7,78 @@
  */
 package co.edu.uniquindio.poo;
 
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+import java.util.Collection;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Los contadores de victorias, empates y derrotas se guardan juntos en un solo
+ * valor atómico, de modo que varios hilos pueden registrar resultados a la vez
+ * sin bloquearse y el puntaje siempre se calcula a partir de contadores
+ * consistentes entre sí.
+ */
 public class Estadistica {
-    private int ganado;
-    private int perdido;
-    private int empatado;
-    private int puntaje;
+    private static final int BITS_CONTADOR = 21;
+    private static final long MASCARA_CONTADOR = (1L << BITS_CONTADOR) - 1;
+    private static final long UNIDAD_GANADO = 1L;
+    private static final long UNIDAD_EMPATADO = 1L << BITS_CONTADOR;
+    private static final long UNIDAD_PERDIDO = 1L << (2 * BITS_CONTADOR);
+
+    private final AtomicLong contadores;
+    private final Collection<Observador> observadores;
 
     public Estadistica() {
 
-        ganado = 0;
-        perdido = 0;
-        empatado = 0;
-        puntaje = 0;
+        contadores = new AtomicLong();
+        observadores = new CopyOnWriteArrayList<>();
+
+    }
 
+    /**
+     * Crea una estadística con los contadores dados, por ejemplo al reconstruir
+     * un torneo guardado.
+     * 
+     * @param ganado   Partidos ganados.
+     * @param empatado Partidos empatados.
+     * @param perdido  Partidos perdidos.
+     */
+    Estadistica(int ganado, int empatado, int perdido) {
+        this();
+        ASSERTION.assertion(ganado >= 0 && empatado >= 0 && perdido >= 0
+                && Math.max(ganado, Math.max(empatado, perdido)) < MASCARA_CONTADOR,
+                "Los contadores de la estadística no son válidos");
+        contadores.set(ganado * UNIDAD_GANADO + empatado * UNIDAD_EMPATADO + perdido * UNIDAD_PERDIDO);
     }
 
     public int getGanado() {
-        return ganado;
+        return ganado(contadores.get());
     }
 
     public int getPerdido() {
-        return perdido;
+        return perdido(contadores.get());
     }
 
     public int getEmpatado() {
-        return empatado;
+        return empatado(contadores.get());
     }
 
 
     public int getPuntaje() {
-        return puntaje;
+        return puntaje(contadores.get());
+    }
+
+    /**
+     * Obtiene los contadores y el puntaje leídos en un mismo instante, de modo
+     * que corresponden a los mismos resultados aunque otro hilo esté registrando
+     * un partido.
+     * 
+     * @return Valores actuales de la estadística.
+     */
+    Valores getValores() {
+        long valor = contadores.get();
+        return new Valores(ganado(valor), empatado(valor), perdido(valor), puntaje(valor));
     }
 
 
@@ -49,14 +91,63 @@ public class Estadistica {
      */
     public void actualizarEstadisticas(boolean isGanado, boolean isEmpatado, boolean isPerdido) {
         if (isGanado) {
-            ganado++;
+            sumar(UNIDAD_GANADO);
         } else if (isEmpatado) {
-            empatado++;
+            sumar(UNIDAD_EMPATADO);
         } else if (isPerdido) {
-            perdido++;
+            sumar(UNIDAD_PERDIDO);
         }
 
-        puntaje = ganado * 3 + empatado * 2 + perdido;
+        observadores.forEach(observador -> observador.estadisticaActualizada(this));
+    }
+
+    /**
+     * Suma uno al contador indicado por la unidad sin bloquear a los demás hilos
+     * que actualizan la misma estadística.
+     */
+    private void sumar(long unidad) {
+        int desplazamiento = Long.numberOfTrailingZeros(unidad);
+        long valor;
+        do {
+            valor = contadores.get();
+            ASSERTION.assertion(((valor >>> desplazamiento) & MASCARA_CONTADOR) < MASCARA_CONTADOR,
+                    "Se excedió el número máximo de partidos de la estadística");
+        } while (!contadores.compareAndSet(valor, valor + unidad));
+    }
+
+    private static int ganado(long valor) {
+        return (int) (valor & MASCARA_CONTADOR);
+    }
+
+    private static int empatado(long valor) {
+        return (int) ((valor >>> BITS_CONTADOR) & MASCARA_CONTADOR);
+    }
+
+    private static int perdido(long valor) {
+        return (int) ((valor >>> (2 * BITS_CONTADOR)) & MASCARA_CONTADOR);
+    }
+
+    private static int puntaje(long valor) {
+        return ganado(valor) * 3 + empatado(valor) * 2 + perdido(valor);
+    }
+
+    /**
+     * Agrega un observador que será notificado cada vez que se actualicen las
+     * estadísticas.
+     * 
+     * @param observador Observador a agregar.
+     */
+    void agregarObservador(Observador observador) {
+        observadores.add(observador);
+    }
+
+    /**
+     * Quita un observador de la estadística.
+     * 
+     * @param observador Observador a quitar.
+     */
+    void quitarObservador(Observador observador) {
+        observadores.remove(observador);
     }
 
     /**
@@ -66,8 +157,35 @@ public class Estadistica {
      */
     @Override
     public String toString() {
-        return puntaje + "." + "\nSus victorias fueron: " + ganado + "."
-                + "\nSus empates fueron: " + empatado + "." + "\nSus derrotas fueron: " + perdido + ".\n";
+        long valor = contadores.get();
+        return puntaje(valor) + "." + "\nSus victorias fueron: " + ganado(valor) + "."
+                + "\nSus empates fueron: " + empatado(valor) + "." + "\nSus derrotas fueron: " + perdido(valor)
+                + ".\n";
+    }
+
+    /**
+     * Contadores y puntaje de una estadística en un mismo instante.
+     * 
+     * @param ganado   Partidos ganados.
+     * @param empatado Partidos empatados.
+     * @param perdido  Partidos perdidos.
+     * @param puntaje  Puntaje calculado con los tres contadores.
+     */
+    record Valores(int ganado, int empatado, int perdido, int puntaje) {
+    }
+
+    /**
+     * Observador de los cambios en las estadísticas, permite mantener
+     * actualizada la tabla de clasificación del torneo.
+     */
+    interface Observador {
+
+        /**
+         * Notifica que las estadísticas fueron actualizadas.
+         * 
+         * @param estadistica Estadística actualizada.
+         */
+        void estadisticaActualizada(Estadistica estadistica);
     }
 
 }
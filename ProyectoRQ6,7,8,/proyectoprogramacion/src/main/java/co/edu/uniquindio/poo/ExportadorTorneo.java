@@ -0,0 +1,168 @@
+/**
+ * Clase que permite exportar la clasificación, los jugadores y los enfrentamientos de un Torneo en CSV o JSON
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * Cada exportación recorre una sola vez los datos del torneo y escribe cada
+ * fila directamente en la salida, sin armar la tabla ni las filas en memoria.
+ * Las salidas no se cierran al terminar. Las columnas de cada exportación son:
+ * <ul>
+ * <li>Clasificación: posicion, equipo, puntaje, ganado, empatado, perdido</li>
+ * <li>Jugadores: equipo, nombre, apellido, email, celular, fechaNacimiento,
+ * genero. En CSV es el mismo formato que lee {@link ImportadorCsv}</li>
+ * <li>Enfrentamientos: fecha, hora, lugar, ubicacion, visitante, local, estado,
+ * puntosVisitante, puntosLocal, resultado</li>
+ * </ul>
+ */
+public class ExportadorTorneo {
+    private static final String[] COLUMNAS_CLASIFICACION = { "posicion", "equipo", "puntaje", "ganado",
+            "empatado", "perdido" };
+    private static final String[] COLUMNAS_JUGADORES = { "equipo", "nombre", "apellido", "email", "celular",
+            "fechaNacimiento", "genero" };
+    private static final String[] COLUMNAS_ENFRENTAMIENTOS = { "fecha", "hora", "lugar", "ubicacion", "visitante",
+            "local", "estado", "puntosVisitante", "puntosLocal", "resultado" };
+
+    private final Torneo torneo;
+    private final FormatoExportacion formato;
+
+    public ExportadorTorneo(Torneo torneo, FormatoExportacion formato) {
+        ASSERTION.assertion(torneo != null, "El torneo es requerido");
+        ASSERTION.assertion(formato != null, "El formato es requerido");
+        this.torneo = torneo;
+        this.formato = formato;
+    }
+
+    /**
+     * Exporta la tabla de clasificación del torneo. Los equipos con el mismo
+     * puntaje comparten la posición.
+     *
+     * @param salida Writer donde se escribe la clasificación.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    public void exportarClasificacion(Writer salida) throws IOException {
+        var tabla = EscritorTabla.crear(formato, salida, COLUMNAS_CLASIFICACION);
+        tabla.iniciar();
+        int fila = 0;
+        int posicion = 0;
+        int puntajeAnterior = -1;
+        for (var equipo : torneo.obtenerListaEquiposClasificacionResultadosEnfrentamiento()) {
+            fila++;
+            var estadistica = equipo.getEstadistica();
+            int puntaje = estadistica == null ? 0 : estadistica.getPuntaje();
+            if (puntaje != puntajeAnterior) {
+                posicion = fila;
+                puntajeAnterior = puntaje;
+            }
+            tabla.iniciarFila();
+            tabla.entero(posicion);
+            tabla.texto(equipo.getNombre());
+            tabla.entero(puntaje);
+            tabla.entero(estadistica == null ? 0 : estadistica.getGanado());
+            tabla.entero(estadistica == null ? 0 : estadistica.getEmpatado());
+            tabla.entero(estadistica == null ? 0 : estadistica.getPerdido());
+            tabla.terminarFila();
+        }
+        tabla.terminar();
+    }
+
+    /**
+     * Exporta los jugadores de todos los equipos del torneo.
+     *
+     * @param salida Writer donde se escriben los jugadores.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    public void exportarJugadores(Writer salida) throws IOException {
+        var tabla = EscritorTabla.crear(formato, salida, COLUMNAS_JUGADORES);
+        tabla.iniciar();
+        for (var equipo : torneo.getEquipos()) {
+            for (var jugador : equipo.getJugadores()) {
+                tabla.iniciarFila();
+                tabla.texto(equipo.getNombre());
+                tabla.texto(jugador.getNombre());
+                tabla.texto(jugador.getApellido());
+                tabla.texto(jugador.getEmail());
+                tabla.celular(jugador);
+                tabla.fecha(jugador.getFechaNacimiento());
+                tabla.enumerado(jugador.getTipoGenero());
+                tabla.terminarFila();
+            }
+        }
+        tabla.terminar();
+    }
+
+    /**
+     * Exporta los enfrentamientos del torneo en el orden en que fueron
+     * registrados.
+     *
+     * @param salida Writer donde se escriben los enfrentamientos.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    public void exportarEnfrentamientos(Writer salida) throws IOException {
+        var tabla = EscritorTabla.crear(formato, salida, COLUMNAS_ENFRENTAMIENTOS);
+        tabla.iniciar();
+        for (var enfrentamiento : torneo.getEnfrentamientos()) {
+            var lugar = enfrentamiento.getLugar();
+            tabla.iniciarFila();
+            tabla.fecha(enfrentamiento.getFecha());
+            tabla.hora(enfrentamiento.getHora());
+            tabla.texto(lugar == null ? null : lugar.getNombre());
+            tabla.texto(lugar == null ? null : lugar.getUbicacion());
+            tabla.texto(enfrentamiento.getVisitante().getNombre());
+            tabla.texto(enfrentamiento.getLocal().getNombre());
+            tabla.enumerado(enfrentamiento.getEstadoEnfrentamiento());
+            tabla.entero(enfrentamiento.getPuntosVisitanteEnfrentamiento());
+            tabla.entero(enfrentamiento.getPuntosLocalEnfrentamiento());
+            tabla.enumerado(enfrentamiento.getResultado().map(ResultadoEnfrentamiento::tipo).orElse(null));
+            tabla.terminarFila();
+        }
+        tabla.terminar();
+    }
+
+    /**
+     * Exporta la tabla de clasificación del torneo en UTF-8.
+     *
+     * @param salida Flujo donde se escribe la clasificación.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    public void exportarClasificacion(OutputStream salida) throws IOException {
+        exportarClasificacion(crearWriter(salida));
+    }
+
+    /**
+     * Exporta los jugadores de todos los equipos del torneo en UTF-8.
+     *
+     * @param salida Flujo donde se escriben los jugadores.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    public void exportarJugadores(OutputStream salida) throws IOException {
+        exportarJugadores(crearWriter(salida));
+    }
+
+    /**
+     * Exporta los enfrentamientos del torneo en UTF-8.
+     *
+     * @param salida Flujo donde se escriben los enfrentamientos.
+     * @throws IOException Si ocurre un error al escribir.
+     */
+    public void exportarEnfrentamientos(OutputStream salida) throws IOException {
+        exportarEnfrentamientos(crearWriter(salida));
+    }
+
+    private static Writer crearWriter(OutputStream salida) {
+        ASSERTION.assertion(salida != null, "La salida es requerida");
+        return new OutputStreamWriter(salida, StandardCharsets.UTF_8);
+    }
+}
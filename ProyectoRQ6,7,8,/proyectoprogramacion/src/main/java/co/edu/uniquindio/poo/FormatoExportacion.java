@@ -0,0 +1,13 @@
+/**
+ * Enumeración que representa los formatos en que se pueden exportar los datos de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo;
+
+public enum FormatoExportacion {
+    CSV,
+    JSON
+}
@@ -0,0 +1,246 @@
+/**
+ * Clase que genera Torneos sintéticos para pruebas de carga y capacidad
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * Los torneos generados dependen únicamente de la semilla y de los parámetros
+ * de generación, por lo que dos generadores con la misma semilla producen los
+ * mismos datos. Cada torneo usa un reloj fijo dentro de su periodo de
+ * inscripciones, de modo que se pueden seguir registrando datos después de
+ * generarlo.
+ *
+ * Los enfrentamientos se programan en franjas de dos horas durante los 180 días
+ * siguientes al inicio del torneo. En una franja cada lugar y cada equipo tienen
+ * a lo sumo un enfrentamiento, de modo que el calendario de lugares se puede
+ * activar después con enfrentamientos de hasta dos horas.
+ */
+public class GeneradorTorneo {
+    private static final ZoneId ZONA = ZoneId.of("America/Bogota");
+    private static final LocalDate FECHA_INICIO_INSCRIPCIONES = LocalDate.of(2024, 1, 1);
+    private static final int EDAD_MINIMA = 15;
+    private static final int EDAD_MAXIMA = 40;
+    private static final int DIAS_ENFRENTAMIENTOS = 180;
+    private static final int HORA_PRIMERA_FRANJA = 8;
+    private static final int HORAS_POR_FRANJA = 2;
+    private static final int FRANJAS_POR_DIA = 7;
+    private static final int FRANJAS = DIAS_ENFRENTAMIENTOS * FRANJAS_POR_DIA;
+    private static final int INTENTOS_ENFRENTAMIENTO = 64;
+    private static final String[] NOMBRES_HOMBRE = { "Juan", "Carlos", "Andrés", "Santiago", "Daniel", "Diego",
+            "Esteban", "Felipe", "Sebastián", "Mateo", "Alejandro", "Camilo", "David", "Jorge", "Luis", "Miguel" };
+    private static final String[] NOMBRES_MUJER = { "María", "Laura", "Valentina", "Camila", "Daniela", "Sofía",
+            "Isabella", "Juliana", "Natalia", "Paula", "Sara", "Mariana", "Andrea", "Carolina", "Ana", "Lucía" };
+    private static final String[] APELLIDOS = { "García", "Rodríguez", "Martínez", "López", "González", "Pérez",
+            "Sánchez", "Ramírez", "Torres", "Flores", "Rivera", "Gómez", "Díaz", "Narváez", "Maya", "Castro",
+            "Vargas", "Ortiz", "Moreno", "Jiménez", "Rojas", "Herrera", "Medina", "Aguirre" };
+    private static final String[] CIUDADES = { "Armenia", "Pereira", "Manizales", "Cali", "Medellín", "Bogotá",
+            "Calarcá", "Montenegro", "Quimbaya", "Circasia", "Tuluá", "Cartago", "Ibagué", "Neiva" };
+    private static final String[] PREFIJOS_EQUIPO = { "Deportivo", "Atlético", "Club", "Real", "Unión",
+            "Independiente", "Juventud", "Estrella" };
+
+    private final SplittableRandom aleatorio;
+    private final Map<String, Integer> repeticionesNombre;
+
+    public GeneradorTorneo(long semilla) {
+        this.aleatorio = new SplittableRandom(semilla);
+        this.repeticionesNombre = new HashMap<>();
+    }
+
+    /**
+     * Genera un torneo con la forma y el tamaño dados.
+     * 
+     * @param tipoTorneo               Tipo del torneo.
+     * @param tipoTorneoGenero         Género del torneo, determina el género de
+     *                                 los jugadores generados.
+     * @param limiteEdad               Límite de edad del torneo, 0 si no tiene.
+     * @param equipos                  Cantidad de equipos.
+     * @param jugadoresPorEquipo       Cantidad de jugadores de cada equipo.
+     * @param jueces                   Cantidad de jueces.
+     * @param lugares                  Cantidad de lugares donde se juegan los
+     *                                 enfrentamientos.
+     * @param enfrentamientosPorEquipo Cantidad de enfrentamientos en los que
+     *                                 participa, en promedio, cada equipo.
+     * @return Torneo con los equipos, jugadores, jueces y enfrentamientos
+     *         registrados.
+     * @throws AssertionError Si no caben los enfrentamientos pedidos en las
+     *                        franjas libres de los lugares y equipos.
+     */
+    public Torneo generar(TipoTorneo tipoTorneo, TipoTorneoGenero tipoTorneoGenero, byte limiteEdad, int equipos,
+            int jugadoresPorEquipo, int jueces, int lugares, int enfrentamientosPorEquipo) {
+        ASSERTION.assertion(equipos >= 0 && jugadoresPorEquipo >= 0 && jueces >= 0 && enfrentamientosPorEquipo >= 0,
+                "Las cantidades no pueden ser negativas");
+        ASSERTION.assertion(enfrentamientosPorEquipo == 0 || (equipos >= 2 && lugares > 0),
+                "Para generar enfrentamientos se requieren al menos dos equipos y un lugar");
+        long cantidadEnfrentamientos = (long) equipos * enfrentamientosPorEquipo / 2;
+        // En cada franja caben tantos enfrentamientos como lugares, y cada equipo juega
+        // a lo sumo uno
+        ASSERTION.assertion(cantidadEnfrentamientos <= (long) Math.min(lugares, equipos / 2) * FRANJAS,
+                "No hay suficientes franjas para los enfrentamientos pedidos");
+
+        var fechaCierreInscripciones = FECHA_INICIO_INSCRIPCIONES.plusDays(60);
+        var fechaInicio = FECHA_INICIO_INSCRIPCIONES.plusDays(90);
+        var reloj = Clock.fixed(FECHA_INICIO_INSCRIPCIONES.plusDays(30).atTime(12, 0).atZone(ZONA).toInstant(),
+                ZONA);
+        var torneo = new Torneo("Torneo " + tipoTorneo + " " + tipoTorneoGenero, fechaInicio,
+                FECHA_INICIO_INSCRIPCIONES, fechaCierreInscripciones, (byte) 0, limiteEdad, 0, tipoTorneo,
+                tipoTorneoGenero, reloj);
+
+        var equiposGenerados = new ArrayList<Equipo>(equipos);
+        for (int i = 0; i < equipos; i++) {
+            var equipo = new Equipo(elegir(PREFIJOS_EQUIPO) + " " + elegir(CIUDADES) + " " + (i + 1),
+                    generarPersona(), new Estadistica());
+            torneo.registrarEquipo(equipo);
+            equiposGenerados.add(equipo);
+        }
+        int edadMaxima = limiteEdad == 0 ? EDAD_MAXIMA : limiteEdad;
+        int edadMinima = Math.min(EDAD_MINIMA, edadMaxima);
+        repeticionesNombre.clear();
+        for (var equipo : equiposGenerados) {
+            for (int i = 0; i < jugadoresPorEquipo; i++) {
+                torneo.registrarJugador(equipo,
+                        generarJugador(tipoTorneoGenero, fechaInicio, edadMinima, edadMaxima));
+            }
+        }
+
+        var juecesGenerados = new ArrayList<Juez>(jueces);
+        for (int i = 0; i < jueces; i++) {
+            var persona = generarPersona();
+            var juez = new Juez(persona.getNombre(), persona.getApellido(), persona.getEmail(), persona.getCelular(),
+                    "LIC-" + (i + 1));
+            torneo.registrarJuez(juez);
+            juecesGenerados.add(juez);
+        }
+
+        var lugaresGenerados = new ArrayList<Lugar>(lugares);
+        for (int i = 0; i < lugares; i++) {
+            lugaresGenerados.add(new Lugar("Estadio " + (i + 1), elegir(CIUDADES)));
+        }
+
+        if (cantidadEnfrentamientos > 0) {
+            var franjasEquipo = new BitSet(Math.multiplyExact(equipos, FRANJAS));
+            var franjasLugar = new BitSet(Math.multiplyExact(lugares, FRANJAS));
+            for (long i = 0; i < cantidadEnfrentamientos; i++) {
+                var enfrentamiento = generarEnfrentamiento(equiposGenerados, lugaresGenerados, juecesGenerados,
+                        franjasEquipo, franjasLugar, fechaInicio, reloj);
+                ASSERTION.assertion(enfrentamiento != null, "No hay franjas libres para más enfrentamientos");
+                torneo.registrarEnfrentamiento(enfrentamiento);
+            }
+        }
+        return torneo;
+    }
+
+    /**
+     * Genera un enfrentamiento entre dos equipos al azar en una franja en que
+     * ambos equipos y algún lugar están libres. La franja y el lugar se buscan
+     * desde una posición al azar, y si los equipos elegidos no tienen ninguna
+     * franja libre en común se eligen otros, un número limitado de veces.
+     *
+     * @return El enfrentamiento generado, o null si no se encontró una franja
+     *         libre.
+     */
+    private Enfrentamiento generarEnfrentamiento(List<Equipo> equipos, List<Lugar> lugares, List<Juez> jueces,
+            BitSet franjasEquipo, BitSet franjasLugar, LocalDate fechaInicio, Clock reloj) {
+        for (int intento = 0; intento < INTENTOS_ENFRENTAMIENTO; intento++) {
+            int visitante = aleatorio.nextInt(equipos.size());
+            int local = (visitante + 1 + aleatorio.nextInt(equipos.size() - 1)) % equipos.size();
+            int primeraFranja = aleatorio.nextInt(FRANJAS);
+            int primerLugar = aleatorio.nextInt(lugares.size());
+            for (int i = 0; i < FRANJAS; i++) {
+                int franja = (primeraFranja + i) % FRANJAS;
+                if (franjasEquipo.get(visitante * FRANJAS + franja) || franjasEquipo.get(local * FRANJAS + franja)) {
+                    continue;
+                }
+                int lugar = buscarLugarLibre(franjasLugar, franja, primerLugar, lugares.size());
+                if (lugar < 0) {
+                    continue;
+                }
+                franjasEquipo.set(visitante * FRANJAS + franja);
+                franjasEquipo.set(local * FRANJAS + franja);
+                franjasLugar.set(lugar * FRANJAS + franja);
+                var enfrentamiento = new Enfrentamiento(fechaInicio.plusDays(franja / FRANJAS_POR_DIA),
+                        LocalTime.of(HORA_PRIMERA_FRANJA + franja % FRANJAS_POR_DIA * HORAS_POR_FRANJA, 0),
+                        lugares.get(lugar), equipos.get(visitante), equipos.get(local), reloj);
+                if (!jueces.isEmpty()) {
+                    enfrentamiento.registrarJuez(jueces.get(aleatorio.nextInt(jueces.size())));
+                }
+                return enfrentamiento;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Busca un lugar libre en la franja dada, empezando por el lugar dado.
+     *
+     * @return La posición del lugar libre, o -1 si todos están ocupados.
+     */
+    private static int buscarLugarLibre(BitSet franjasLugar, int franja, int primerLugar, int lugares) {
+        for (int i = 0; i < lugares; i++) {
+            int lugar = (primerLugar + i) % lugares;
+            if (!franjasLugar.get(lugar * FRANJAS + franja)) {
+                return lugar;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Genera un jugador con nombre y apellido de uso común. Cuando el nombre y
+     * apellido ya fueron generados se agrega un número al apellido para que el
+     * jugador no quede repetido en el torneo.
+     */
+    private Jugador generarJugador(TipoTorneoGenero tipoTorneoGenero, LocalDate fechaInicio, int edadMinima,
+            int edadMaxima) {
+        var tipoGenero = switch (tipoTorneoGenero) {
+            case HOMBRES -> TipoGenero.HOMBRE;
+            case MUJERES -> TipoGenero.MUJER;
+            case MIXTO -> aleatorio.nextBoolean() ? TipoGenero.HOMBRE : TipoGenero.MUJER;
+        };
+        String nombre = elegir(tipoGenero == TipoGenero.HOMBRE ? NOMBRES_HOMBRE : NOMBRES_MUJER);
+        String apellido = elegir(APELLIDOS) + " " + elegir(APELLIDOS);
+        int repeticiones = repeticionesNombre.merge(nombre + " " + apellido, 1, Integer::sum);
+        if (repeticiones > 1) {
+            apellido += " " + repeticiones;
+        }
+        int edad = edadMinima + aleatorio.nextInt(edadMaxima - edadMinima + 1);
+        var fechaNacimiento = fechaInicio.minusYears(edad).minusDays(aleatorio.nextInt(360));
+        return new Jugador(nombre, apellido, generarEmail(nombre, apellido), generarCelular(), fechaNacimiento,
+                tipoGenero);
+    }
+
+    private Persona generarPersona() {
+        String nombre = elegir(aleatorio.nextBoolean() ? NOMBRES_HOMBRE : NOMBRES_MUJER);
+        String apellido = elegir(APELLIDOS);
+        return new Persona(nombre, apellido, generarEmail(nombre, apellido), generarCelular());
+    }
+
+    private String generarEmail(String nombre, String apellido) {
+        return (nombre.charAt(0) + apellido.replace(" ", "")).toLowerCase() + aleatorio.nextInt(10_000)
+                + "@email.com";
+    }
+
+    private String generarCelular() {
+        return "3" + (100_000_000 + aleatorio.nextInt(900_000_000));
+    }
+
+    private String elegir(String[] opciones) {
+        return opciones[aleatorio.nextInt(opciones.length)];
+    }
+}
@@ -0,0 +1,289 @@
+/**
+ * Clase que permite importar equipos, jugadores y jueces a un Torneo desde archivos CSV
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * Los archivos se leen registro a registro y se procesan en lotes de tamaño
+ * fijo, por lo que la memoria usada no depende del tamaño del archivo. Un
+ * registro ocupa varias líneas si tiene campos entre comillas con saltos de
+ * línea, como los que escribe {@link ExportadorTorneo}, y sus errores se
+ * reportan con la línea en que empieza. Las fechas de inscripción se validan
+ * una sola vez por lote y cada fila se valida contra los índices del torneo. El
+ * primer registro de cada archivo es el encabezado y se omite. Los formatos
+ * esperados son:
+ * <ul>
+ * <li>Equipos: nombre, nombre del representante, apellido del representante,
+ * email del representante, celular del representante</li>
+ * <li>Jugadores: nombre del equipo, nombre, apellido, email, celular, fecha de
+ * nacimiento (AAAA-MM-DD), género (HOMBRE o MUJER)</li>
+ * <li>Jueces: nombre, apellido, email, celular, licencia</li>
+ * </ul>
+ */
+public class ImportadorCsv {
+    private static final int TAMANO_LOTE_POR_DEFECTO = 1_000;
+
+    private final Torneo torneo;
+    private final int tamanoLote;
+
+    public ImportadorCsv(Torneo torneo) {
+        this(torneo, TAMANO_LOTE_POR_DEFECTO);
+    }
+
+    public ImportadorCsv(Torneo torneo, int tamanoLote) {
+        ASSERTION.assertion(torneo != null, "El torneo es requerido");
+        ASSERTION.assertion(tamanoLote > 0, "El tamaño del lote debe ser positivo");
+        this.torneo = torneo;
+        this.tamanoLote = tamanoLote;
+    }
+
+    /**
+     * Importa los equipos del archivo dado y los registra en el torneo.
+     * 
+     * @param lector Lector del archivo CSV de equipos.
+     * @return Reporte con la cantidad de equipos registrados y los errores por
+     *         fila.
+     * @throws IOException Si ocurre un error al leer el archivo.
+     */
+    public ReporteImportacion importarEquipos(Reader lector) throws IOException {
+        return importar(lector, 5, torneo::validarInscripciopnesAbiertas, campos -> {
+            var representante = new Persona(campos[1], campos[2], campos[3], campos[4]);
+            torneo.inscribirEquipo(new Equipo(campos[0], representante, new Estadistica()));
+        });
+    }
+
+    /**
+     * Importa los jugadores del archivo dado y los registra en los equipos del
+     * torneo.
+     * 
+     * @param lector Lector del archivo CSV de jugadores.
+     * @return Reporte con la cantidad de jugadores registrados y los errores por
+     *         fila.
+     * @throws IOException Si ocurre un error al leer el archivo.
+     */
+    public ReporteImportacion importarJugadores(Reader lector) throws IOException {
+        return importar(lector, 7, torneo::validarRegistroJugadoresAbierto, campos -> {
+            var equipo = torneo.buscarEquipoPorNombre(campos[0]);
+            ASSERTION.assertion(equipo.isPresent(), "El equipo " + campos[0] + " no esta registrado");
+            var jugador = new Jugador(campos[1], campos[2], campos[3], campos[4], leerFechaNacimiento(campos[5]),
+                    leerGenero(campos[6]));
+            torneo.inscribirJugador(equipo.get(), jugador);
+        });
+    }
+
+    /**
+     * Importa los jueces del archivo dado y los registra en el torneo.
+     * 
+     * @param lector Lector del archivo CSV de jueces.
+     * @return Reporte con la cantidad de jueces registrados y los errores por
+     *         fila.
+     * @throws IOException Si ocurre un error al leer el archivo.
+     */
+    public ReporteImportacion importarJueces(Reader lector) throws IOException {
+        return importar(lector, 5, () -> {
+        }, campos -> torneo.registrarJuez(new Juez(campos[0], campos[1], campos[2], campos[3], campos[4])));
+    }
+
+    /**
+     * Lee el archivo en lotes, valida cada lote y registra cada fila, anotando en
+     * el reporte los errores de las filas que no se pudieron registrar.
+     */
+    private ReporteImportacion importar(Reader lector, int columnas, Runnable validacionLote,
+            Consumer<String[]> registro) throws IOException {
+        var reporte = new ReporteImportacion();
+        var lectorRegistros = new LectorRegistros(lector);
+        var lote = new ArrayList<String[]>(tamanoLote);
+        var lineas = new long[tamanoLote];
+        lectorRegistros.leer();
+        String[] campos;
+        while ((campos = lectorRegistros.leer()) != null) {
+            lineas[lote.size()] = lectorRegistros.getLinea();
+            lote.add(campos);
+            if (lote.size() == tamanoLote) {
+                procesarLote(lote, lineas, columnas, validacionLote, registro, reporte);
+                lote.clear();
+            }
+        }
+        procesarLote(lote, lineas, columnas, validacionLote, registro, reporte);
+        return reporte;
+    }
+
+    private void procesarLote(List<String[]> lote, long[] lineas, int columnas, Runnable validacionLote,
+            Consumer<String[]> registro, ReporteImportacion reporte) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        try {
+            validacionLote.run();
+        } catch (RuntimeException e) {
+            for (int i = 0; i < lote.size(); i++) {
+                reporte.agregarError(lineas[i], e.getMessage());
+            }
+            return;
+        }
+        for (int i = 0; i < lote.size(); i++) {
+            var campos = lote.get(i);
+            if (campos.length == 1 && campos[0].isEmpty()) {
+                continue;
+            }
+            try {
+                ASSERTION.assertion(campos.length == columnas,
+                        "Se esperaban " + columnas + " columnas y se encontraron " + campos.length);
+                registro.accept(campos);
+                reporte.agregarRegistrado();
+            } catch (RuntimeException e) {
+                reporte.agregarError(lineas[i], e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Convierte el texto de una fecha de nacimiento en AAAA-MM-DD.
+     */
+    private static LocalDate leerFechaNacimiento(String texto) {
+        try {
+            return LocalDate.parse(texto);
+        } catch (DateTimeParseException e) {
+            ASSERTION.assertion(false, "La fecha de nacimiento " + texto + " no tiene el formato AAAA-MM-DD");
+            return null;
+        }
+    }
+
+    /**
+     * Convierte el texto de un género en uno de los valores de TipoGenero.
+     */
+    private static TipoGenero leerGenero(String texto) {
+        try {
+            return TipoGenero.valueOf(texto);
+        } catch (IllegalArgumentException e) {
+            ASSERTION.assertion(false, "El género debe ser HOMBRE o MUJER y se encontró '" + texto + "'");
+            return null;
+        }
+    }
+
+    /**
+     * Lee los registros de un archivo CSV carácter a carácter. Los campos pueden
+     * estar entre comillas dobles, en cuyo caso pueden contener comas, comillas
+     * dobles repetidas y saltos de línea, que se conservan tal como están en el
+     * archivo. Fuera de las comillas, un salto de línea \n, \r\n o \r termina el
+     * registro. Los espacios al inicio y al final de un campo se descartan, salvo
+     * los que están entre comillas.
+     */
+    static final class LectorRegistros {
+        private final PushbackReader lector;
+        private final StringBuilder campo;
+        private final List<String> campos;
+        private long siguienteLinea;
+        private long linea;
+        private boolean campoCitado;
+
+        LectorRegistros(Reader lector) {
+            this.lector = new PushbackReader(
+                    lector instanceof BufferedReader buffered ? buffered : new BufferedReader(lector), 1);
+            this.campo = new StringBuilder();
+            this.campos = new ArrayList<>();
+            this.siguienteLinea = 1;
+        }
+
+        /**
+         * Obtiene el número de la línea del archivo en que empieza el último
+         * registro leído, empezando en 1.
+         */
+        long getLinea() {
+            return linea;
+        }
+
+        /**
+         * Lee el siguiente registro.
+         *
+         * @return Los campos del registro, o null si no hay más registros.
+         * @throws IOException Si ocurre un error al leer el archivo.
+         */
+        String[] leer() throws IOException {
+            int caracter = lector.read();
+            if (caracter == -1) {
+                return null;
+            }
+            linea = siguienteLinea;
+            campos.clear();
+            campo.setLength(0);
+            campoCitado = false;
+            boolean entreComillas = false;
+            while (caracter != -1) {
+                if (entreComillas) {
+                    if (caracter == '"') {
+                        int proximo = lector.read();
+                        if (proximo == '"') {
+                            campo.append('"');
+                        } else {
+                            entreComillas = false;
+                            desleer(proximo);
+                        }
+                    } else {
+                        campo.append((char) caracter);
+                        if (caracter == '\n' || caracter == '\r' && !siguienteEs('\n')) {
+                            siguienteLinea++;
+                        }
+                    }
+                } else if (caracter == '"') {
+                    if (!campoCitado && campo.toString().isBlank()) {
+                        campo.setLength(0);
+                    }
+                    campoCitado = true;
+                    entreComillas = true;
+                } else if (caracter == ',') {
+                    terminarCampo();
+                } else if (caracter == '\n' || caracter == '\r') {
+                    siguienteLinea++;
+                    if (caracter == '\r' && siguienteEs('\n')) {
+                        lector.read();
+                    }
+                    break;
+                } else if (!campoCitado || !Character.isWhitespace(caracter)) {
+                    campo.append((char) caracter);
+                }
+                caracter = lector.read();
+            }
+            terminarCampo();
+            return campos.toArray(String[]::new);
+        }
+
+        /**
+         * Agrega el campo leído al registro. Un campo sin comillas se recorta; uno
+         * entre comillas se conserva tal como está en el archivo.
+         */
+        private void terminarCampo() {
+            campos.add(campoCitado ? campo.toString() : campo.toString().trim());
+            campo.setLength(0);
+            campoCitado = false;
+        }
+
+        private boolean siguienteEs(char esperado) throws IOException {
+            int proximo = lector.read();
+            desleer(proximo);
+            return proximo == esperado;
+        }
+
+        private void desleer(int caracter) throws IOException {
+            if (caracter != -1) {
+                lector.unread(caracter);
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * Clase que indexa los enfrentamientos de un Torneo por su clave natural
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * Los enfrentamientos se agrupan primero por fecha y dentro de cada fecha por
+ * su clave completa. Un fixture se registra fecha por fecha, así que cada
+ * grupo se llena de una vez y se mantiene pequeño, en lugar de repartir los
+ * enfrentamientos de todo el torneo en una sola tabla muy grande. Los
+ * enfrentamientos sin fecha forman su propio grupo.
+ * <p>
+ * Cada grupo se bloquea por separado, de modo que se pueden reservar a la vez
+ * claves de fechas distintas, y un lote reserva todas las claves seguidas de
+ * una misma fecha con un solo bloqueo del grupo.
+ */
+class IndiceEnfrentamientos {
+    private static final LocalDate SIN_FECHA = LocalDate.MIN;
+
+    private final Map<LocalDate, Map<Enfrentamiento.Clave, Enfrentamiento>> enfrentamientosPorFecha;
+
+    IndiceEnfrentamientos() {
+        this.enfrentamientosPorFecha = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Reserva una clave para un enfrentamiento, si la clave está libre.
+     *
+     * @param clave          Clave a reservar.
+     * @param enfrentamiento Enfrentamiento que toma la clave.
+     * @return Enfrentamiento que ya tenía la clave, o null si quedó reservada.
+     */
+    Enfrentamiento reservar(Enfrentamiento.Clave clave, Enfrentamiento enfrentamiento) {
+        var grupo = obtenerGrupo(clave.fecha(), 0);
+        synchronized (grupo) {
+            return grupo.putIfAbsent(clave, enfrentamiento);
+        }
+    }
+
+    /**
+     * Reserva las claves de un lote de enfrentamientos, o ninguna si alguna ya
+     * está reservada.
+     *
+     * @param lote   Enfrentamientos que toman las claves.
+     * @param claves Arreglo del tamaño del lote donde se dejan las claves
+     *               reservadas, para liberarlas después con
+     *               {@link #liberarTodos}.
+     * @throws AssertionError Si algún enfrentamiento es null o alguna clave ya
+     *                        está reservada, incluso por otro enfrentamiento
+     *                        del lote.
+     */
+    void reservarTodos(List<Enfrentamiento> lote, Enfrentamiento.Clave[] claves) {
+        int reservadas = 0;
+        try {
+            while (reservadas < lote.size()) {
+                ASSERTION.assertion(lote.get(reservadas) != null, "El enfrentamiento es requerido");
+                int fin = finTramo(lote, reservadas);
+                var grupo = obtenerGrupo(lote.get(reservadas).getFecha(), fin - reservadas);
+                synchronized (grupo) {
+                    for (; reservadas < fin; reservadas++) {
+                        var enfrentamiento = lote.get(reservadas);
+                        var clave = enfrentamiento.getClave();
+                        ASSERTION.assertion(grupo.putIfAbsent(clave, enfrentamiento) == null,
+                                "El enfrentamiento ya esta registrado");
+                        claves[reservadas] = clave;
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            liberarTodos(lote, claves, reservadas);
+            throw e;
+        }
+    }
+
+    /**
+     * Libera una clave, solo si la tiene el enfrentamiento dado.
+     *
+     * @param clave          Clave a liberar.
+     * @param enfrentamiento Enfrentamiento que tiene la clave.
+     */
+    void liberar(Enfrentamiento.Clave clave, Enfrentamiento enfrentamiento) {
+        var grupo = enfrentamientosPorFecha.get(fecha(clave.fecha()));
+        if (grupo != null) {
+            synchronized (grupo) {
+                grupo.remove(clave, enfrentamiento);
+            }
+        }
+    }
+
+    /**
+     * Libera las primeras claves reservadas con {@link #reservarTodos}.
+     *
+     * @param lote     Enfrentamientos que tienen las claves.
+     * @param claves   Claves reservadas para el lote.
+     * @param cantidad Cantidad de claves a liberar.
+     */
+    void liberarTodos(List<Enfrentamiento> lote, Enfrentamiento.Clave[] claves, int cantidad) {
+        for (int i = 0; i < cantidad; i++) {
+            liberar(claves[i], lote.get(i));
+        }
+    }
+
+    /**
+     * Busca el enfrentamiento que tiene una clave.
+     *
+     * @param clave Clave a buscar.
+     * @return Enfrentamiento con la clave, o null si la clave está libre.
+     */
+    Enfrentamiento buscar(Enfrentamiento.Clave clave) {
+        var grupo = enfrentamientosPorFecha.get(fecha(clave.fecha()));
+        if (grupo == null) {
+            return null;
+        }
+        synchronized (grupo) {
+            return grupo.get(clave);
+        }
+    }
+
+    /**
+     * Obtiene el grupo de una fecha, creándolo con espacio para la cantidad dada
+     * de claves si aún no existe.
+     */
+    private Map<Enfrentamiento.Clave, Enfrentamiento> obtenerGrupo(LocalDate fecha, int cantidad) {
+        return enfrentamientosPorFecha.computeIfAbsent(fecha(fecha),
+                f -> new HashMap<>(Math.max(16, cantidad * 4 / 3 + 1)));
+    }
+
+    /**
+     * Busca el final del tramo de enfrentamientos seguidos con la misma fecha que
+     * empieza en la posición dada.
+     */
+    private static int finTramo(List<Enfrentamiento> lote, int inicio) {
+        var fecha = lote.get(inicio).getFecha();
+        int fin = inicio + 1;
+        while (fin < lote.size() && lote.get(fin) != null && Objects.equals(lote.get(fin).getFecha(), fecha)) {
+            fin++;
+        }
+        return fin;
+    }
+
+    private static LocalDate fecha(LocalDate fecha) {
+        return fecha == null ? SIN_FECHA : fecha;
+    }
+}
@@ -0,0 +1,425 @@
+/**
+ * Clase que guarda y carga el estado completo de un Torneo en un archivo binario
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * La instantánea guarda en un solo archivo los datos del torneo, sus equipos
+ * con sus jugadores y estadísticas, sus jueces y sus enfrentamientos. Los
+ * textos se guardan una sola vez en una tabla al inicio del archivo y el resto
+ * de los datos se refieren a ellos por su posición; las fechas se guardan como
+ * días desde 1970-01-01 y los enumerados como un byte. Los equipos, jueces y
+ * lugares compartidos por varios enfrentamientos también se guardan una sola
+ * vez, y al cargar la instantánea se vuelven a compartir.
+ *
+ * Una instantánea guardada por una {@link BitacoraTorneo} lleva además la
+ * posición de la bitácora en ese momento, y sus enfrentamientos quedan en el
+ * orden de la bitácora, de modo que al recuperar el torneo solo se aplican los
+ * registros posteriores.
+ *
+ * Para cargarla, el archivo se proyecta en memoria y se lee una sola vez de
+ * principio a fin, reconstruyendo el torneo por los caminos que no validan la
+ * fecha actual ni vuelven a calcular las estadísticas.
+ */
+public class InstantaneaTorneo {
+    private static final int MARCA = 0x49544f52;
+    private static final short VERSION = 1;
+    private static final int NULO = -1;
+    private static final TipoTorneo[] TIPOS_TORNEO = TipoTorneo.values();
+    private static final TipoTorneoGenero[] TIPOS_TORNEO_GENERO = TipoTorneoGenero.values();
+    private static final TipoGenero[] GENEROS = TipoGenero.values();
+    private static final EstadoEnfrentamiento[] ESTADOS = EstadoEnfrentamiento.values();
+    private static final TipoResultado[] TIPOS_RESULTADO = TipoResultado.values();
+
+    private InstantaneaTorneo() {
+    }
+
+    /**
+     * Guarda el estado completo del torneo. El archivo se escribe primero en un
+     * archivo temporal que luego lo reemplaza, de modo que una instantánea
+     * anterior nunca queda a medio escribir. Mientras se guarda se bloquean los
+     * cambios del torneo.
+     *
+     * @param torneo  Torneo a guardar.
+     * @param archivo Archivo de la instantánea.
+     * @throws IOException Si no se puede escribir el archivo.
+     */
+    public static void guardar(Torneo torneo, Path archivo) throws IOException {
+        ASSERTION.assertion(torneo != null, "El torneo es requerido");
+        torneo.ejecutarSinCambios(
+                () -> guardar(torneo, archivo, List.copyOf(torneo.getEnfrentamientos()), null));
+    }
+
+    /**
+     * Guarda el estado completo del torneo con sus enfrentamientos en el orden
+     * dado y la posición de su bitácora.
+     *
+     * @param posicionBitacora Posición de la bitácora del torneo, o null si no
+     *                         tiene bitácora.
+     */
+    static void guardar(Torneo torneo, Path archivo, List<Enfrentamiento> enfrentamientos,
+            BitacoraTorneo.Posicion posicionBitacora) throws IOException {
+        ASSERTION.assertion(archivo != null, "El archivo es requerido");
+
+        var escritura = new Escritura();
+        escritura.escribirTorneo(torneo, enfrentamientos);
+
+        var temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        try (var salida = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporal), 1 << 16))) {
+            salida.writeInt(MARCA);
+            salida.writeShort(VERSION);
+            salida.writeLong(posicionBitacora == null ? NULO : posicionBitacora.bytes());
+            salida.writeLong(posicionBitacora == null ? NULO : posicionBitacora.registros());
+            salida.writeInt(escritura.textos.size());
+            for (var texto : escritura.textos) {
+                var bytes = texto.getBytes(StandardCharsets.UTF_8);
+                salida.writeInt(bytes.length);
+                salida.write(bytes);
+            }
+            escritura.cuerpo.writeTo(salida);
+        }
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Carga un torneo guardado, que toma la fecha actual del reloj del sistema.
+     *
+     * @param archivo Archivo de la instantánea.
+     * @return Torneo con todos sus datos.
+     * @throws IOException Si no se puede leer el archivo.
+     */
+    public static Torneo cargar(Path archivo) throws IOException {
+        return cargar(archivo, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Carga un torneo guardado, que toma la fecha actual del reloj dado.
+     *
+     * @param archivo Archivo de la instantánea.
+     * @param reloj   Reloj del torneo y de sus enfrentamientos.
+     * @return Torneo con todos sus datos.
+     * @throws IOException    Si no se puede leer el archivo.
+     * @throws AssertionError Si el archivo no es una instantánea compatible.
+     */
+    public static Torneo cargar(Path archivo, Clock reloj) throws IOException {
+        return cargarContenido(archivo, reloj).torneo();
+    }
+
+    /**
+     * Carga un torneo guardado junto con la posición de su bitácora.
+     */
+    static Contenido cargarContenido(Path archivo, Clock reloj) throws IOException {
+        ASSERTION.assertion(archivo != null, "El archivo es requerido");
+        ASSERTION.assertion(reloj != null, "El reloj es requerido");
+        try (var canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            var datos = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            var lectura = new Lectura(datos, reloj);
+            var torneo = lectura.leerTorneo();
+            return new Contenido(torneo, lectura.posicionBitacora);
+        }
+    }
+
+    /**
+     * Torneo cargado y posición de su bitácora, que es null si la instantánea no
+     * se guardó desde una bitácora.
+     */
+    record Contenido(Torneo torneo, BitacoraTorneo.Posicion posicionBitacora) {
+    }
+
+    /**
+     * Escribe el cuerpo de la instantánea mientras arma la tabla de textos.
+     */
+    private static final class Escritura {
+        private final List<String> textos = new ArrayList<>();
+        private final Map<String, Integer> indicesTexto = new HashMap<>();
+        private final ByteArrayOutputStream cuerpo = new ByteArrayOutputStream(1 << 16);
+        private final DataOutputStream salida = new DataOutputStream(cuerpo);
+
+        private void escribirTorneo(Torneo torneo, List<Enfrentamiento> enfrentamientos) throws IOException {
+            salida.writeInt(texto(torneo.getNombre()));
+            salida.writeInt(dias(torneo.getFechaInicio()));
+            salida.writeInt(dias(torneo.getFechaInicioInscripciones()));
+            salida.writeInt(dias(torneo.getFechaCierreInscripciones()));
+            salida.writeByte(torneo.getNumeroParticipantes());
+            salida.writeByte(torneo.getLimiteEdad());
+            salida.writeInt(torneo.getValorInscripcion());
+            salida.writeByte(ordinal(torneo.getTipoTorneo()));
+            salida.writeByte(ordinal(torneo.getTipoTorneoGenero()));
+
+            // Primero los equipos y jueces del torneo, y luego los que solo aparecen en
+            // sus enfrentamientos
+            var equipos = new Indice<Equipo>();
+            var jueces = new Indice<Juez>();
+            var lugares = new Indice<Lugar>();
+            torneo.getEquipos().forEach(equipos::agregar);
+            torneo.getJueces().forEach(jueces::agregar);
+            int equiposInscritos = equipos.objetos.size();
+            int juecesInscritos = jueces.objetos.size();
+            for (var enfrentamiento : enfrentamientos) {
+                equipos.agregar(enfrentamiento.getVisitante());
+                equipos.agregar(enfrentamiento.getLocal());
+                enfrentamiento.getJueces().forEach(jueces::agregar);
+                if (enfrentamiento.getLugar() != null) {
+                    lugares.agregar(enfrentamiento.getLugar());
+                }
+            }
+
+            salida.writeInt(equipos.objetos.size());
+            salida.writeInt(equiposInscritos);
+            for (var equipo : equipos.objetos) {
+                escribirEquipo(equipo);
+            }
+            salida.writeInt(jueces.objetos.size());
+            salida.writeInt(juecesInscritos);
+            for (var juez : jueces.objetos) {
+                escribirPersona(juez);
+                salida.writeInt(texto(juez.getLicenciaJuez()));
+            }
+            salida.writeInt(lugares.objetos.size());
+            for (var lugar : lugares.objetos) {
+                salida.writeInt(texto(lugar.getNombre()));
+                salida.writeInt(texto(lugar.getUbicacion()));
+            }
+            salida.writeInt(enfrentamientos.size());
+            for (var enfrentamiento : enfrentamientos) {
+                escribirEnfrentamiento(enfrentamiento, equipos, jueces, lugares);
+            }
+        }
+
+        private void escribirEquipo(Equipo equipo) throws IOException {
+            salida.writeInt(texto(equipo.getNombre()));
+            escribirPersona(equipo.getRepresentante());
+            var estadistica = equipo.getEstadistica();
+            salida.writeBoolean(estadistica != null);
+            if (estadistica != null) {
+                salida.writeInt(estadistica.getGanado());
+                salida.writeInt(estadistica.getEmpatado());
+                salida.writeInt(estadistica.getPerdido());
+            }
+            var jugadores = List.copyOf(equipo.getJugadores());
+            salida.writeInt(jugadores.size());
+            for (var jugador : jugadores) {
+                escribirPersona(jugador);
+                salida.writeInt(dias(jugador.getFechaNacimiento()));
+                salida.writeByte(ordinal(jugador.getTipoGenero()));
+            }
+        }
+
+        private void escribirEnfrentamiento(Enfrentamiento enfrentamiento, Indice<Equipo> equipos,
+                Indice<Juez> jueces, Indice<Lugar> lugares) throws IOException {
+            salida.writeInt(dias(enfrentamiento.getFecha()));
+            var hora = enfrentamiento.getHora();
+            salida.writeLong(hora == null ? NULO : hora.toNanoOfDay());
+            var lugar = enfrentamiento.getLugar();
+            salida.writeInt(lugar == null ? NULO : lugares.posicion(lugar));
+            salida.writeInt(equipos.posicion(enfrentamiento.getVisitante()));
+            salida.writeInt(equipos.posicion(enfrentamiento.getLocal()));
+            salida.writeByte(ordinal(enfrentamiento.getEstadoEnfrentamiento()));
+            salida.writeInt(enfrentamiento.getPuntosVisitanteEnfrentamiento());
+            salida.writeInt(enfrentamiento.getPuntosLocalEnfrentamiento());
+            var resultado = enfrentamiento.getResultado().orElse(null);
+            salida.writeByte(resultado == null ? NULO : resultado.tipo().ordinal());
+            if (resultado != null) {
+                salida.writeInt(resultado.puntosVisitante());
+                salida.writeInt(resultado.puntosLocal());
+            }
+            var juecesEnfrentamiento = List.copyOf(enfrentamiento.getJueces());
+            salida.writeInt(juecesEnfrentamiento.size());
+            for (var juez : juecesEnfrentamiento) {
+                salida.writeInt(jueces.posicion(juez));
+            }
+        }
+
+        private void escribirPersona(Persona persona) throws IOException {
+            salida.writeInt(texto(persona.getNombre()));
+            salida.writeInt(texto(persona.getApellido()));
+            salida.writeInt(texto(persona.getEmail()));
+            salida.writeInt(texto(persona.getCelular()));
+        }
+
+        /**
+         * Obtiene la posición del texto en la tabla de textos, agregándolo si es la
+         * primera vez que aparece.
+         */
+        private int texto(String texto) {
+            if (texto == null) {
+                return NULO;
+            }
+            var indice = indicesTexto.get(texto);
+            if (indice == null) {
+                indice = textos.size();
+                indicesTexto.put(texto, indice);
+                textos.add(texto);
+            }
+            return indice;
+        }
+
+        private static int dias(LocalDate fecha) {
+            return fecha == null ? Integer.MIN_VALUE : Math.toIntExact(fecha.toEpochDay());
+        }
+
+        private static int ordinal(Enum<?> valor) {
+            return valor == null ? NULO : valor.ordinal();
+        }
+    }
+
+    /**
+     * Posiciones de objetos distintos, en el orden en que se agregaron.
+     */
+    private static final class Indice<T> {
+        private final List<T> objetos = new ArrayList<>();
+        private final Map<T, Integer> posiciones = new IdentityHashMap<>();
+
+        private void agregar(T objeto) {
+            if (posiciones.putIfAbsent(objeto, objetos.size()) == null) {
+                objetos.add(objeto);
+            }
+        }
+
+        private int posicion(T objeto) {
+            return posiciones.get(objeto);
+        }
+    }
+
+    /**
+     * Reconstruye el torneo leyendo la instantánea en orden.
+     */
+    private static final class Lectura {
+        private final ByteBuffer datos;
+        private final Clock reloj;
+        private BitacoraTorneo.Posicion posicionBitacora;
+        private String[] textos;
+        private byte[] bytesTexto;
+
+        private Lectura(ByteBuffer datos, Clock reloj) {
+            this.datos = datos;
+            this.reloj = reloj;
+            this.bytesTexto = new byte[64];
+        }
+
+        private Torneo leerTorneo() {
+            ASSERTION.assertion(datos.remaining() >= Integer.BYTES + Short.BYTES && datos.getInt() == MARCA,
+                    "El archivo no es una instantánea de torneo");
+            ASSERTION.assertion(datos.getShort() == VERSION, "La versión de la instantánea no es compatible");
+            long bytes = datos.getLong();
+            long registros = datos.getLong();
+            posicionBitacora = bytes == NULO ? null : new BitacoraTorneo.Posicion(registros, bytes);
+            leerTextos();
+
+            var torneo = new Torneo(texto(), fecha(), fecha(), fecha(), datos.get(), datos.get(), datos.getInt(),
+                    valor(TIPOS_TORNEO), valor(TIPOS_TORNEO_GENERO), reloj);
+
+            var equipos = new Equipo[datos.getInt()];
+            int equiposInscritos = datos.getInt();
+            for (int i = 0; i < equipos.length; i++) {
+                equipos[i] = leerEquipo();
+                if (i < equiposInscritos) {
+                    torneo.inscribirEquipo(equipos[i]);
+                }
+            }
+            var jueces = new Juez[datos.getInt()];
+            int juecesInscritos = datos.getInt();
+            for (int i = 0; i < jueces.length; i++) {
+                jueces[i] = new Juez(texto(), texto(), texto(), texto(), texto());
+                if (i < juecesInscritos) {
+                    torneo.registrarJuez(jueces[i]);
+                }
+            }
+            var lugares = new Lugar[datos.getInt()];
+            for (int i = 0; i < lugares.length; i++) {
+                lugares[i] = new Lugar(texto(), texto());
+            }
+            int enfrentamientos = datos.getInt();
+            for (int i = 0; i < enfrentamientos; i++) {
+                var fecha = fecha();
+                long nanos = datos.getLong();
+                var hora = nanos == NULO ? null : LocalTime.ofNanoOfDay(nanos);
+                int lugar = datos.getInt();
+                var visitante = equipos[datos.getInt()];
+                var local = equipos[datos.getInt()];
+                var enfrentamiento = new Enfrentamiento(fecha, hora, lugar == NULO ? null : lugares[lugar], visitante,
+                        local, reloj);
+                var estado = valor(ESTADOS);
+                int puntosVisitante = datos.getInt();
+                int puntosLocal = datos.getInt();
+                var tipoResultado = valor(TIPOS_RESULTADO);
+                enfrentamiento.restaurar(estado, puntosVisitante, puntosLocal, tipoResultado == null ? null
+                        : new ResultadoEnfrentamiento(tipoResultado, datos.getInt(), datos.getInt()));
+                int juecesEnfrentamiento = datos.getInt();
+                for (int j = 0; j < juecesEnfrentamiento; j++) {
+                    enfrentamiento.registrarJuez(jueces[datos.getInt()]);
+                }
+                torneo.registrarEnfrentamiento(enfrentamiento);
+            }
+            return torneo;
+        }
+
+        private Equipo leerEquipo() {
+            var nombre = texto();
+            var representante = new Persona(texto(), texto(), texto(), texto());
+            Estadistica estadistica = null;
+            if (datos.get() != 0) {
+                estadistica = new Estadistica(datos.getInt(), datos.getInt(), datos.getInt());
+            }
+            var equipo = new Equipo(nombre, representante, estadistica);
+            int jugadores = datos.getInt();
+            for (int i = 0; i < jugadores; i++) {
+                equipo.registrarJugador(new Jugador(texto(), texto(), texto(), texto(), fecha(), valor(GENEROS)));
+            }
+            return equipo;
+        }
+
+        private void leerTextos() {
+            textos = new String[datos.getInt()];
+            for (int i = 0; i < textos.length; i++) {
+                int longitud = datos.getInt();
+                if (longitud > bytesTexto.length) {
+                    bytesTexto = new byte[Math.max(longitud, bytesTexto.length * 2)];
+                }
+                datos.get(bytesTexto, 0, longitud);
+                textos[i] = new String(bytesTexto, 0, longitud, StandardCharsets.UTF_8);
+            }
+        }
+
+        private String texto() {
+            int indice = datos.getInt();
+            return indice == NULO ? null : textos[indice];
+        }
+
+        private LocalDate fecha() {
+            int dias = datos.getInt();
+            return dias == Integer.MIN_VALUE ? null : LocalDate.ofEpochDay(dias);
+        }
+
+        private <E> E valor(E[] valores) {
+            byte ordinal = datos.get();
+            return ordinal == NULO ? null : valores[ordinal];
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Clase que representa una lista concurrente a la que solo se agregan elementos
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Los elementos se guardan en un arreglo que crece como el de un ArrayList, sin
+ * un nodo por elemento, y varios elementos se agregan con una sola copia. Las
+ * escrituras se hacen con el monitor de la lista y las lecturas no se
+ * bloquean: cada recorrido ve los elementos que había al empezar.
+ * <p>
+ * El arreglo se publica antes que la cantidad de elementos, así que quien lee
+ * la cantidad siempre encuentra un arreglo que contiene esos elementos.
+ */
+class ListaCreciente<E> extends AbstractCollection<E> {
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private volatile Object[] elementos;
+    private volatile int cantidad;
+
+    ListaCreciente() {
+        this.elementos = new Object[CAPACIDAD_INICIAL];
+    }
+
+    @Override
+    public synchronized boolean add(E elemento) {
+        asegurarCapacidad(cantidad + 1);
+        elementos[cantidad] = elemento;
+        cantidad = cantidad + 1;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean addAll(Collection<? extends E> nuevos) {
+        var arreglo = nuevos.toArray();
+        asegurarCapacidad(cantidad + arreglo.length);
+        System.arraycopy(arreglo, 0, elementos, cantidad, arreglo.length);
+        cantidad = cantidad + arreglo.length;
+        return arreglo.length > 0;
+    }
+
+    @Override
+    public int size() {
+        return cantidad;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        int total = cantidad;
+        var arreglo = elementos;
+        return new Iterator<>() {
+            private int siguiente;
+
+            @Override
+            public boolean hasNext() {
+                return siguiente < total;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (siguiente >= total) {
+                    throw new NoSuchElementException();
+                }
+                return (E) arreglo[siguiente++];
+            }
+        };
+    }
+
+    private void asegurarCapacidad(int capacidad) {
+        if (capacidad > elementos.length) {
+            elementos = Arrays.copyOf(elementos, Math.max(capacidad, elementos.length + (elementos.length >> 1)));
+        }
+    }
+}
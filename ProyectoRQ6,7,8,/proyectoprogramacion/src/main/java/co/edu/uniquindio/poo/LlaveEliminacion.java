@@ -0,0 +1,238 @@
+/**
+ * Clase que representa la llave de eliminación directa de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * La llave se guarda como un árbol binario completo en arreglos: el nodo 1 es
+ * la final, los hijos del nodo i son 2i y 2i + 1, y las hojas son las
+ * posiciones iniciales de los equipos. Cada nodo guarda la siembra del equipo
+ * que lo ganó y el enfrentamiento que lo decide, de modo que avanzar al ganador
+ * de un enfrentamiento solo toca a su nodo padre y no recorre la ronda.
+ *
+ * Los equipos se siembran según la tabla de clasificación del torneo y se
+ * ubican para que los mejores sembrados se crucen lo más tarde posible. Si el
+ * número de equipos no es una potencia de dos, los mejores sembrados pasan
+ * directamente a la segunda ronda. Un empate lo gana el equipo mejor sembrado.
+ *
+ * Los enfrentamientos de una ronda se reparten por turnos entre los lugares y,
+ * cuando hay más enfrentamientos que lugares, en días consecutivos, de modo que
+ * dos enfrentamientos nunca comparten lugar, fecha y hora. Si la primera ronda
+ * ocupa más días que los días entre rondas, las rondas se separan por los días
+ * que ocupa la primera ronda.
+ */
+public class LlaveEliminacion {
+    private static final int SIN_DEFINIR = 0;
+    private static final int DESCANSO = -1;
+
+    private final Torneo torneo;
+    private final List<Lugar> lugares;
+    private final LocalTime hora;
+    private final int diasPorRonda;
+    private final int hojas;
+    private final int rondas;
+    private final Equipo[] sembrados;
+    private final Map<Equipo, Integer> siembras;
+    private final int[] ganadores;
+    private final Enfrentamiento[] enfrentamientos;
+    private final int[] enfrentamientosPorRonda;
+
+    /**
+     * Crea la llave con los mejores equipos de la clasificación del torneo y
+     * registra en el torneo los enfrentamientos de la primera ronda. La primera
+     * ronda se juega en la fecha de inicio del torneo.
+     *
+     * @param torneo          Torneo nacional o mundial al que pertenece la llave.
+     * @param participantes   Cantidad de equipos que entran a la llave.
+     * @param lugares         Lugares donde se juegan los enfrentamientos de cada
+     *                        ronda, se asignan por turnos y cada turno completo
+     *                        pasa al día siguiente.
+     * @param hora            Hora de los enfrentamientos.
+     * @param diasEntreRondas Días mínimos entre una ronda y la siguiente.
+     * @throws AssertionError Si el torneo no es nacional o mundial, o no tiene
+     *                        suficientes equipos registrados.
+     */
+    public LlaveEliminacion(Torneo torneo, int participantes, List<Lugar> lugares, LocalTime hora,
+            int diasEntreRondas) {
+        ASSERTION.assertion(torneo != null, "El torneo es requerido");
+        ASSERTION.assertion(torneo.getTipoTorneo() == TipoTorneo.NACIONAL
+                || torneo.getTipoTorneo() == TipoTorneo.MUNDIAL,
+                "La eliminación directa solo aplica a torneos nacionales o mundiales");
+        ASSERTION.assertion(participantes >= 2, "Se requieren al menos dos equipos");
+        ASSERTION.assertion(participantes <= torneo.getEquipos().size(),
+                "El torneo no tiene suficientes equipos registrados");
+        ASSERTION.assertion(lugares != null && !lugares.isEmpty(), "Se requiere al menos un lugar");
+        ASSERTION.assertion(hora != null, "La hora es requerida");
+        ASSERTION.assertion(diasEntreRondas > 0, "Los días entre rondas deben ser positivos");
+
+        this.torneo = torneo;
+        this.lugares = List.copyOf(lugares);
+        this.hora = hora;
+        this.hojas = Integer.highestOneBit(participantes - 1) << 1;
+        // La primera ronda es la que más enfrentamientos puede tener
+        int diasPrimeraRonda = (hojas / 2 + this.lugares.size() - 1) / this.lugares.size();
+        this.diasPorRonda = Math.max(diasEntreRondas, diasPrimeraRonda);
+        this.rondas = Integer.numberOfTrailingZeros(hojas);
+        this.sembrados = torneo.obtenerMejoresEquiposClasificacion(participantes).toArray(Equipo[]::new);
+        this.siembras = new HashMap<>();
+        for (int i = 0; i < sembrados.length; i++) {
+            siembras.put(sembrados[i], i + 1);
+        }
+        this.ganadores = new int[2 * hojas];
+        this.enfrentamientos = new Enfrentamiento[hojas];
+        this.enfrentamientosPorRonda = new int[rondas];
+
+        var orden = ordenarSiembra(hojas);
+        synchronized (this) {
+            for (int i = 0; i < hojas; i++) {
+                ganadores[hojas + i] = orden[i] <= participantes ? orden[i] : DESCANSO;
+            }
+            for (int i = 0; i < hojas; i += 2) {
+                intentarCruce((hojas + i) / 2);
+            }
+        }
+    }
+
+    public int getRondas() {
+        return rondas;
+    }
+
+    /**
+     * Obtiene el campeón de la llave.
+     *
+     * @return Optional con el ganador de la final, o vacío si la final aún no se
+     *         ha jugado.
+     */
+    public synchronized Optional<Equipo> getCampeon() {
+        return ganadores[1] > 0 ? Optional.of(sembrados[ganadores[1] - 1]) : Optional.empty();
+    }
+
+    /**
+     * Obtiene la siembra de un equipo en la llave.
+     *
+     * @param equipo Equipo del que se desea conocer la siembra.
+     * @return La siembra del equipo empezando en 1, o 0 si el equipo no está en la
+     *         llave.
+     */
+    public int obtenerSiembra(Equipo equipo) {
+        return siembras.getOrDefault(equipo, 0);
+    }
+
+    /**
+     * Obtiene los enfrentamientos ya programados de una ronda. Solo se recorren
+     * los nodos de esa ronda.
+     *
+     * @param ronda Ronda empezando en 0 para la primera ronda.
+     * @return Lista con los enfrentamientos programados de la ronda, en orden de
+     *         la llave.
+     */
+    public synchronized List<Enfrentamiento> obtenerEnfrentamientosRonda(int ronda) {
+        ASSERTION.assertion(ronda >= 0 && ronda < rondas, "La ronda no existe");
+        int inicio = hojas >> (ronda + 1);
+        var lista = new ArrayList<Enfrentamiento>(enfrentamientosPorRonda[ronda]);
+        for (int nodo = inicio; nodo < 2 * inicio; nodo++) {
+            if (enfrentamientos[nodo] != null) {
+                lista.add(enfrentamientos[nodo]);
+            }
+        }
+        return lista;
+    }
+
+    /**
+     * Intenta cruzar a los ganadores de los dos hijos de un nodo. Si uno de ellos
+     * es un descanso el otro avanza directamente, y si ambos están definidos se
+     * programa el enfrentamiento del nodo.
+     */
+    private void intentarCruce(int nodo) {
+        int primero = ganadores[2 * nodo];
+        int segundo = ganadores[2 * nodo + 1];
+        if (primero == SIN_DEFINIR || segundo == SIN_DEFINIR) {
+            return;
+        }
+        if (primero == DESCANSO || segundo == DESCANSO) {
+            avanzar(nodo, primero == DESCANSO ? segundo : primero);
+            return;
+        }
+        int ronda = rondas - 1 - (31 - Integer.numberOfLeadingZeros(nodo));
+        int orden = enfrentamientosPorRonda[ronda];
+        var fecha = torneo.getFechaInicio().plusDays((long) ronda * diasPorRonda + orden / lugares.size());
+        var lugar = lugares.get(orden % lugares.size());
+        var local = sembrados[Math.min(primero, segundo) - 1];
+        var visitante = sembrados[Math.max(primero, segundo) - 1];
+        var enfrentamiento = new Enfrentamiento(fecha, hora, lugar, visitante, local, torneo.getReloj());
+        torneo.registrarEnfrentamiento(enfrentamiento);
+        enfrentamiento.agregarObservador(new ObservadorNodo(nodo));
+        enfrentamientos[nodo] = enfrentamiento;
+        enfrentamientosPorRonda[ronda]++;
+    }
+
+    /**
+     * Marca la siembra dada como ganadora de un nodo y la cruza con la del nodo
+     * hermano.
+     */
+    private void avanzar(int nodo, int siembra) {
+        ganadores[nodo] = siembra;
+        if (nodo > 1) {
+            intentarCruce(nodo / 2);
+        }
+    }
+
+    /**
+     * Calcula el orden de las siembras en las hojas de una llave, de modo que en
+     * cada ronda la suma de las siembras que se enfrentan es constante y los
+     * mejores sembrados solo se cruzan al final.
+     */
+    private static int[] ordenarSiembra(int hojas) {
+        var orden = new int[] { 1 };
+        while (orden.length < hojas) {
+            var siguiente = new int[orden.length * 2];
+            int suma = siguiente.length + 1;
+            for (int i = 0; i < orden.length; i++) {
+                siguiente[2 * i] = orden[i];
+                siguiente[2 * i + 1] = suma - orden[i];
+            }
+            orden = siguiente;
+        }
+        return orden;
+    }
+
+    /**
+     * Avanza en la llave al ganador del enfrentamiento de un nodo cuando este
+     * finaliza.
+     */
+    private class ObservadorNodo implements Enfrentamiento.Observador {
+        private final int nodo;
+
+        private ObservadorNodo(int nodo) {
+            this.nodo = nodo;
+        }
+
+        @Override
+        public void enfrentamientoFinalizado(Enfrentamiento enfrentamiento) {
+            synchronized (LlaveEliminacion.this) {
+                if (ganadores[nodo] != SIN_DEFINIR) {
+                    return;
+                }
+                // La siembra menor corresponde al equipo local, que también gana los empates
+                int local = Math.min(ganadores[2 * nodo], ganadores[2 * nodo + 1]);
+                int visitante = Math.max(ganadores[2 * nodo], ganadores[2 * nodo + 1]);
+                boolean ganaLocal = enfrentamiento.getResultado().orElseThrow()
+                        .tipo() != TipoResultado.GANA_VISITANTE;
+                avanzar(nodo, ganaLocal ? local : visitante);
+            }
+        }
+    }
+}
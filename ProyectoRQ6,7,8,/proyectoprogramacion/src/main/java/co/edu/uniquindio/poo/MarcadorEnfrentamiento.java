@@ -0,0 +1,16 @@
+/**
+ * Registro que agrupa el marcador final de un Enfrentamiento
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo;
+
+/**
+ * @param enfrentamiento  Enfrentamiento al que corresponde el marcador.
+ * @param puntosVisitante Puntos obtenidos por el equipo visitante.
+ * @param puntosLocal     Puntos obtenidos por el equipo local.
+ */
+public record MarcadorEnfrentamiento(Enfrentamiento enfrentamiento, int puntosVisitante, int puntosLocal) {
+}
@@ -8,12 +8,24 @@
 package co.edu.uniquindio.poo;
 
 import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+import static co.edu.uniquindio.poo.util.DiccionarioTextos.DICCIONARIO;
 
+/**
+ * Los nombres y apellidos se comparten entre todas las personas por medio de
+ * {@link co.edu.uniquindio.poo.util.DiccionarioTextos} mientras alguna los use,
+ * y el celular, cuando solo tiene dígitos, se guarda empacado en un long junto
+ * con su cantidad de dígitos en lugar de un texto; el texto solo se guarda para
+ * los celulares con otros caracteres.
+ */
 public class Persona {
+    private static final int MAXIMO_DIGITOS_CELULAR = 17;
+    private static final int BITS_NUMERO_CELULAR = 57;
+
     private final String nombre;
     private final String apellido;
     private final String email;
-    private final String celular;
+    private final long celularEmpacado;
+    private final String celularTexto;
 
     public Persona(String nombre, String apellido, String email, String celular) {
         ASSERTION.assertion(nombre != null && !nombre.isBlank(), "El nombre es requerido");
@@ -21,10 +33,11 @@ public class Persona {
         ASSERTION.assertion(celular != null && !celular.isBlank(), "El celular es requerido");
         ASSERTION.assertion(email != null && !email.isBlank(), "El email es requerido");
 
-        this.nombre = nombre;
-        this.apellido = apellido;
+        this.nombre = DICCIONARIO.internar(nombre);
+        this.apellido = DICCIONARIO.internar(apellido);
         this.email = email;
-        this.celular = celular;
+        this.celularEmpacado = empacarCelular(celular);
+        this.celularTexto = celularEmpacado == 0 ? celular : null;
     }
 
     public String getNombre() {
@@ -39,7 +52,60 @@ public class Persona {
         return email;
     }
 
+    /**
+     * Obtiene el celular. Los celulares empacados se convierten en texto en cada
+     * llamado; quien solo necesite escribirlos puede usar
+     * {@link #getDigitosCelular()} y {@link #getNumeroCelular()}.
+     */
     public String getCelular() {
-        return celular;
+        if (celularTexto != null) {
+            return celularTexto;
+        }
+        int cantidad = getDigitosCelular();
+        long numero = getNumeroCelular();
+        var digitos = new char[cantidad];
+        for (int i = cantidad - 1; i >= 0; i--) {
+            digitos[i] = (char) ('0' + numero % 10);
+            numero /= 10;
+        }
+        return new String(digitos);
+    }
+
+    /**
+     * Obtiene la cantidad de dígitos del celular empacado, incluidos los ceros a
+     * la izquierda, o 0 si el celular se guardó como texto.
+     */
+    int getDigitosCelular() {
+        return (int) (celularEmpacado >>> BITS_NUMERO_CELULAR);
+    }
+
+    /**
+     * Obtiene el número del celular empacado, sin los ceros a la izquierda.
+     */
+    long getNumeroCelular() {
+        return celularEmpacado & ((1L << BITS_NUMERO_CELULAR) - 1);
+    }
+
+    /**
+     * Empaca un celular que solo tiene dígitos en un long, con la cantidad de
+     * dígitos en los bits altos para conservar los ceros a la izquierda.
+     *
+     * @param celular Celular a empacar.
+     * @return Celular empacado, o 0 si tiene otros caracteres o demasiados dígitos.
+     */
+    private static long empacarCelular(String celular) {
+        int cantidad = celular.length();
+        if (cantidad > MAXIMO_DIGITOS_CELULAR) {
+            return 0;
+        }
+        long numero = 0;
+        for (int i = 0; i < cantidad; i++) {
+            char caracter = celular.charAt(i);
+            if (caracter < '0' || caracter > '9') {
+                return 0;
+            }
+            numero = numero * 10 + (caracter - '0');
+        }
+        return (long) cantidad << BITS_NUMERO_CELULAR | numero;
     }
 }
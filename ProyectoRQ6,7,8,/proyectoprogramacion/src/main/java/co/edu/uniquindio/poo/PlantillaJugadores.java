@@ -0,0 +1,219 @@
+/**
+ * Clase que guarda los jugadores de un Equipo en arreglos paralelos
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import java.time.LocalDate;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Además de los jugadores, se guardan en arreglos de primitivos la fecha de
+ * nacimiento de cada jugador como días desde la época, su género como byte y
+ * un hash de su nombre y apellido, de modo que los filtros sobre toda la
+ * plantilla recorren arreglos contiguos sin visitar cada jugador. La cantidad
+ * de jugadores de cada género se lleva al día con cada registro, por lo que
+ * las consultas por género no recorren la plantilla.
+ * <p>
+ * Los jugadores se agregan uno a la vez y no se eliminan. Cada lectura toma el
+ * bloque publicado en ese momento y solo lee las posiciones que tenía, por lo
+ * que las consultas y los recorridos no se bloquean con los registros ni ven
+ * jugadores a medio agregar.
+ */
+final class PlantillaJugadores extends AbstractCollection<Jugador> {
+    private static final int CAPACIDAD_INICIAL = 8;
+    private static final byte SIN_GENERO = -1;
+
+    private volatile Bloque bloque;
+
+    PlantillaJugadores() {
+        this.bloque = new Bloque(0, new Jugador[0], new int[0], new byte[0], new int[0],
+                new int[TipoGenero.values().length + 1]);
+    }
+
+    /**
+     * Agrega un jugador al final de la plantilla.
+     *
+     * @param jugador Jugador a agregar.
+     */
+    synchronized void agregar(Jugador jugador) {
+        var actual = bloque;
+        int cantidad = actual.cantidad();
+        var jugadores = actual.jugadores();
+        var diasNacimiento = actual.diasNacimiento();
+        var generos = actual.generos();
+        var clavesNombre = actual.clavesNombre();
+        if (cantidad == jugadores.length) {
+            int capacidad = Math.max(CAPACIDAD_INICIAL, cantidad * 2);
+            jugadores = Arrays.copyOf(jugadores, capacidad);
+            diasNacimiento = Arrays.copyOf(diasNacimiento, capacidad);
+            generos = Arrays.copyOf(generos, capacidad);
+            clavesNombre = Arrays.copyOf(clavesNombre, capacidad);
+        }
+        jugadores[cantidad] = jugador;
+        diasNacimiento[cantidad] = aDia(jugador.getFechaNacimiento());
+        generos[cantidad] = aByte(jugador.getTipoGenero());
+        clavesNombre[cantidad] = claveNombre(jugador.getNombre(), jugador.getApellido());
+        var cantidadesGenero = actual.cantidadesGenero().clone();
+        cantidadesGenero[posicionGenero(jugador.getTipoGenero())]++;
+        bloque = new Bloque(cantidad + 1, jugadores, diasNacimiento, generos, clavesNombre, cantidadesGenero);
+    }
+
+    /**
+     * Busca el jugador con el nombre y apellido dados.
+     *
+     * @param nombre   Nombre del jugador.
+     * @param apellido Apellido del jugador.
+     * @return El jugador encontrado, o null si no hay ninguno.
+     */
+    Jugador buscar(String nombre, String apellido) {
+        var actual = bloque;
+        int clave = claveNombre(nombre, apellido);
+        var clavesNombre = actual.clavesNombre();
+        for (int i = 0; i < actual.cantidad(); i++) {
+            if (clavesNombre[i] == clave) {
+                var jugador = actual.jugadores()[i];
+                if (jugador.getNombre().equals(nombre) && jugador.getApellido().equals(apellido)) {
+                    return jugador;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Comprueba si todos los jugadores de la plantilla son del género dado.
+     *
+     * @param genero Género a comprobar.
+     * @return true si todos los jugadores son del género, o si no hay jugadores.
+     */
+    boolean todosDelGenero(TipoGenero genero) {
+        var actual = bloque;
+        return actual.cantidadesGenero()[posicionGenero(genero)] == actual.cantidad();
+    }
+
+    /**
+     * Cuenta los jugadores de la plantilla que son del género dado.
+     *
+     * @param genero Género a contar.
+     * @return Cantidad de jugadores del género.
+     */
+    int contarGenero(TipoGenero genero) {
+        return bloque.cantidadesGenero()[posicionGenero(genero)];
+    }
+
+    /**
+     * Obtiene los jugadores que nacieron en la fecha dada o antes.
+     *
+     * @param fecha Fecha límite de nacimiento.
+     * @return Lista con los jugadores nacidos hasta la fecha, en el orden de la
+     *         plantilla.
+     */
+    List<Jugador> nacidosHasta(LocalDate fecha) {
+        var actual = bloque;
+        int dia = aDia(fecha);
+        var diasNacimiento = actual.diasNacimiento();
+        var encontrados = new ArrayList<Jugador>();
+        for (int i = 0; i < actual.cantidad(); i++) {
+            if (diasNacimiento[i] <= dia) {
+                encontrados.add(actual.jugadores()[i]);
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Agrega a la lista las infracciones de los jugadores de la plantilla a las
+     * reglas dadas, recorriendo los arreglos una sola vez.
+     *
+     * @param reglas       Reglas a evaluar.
+     * @param infracciones Lista donde se agregan las infracciones, en el orden de
+     *                     la plantilla.
+     */
+    void evaluar(ReglasElegibilidad reglas, List<ReglasElegibilidad.Infraccion> infracciones) {
+        var actual = bloque;
+        int diaCorte = reglas.getDiaCorteNacimiento();
+        var generoRequerido = reglas.getGeneroRequerido();
+        byte genero = aByte(generoRequerido);
+        var diasNacimiento = actual.diasNacimiento();
+        var generos = actual.generos();
+        for (int i = 0; i < actual.cantidad(); i++) {
+            boolean excedeEdad = diasNacimiento[i] <= diaCorte;
+            boolean otroGenero = generoRequerido != null && generos[i] != genero;
+            if (excedeEdad || otroGenero) {
+                reglas.evaluar(actual.jugadores()[i], infracciones);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return bloque.cantidad();
+    }
+
+    @Override
+    public Iterator<Jugador> iterator() {
+        var actual = bloque;
+        return new Iterator<>() {
+            private int siguiente;
+
+            @Override
+            public boolean hasNext() {
+                return siguiente < actual.cantidad();
+            }
+
+            @Override
+            public Jugador next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return actual.jugadores()[siguiente++];
+            }
+        };
+    }
+
+    /**
+     * Convierte una fecha en días desde la época. Las fechas que no caben en un
+     * int se ajustan al valor más cercano, lo que conserva su orden frente a
+     * cualquier fecha realista. Integer.MIN_VALUE nunca se usa, de modo que sirve
+     * como un día anterior a cualquier fecha.
+     */
+    static int aDia(LocalDate fecha) {
+        long dia = fecha.toEpochDay();
+        return (int) Math.max(Integer.MIN_VALUE + 1L, Math.min(Integer.MAX_VALUE, dia));
+    }
+
+    private static byte aByte(TipoGenero genero) {
+        return genero == null ? SIN_GENERO : (byte) genero.ordinal();
+    }
+
+    /**
+     * Obtiene la posición del género en las cantidades por género; los jugadores
+     * sin género van en la última posición.
+     */
+    private static int posicionGenero(TipoGenero genero) {
+        return genero == null ? TipoGenero.values().length : genero.ordinal();
+    }
+
+    private static int claveNombre(String nombre, String apellido) {
+        return 31 * nombre.hashCode() + apellido.hashCode();
+    }
+
+    /**
+     * Arreglos de la plantilla, cantidad de posiciones ocupadas y cantidad de
+     * jugadores de cada género. Un bloque publicado no cambia en sus primeras
+     * posiciones ni en sus cantidades; un registro nuevo escribe después de ellas
+     * o en copias más grandes de los arreglos, y copia las cantidades por género.
+     */
+    private record Bloque(int cantidad, Jugador[] jugadores, int[] diasNacimiento, byte[] generos,
+            int[] clavesNombre, int[] cantidadesGenero) {
+    }
+}
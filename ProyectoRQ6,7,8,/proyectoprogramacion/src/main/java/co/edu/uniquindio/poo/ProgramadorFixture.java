@@ -0,0 +1,133 @@
+/**
+ * Clase que programa el fixture de todos contra todos de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * Las jornadas se arman con el método del círculo: un equipo queda fijo y los
+ * demás rotan una posición en cada jornada, de modo que cada equipo juega una
+ * sola vez por jornada y enfrenta a todos los demás. Con un número impar de
+ * equipos, en cada jornada descansa el equipo que queda frente a la posición
+ * vacía.
+ *
+ * Los enfrentamientos de una jornada se reparten en franjas de lugar, día y
+ * hora. En una misma franja cada enfrentamiento tiene un lugar y un juez
+ * distintos, y los jueces se asignan por turnos para repartir la carga.
+ *
+ * Todo el fixture se arma antes de registrar el primer enfrentamiento y se
+ * registra como un solo lote, de modo que si algún enfrentamiento no es válido
+ * el torneo no queda con un fixture a medias.
+ */
+public class ProgramadorFixture {
+    private final Torneo torneo;
+
+    public ProgramadorFixture(Torneo torneo) {
+        ASSERTION.assertion(torneo != null, "El torneo es requerido");
+        this.torneo = torneo;
+    }
+
+    /**
+     * Programa y registra en el torneo los enfrentamientos de todos contra todos
+     * entre los equipos registrados. La primera jornada se juega el día
+     * siguiente a la fecha de inicio del torneo.
+     *
+     * @param idaYVuelta        Indica si cada par de equipos se enfrenta dos
+     *                          veces, una como local y otra como visitante.
+     * @param lugares           Lugares donde se juegan los enfrentamientos.
+     * @param horarios          Horas del día en que se juegan los
+     *                          enfrentamientos.
+     * @param diasEntreJornadas Días mínimos entre el inicio de una jornada y el de
+     *                          la siguiente.
+     * @return Lista con los enfrentamientos registrados, en orden de jornada.
+     * @throws AssertionError Si hay menos de dos equipos, no hay lugares,
+     *                        horarios o jueces, o algún enfrentamiento ya estaba
+     *                        registrado o se cruza en su lugar con otro. En ese
+     *                        caso no se registra ningún enfrentamiento.
+     */
+    public List<Enfrentamiento> programar(boolean idaYVuelta, List<Lugar> lugares, List<LocalTime> horarios,
+            int diasEntreJornadas) {
+        var equipos = List.copyOf(torneo.getEquipos());
+        var jueces = List.copyOf(torneo.getJueces());
+        ASSERTION.assertion(equipos.size() >= 2, "Se requieren al menos dos equipos");
+        ASSERTION.assertion(lugares != null && !lugares.isEmpty(), "Se requiere al menos un lugar");
+        ASSERTION.assertion(horarios != null && !horarios.isEmpty(), "Se requiere al menos un horario");
+        ASSERTION.assertion(!jueces.isEmpty(), "Se requiere al menos un juez");
+        ASSERTION.assertion(diasEntreJornadas > 0, "Los días entre jornadas deben ser positivos");
+
+        int posiciones = equipos.size() + equipos.size() % 2;
+        int jornadasPorVuelta = posiciones - 1;
+        int enfrentamientosPorJornada = equipos.size() / 2;
+        // Un juez no puede estar en dos lugares a la vez, por lo que en cada franja
+        // se usan a lo sumo tantos lugares como jueces
+        int lugaresPorFranja = Math.min(lugares.size(), jueces.size());
+        int franjasPorDia = lugaresPorFranja * horarios.size();
+        int diasPorJornada = (enfrentamientosPorJornada + franjasPorDia - 1) / franjasPorDia;
+        int diasPorFecha = Math.max(diasEntreJornadas, diasPorJornada);
+
+        int vueltas = idaYVuelta ? 2 : 1;
+        var enfrentamientos = new ArrayList<Enfrentamiento>(vueltas * jornadasPorVuelta * enfrentamientosPorJornada);
+        var reloj = torneo.getReloj();
+        int siguienteJuez = 0;
+        for (int vuelta = 0; vuelta < vueltas; vuelta++) {
+            for (int ronda = 0; ronda < jornadasPorVuelta; ronda++) {
+                int jornada = vuelta * jornadasPorVuelta + ronda;
+                LocalDate fechaJornada = torneo.getFechaInicio().plusDays(1 + (long) jornada * diasPorFecha);
+                int orden = 0;
+                int diaFecha = 0;
+                LocalDate fecha = fechaJornada;
+                for (int par = 0; par < posiciones / 2; par++) {
+                    int primero = equipoEnPosicion(par, ronda, posiciones);
+                    int segundo = equipoEnPosicion(posiciones - 1 - par, ronda, posiciones);
+                    if (primero >= equipos.size() || segundo >= equipos.size()) {
+                        continue;
+                    }
+                    // El equipo fijo alterna entre local y visitante en cada jornada, y en la
+                    // vuelta se invierten todos los papeles
+                    boolean invertir = (par == 0 && ronda % 2 == 1) ^ (vuelta == 1);
+                    var local = equipos.get(invertir ? segundo : primero);
+                    var visitante = equipos.get(invertir ? primero : segundo);
+
+                    int franja = orden / lugaresPorFranja;
+                    // Los enfrentamientos de un mismo día comparten la fecha
+                    if (franja / horarios.size() != diaFecha) {
+                        diaFecha = franja / horarios.size();
+                        fecha = fechaJornada.plusDays(diaFecha);
+                    }
+                    var hora = horarios.get(franja % horarios.size());
+                    var lugar = lugares.get(orden % lugaresPorFranja);
+                    var enfrentamiento = new Enfrentamiento(fecha, hora, lugar, visitante, local, reloj);
+                    enfrentamiento.registrarJuez(jueces.get(siguienteJuez));
+                    siguienteJuez = (siguienteJuez + 1) % jueces.size();
+                    enfrentamientos.add(enfrentamiento);
+                    orden++;
+                }
+            }
+        }
+        torneo.registrarEnfrentamientos(enfrentamientos);
+        return enfrentamientos;
+    }
+
+    /**
+     * Obtiene el equipo que ocupa una posición del círculo en una ronda. La
+     * posición 0 es fija y las demás rotan una posición por ronda. Si el número
+     * de equipos es impar, el índice igual al número de equipos corresponde al
+     * descanso.
+     */
+    private static int equipoEnPosicion(int posicion, int ronda, int posiciones) {
+        if (posicion == 0) {
+            return 0;
+        }
+        return 1 + (posicion - 1 + ronda) % (posiciones - 1);
+    }
+}
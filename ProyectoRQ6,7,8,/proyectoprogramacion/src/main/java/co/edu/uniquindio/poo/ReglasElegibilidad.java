@@ -0,0 +1,154 @@
+/**
+ * Clase que agrupa las reglas que debe cumplir un Jugador para participar en un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * Las reglas se calculan una sola vez a partir de los datos del torneo. El
+ * límite de edad se convierte en el último día de nacimiento que ya excede el
+ * límite en la fecha de inicio del torneo, de modo que validar la edad de un
+ * jugador es comparar dos enteros en lugar de calcular un periodo. Las reglas
+ * no cambian; si cambia la fecha de inicio del torneo se calculan de nuevo, por
+ * lo que las reglas guardan la fecha de inicio con la que se calcularon.
+ */
+public final class ReglasElegibilidad {
+    static final String MENSAJE_LIMITE_EDAD = "No se pueden registrar jugadores que excedan el limite de edad del torneo";
+    static final String MENSAJE_GENERO = "No cumple con la condición de género del torneo";
+    static final String MENSAJE_JUGADOR_REGISTRADO = "El jugador ya esta registrado";
+
+    private final LocalDate fechaInicio;
+    private final int diaCorteNacimiento;
+    private final TipoGenero generoRequerido;
+
+    /**
+     * Calcula las reglas de un torneo.
+     *
+     * @param fechaInicio      Fecha de inicio del torneo.
+     * @param limiteEdad       Edad máxima de los jugadores al inicio del torneo, 0
+     *                         si no hay límite.
+     * @param tipoTorneoGenero Género de los jugadores del torneo.
+     */
+    ReglasElegibilidad(LocalDate fechaInicio, byte limiteEdad, TipoTorneoGenero tipoTorneoGenero) {
+        ASSERTION.assertion(fechaInicio != null, "La fecha de inicio es requerida");
+        this.fechaInicio = fechaInicio;
+        this.diaCorteNacimiento = limiteEdad == 0 ? Integer.MIN_VALUE
+                : PlantillaJugadores.aDia(fechaInicio.minusYears(limiteEdad + 1L));
+        this.generoRequerido = tipoTorneoGenero == TipoTorneoGenero.HOMBRES ? TipoGenero.HOMBRE
+                : tipoTorneoGenero == TipoTorneoGenero.MUJERES ? TipoGenero.MUJER : null;
+    }
+
+    /**
+     * Obtiene la fecha de inicio del torneo con la que se calcularon las reglas.
+     */
+    LocalDate getFechaInicio() {
+        return fechaInicio;
+    }
+
+    /**
+     * Obtiene el último día, contado desde la época, en que pudo nacer un jugador
+     * que excede el límite de edad. Un jugador cumple el límite si nació después.
+     */
+    int getDiaCorteNacimiento() {
+        return diaCorteNacimiento;
+    }
+
+    /**
+     * Obtiene el género que deben tener los jugadores, o null si el torneo es
+     * mixto.
+     */
+    TipoGenero getGeneroRequerido() {
+        return generoRequerido;
+    }
+
+    /**
+     * Comprueba si el jugador no excede el límite de edad al inicio del torneo.
+     *
+     * @param jugador Jugador a comprobar.
+     * @return true si el jugador cumple el límite de edad.
+     */
+    public boolean cumpleLimiteEdad(Jugador jugador) {
+        return PlantillaJugadores.aDia(jugador.getFechaNacimiento()) > diaCorteNacimiento;
+    }
+
+    /**
+     * Comprueba si el jugador es del género de los jugadores del torneo.
+     *
+     * @param jugador Jugador a comprobar.
+     * @return true si el torneo es mixto o el jugador es del género del torneo.
+     */
+    public boolean cumpleGenero(Jugador jugador) {
+        return generoRequerido == null || jugador.getTipoGenero() == generoRequerido;
+    }
+
+    /**
+     * Evalúa el límite de edad y el género de todos los jugadores de un equipo en
+     * un solo recorrido de su plantilla.
+     *
+     * @param equipo Equipo a evaluar.
+     * @return Lista con las infracciones encontradas, en el orden de la plantilla.
+     */
+    public List<Infraccion> evaluar(Equipo equipo) {
+        ASSERTION.assertion(equipo != null, "El equipo es requerido");
+        var infracciones = new ArrayList<Infraccion>();
+        equipo.getPlantilla().evaluar(this, infracciones);
+        return infracciones;
+    }
+
+    /**
+     * Evalúa el límite de edad y el género de un lote de jugadores en un solo
+     * recorrido.
+     *
+     * @param jugadores Jugadores a evaluar.
+     * @return Lista con las infracciones encontradas, en el orden del lote.
+     */
+    public List<Infraccion> evaluar(Collection<Jugador> jugadores) {
+        ASSERTION.assertion(jugadores != null, "Los jugadores son requeridos");
+        var infracciones = new ArrayList<Infraccion>();
+        for (var jugador : jugadores) {
+            evaluar(jugador, infracciones);
+        }
+        return infracciones;
+    }
+
+    /**
+     * Agrega a la lista las infracciones de un jugador.
+     */
+    void evaluar(Jugador jugador, List<Infraccion> infracciones) {
+        if (!cumpleLimiteEdad(jugador)) {
+            infracciones.add(new Infraccion(jugador, Regla.LIMITE_EDAD, MENSAJE_LIMITE_EDAD));
+        }
+        if (!cumpleGenero(jugador)) {
+            infracciones.add(new Infraccion(jugador, Regla.GENERO, MENSAJE_GENERO));
+        }
+    }
+
+    /**
+     * Reglas que puede incumplir un jugador.
+     */
+    public enum Regla {
+        LIMITE_EDAD,
+        GENERO,
+        JUGADOR_REGISTRADO
+    }
+
+    /**
+     * Regla incumplida por un jugador.
+     *
+     * @param jugador Jugador que incumple la regla.
+     * @param regla   Regla incumplida.
+     * @param mensaje Descripción de la infracción.
+     */
+    public record Infraccion(Jugador jugador, Regla regla, String mensaje) {
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Clase que agrupa el resultado de una importación de datos a un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * El reporte guarda el detalle de los primeros errores hasta un máximo, y de
+ * los demás solo cuenta cuántos hubo, de modo que importar un archivo con
+ * muchas filas inválidas no llena la memoria.
+ */
+public class ReporteImportacion {
+    static final int MAXIMO_ERRORES = 1_000;
+
+    private int registrados;
+    private long cantidadErrores;
+    private final Collection<ErrorImportacion> errores;
+
+    public ReporteImportacion() {
+        this.registrados = 0;
+        this.cantidadErrores = 0;
+        this.errores = new ArrayList<>();
+    }
+
+    public int getRegistrados() {
+        return registrados;
+    }
+
+    /**
+     * Obtiene el detalle de los primeros errores, en el orden del archivo.
+     *
+     * @return Los errores guardados, a lo sumo {@link #MAXIMO_ERRORES}.
+     */
+    public Collection<ErrorImportacion> getErrores() {
+        return Collections.unmodifiableCollection(errores);
+    }
+
+    /**
+     * Obtiene la cantidad total de filas con error, incluidas las que no se
+     * guardaron por superar {@link #MAXIMO_ERRORES}.
+     *
+     * @return Cantidad de filas con error.
+     */
+    public long getCantidadErrores() {
+        return cantidadErrores;
+    }
+
+    /**
+     * Indica si todas las filas fueron importadas sin errores.
+     * 
+     * @return true si no se presentaron errores en la importación.
+     */
+    public boolean isExitoso() {
+        return cantidadErrores == 0;
+    }
+
+    void agregarRegistrado() {
+        registrados++;
+    }
+
+    void agregarError(long linea, String mensaje) {
+        cantidadErrores++;
+        if (errores.size() < MAXIMO_ERRORES) {
+            errores.add(new ErrorImportacion(linea, mensaje));
+        }
+    }
+
+    /**
+     * Error presentado al importar una fila.
+     * 
+     * @param linea   Número de la línea del archivo, empezando en 1.
+     * @param mensaje Descripción del error.
+     */
+    public record ErrorImportacion(long linea, String mensaje) {
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Registro que agrupa el resultado de un Enfrentamiento finalizado
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo;
+
+import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
+
+/**
+ * El resultado guarda los puntos con los que finalizó el enfrentamiento, de
+ * modo que no cambia si después se modifican los puntos del enfrentamiento. El
+ * texto del resultado solo se arma cuando se solicita.
+ * 
+ * @param tipo            Tipo de resultado.
+ * @param puntosVisitante Puntos obtenidos por el equipo visitante.
+ * @param puntosLocal     Puntos obtenidos por el equipo local.
+ */
+public record ResultadoEnfrentamiento(TipoResultado tipo, int puntosVisitante, int puntosLocal) {
+
+    public ResultadoEnfrentamiento {
+        ASSERTION.assertion(tipo == calcularTipo(puntosVisitante, puntosLocal),
+                "El tipo de resultado no corresponde a los puntos");
+    }
+
+    /**
+     * Obtiene el resultado que corresponde a los puntos de un enfrentamiento.
+     * 
+     * @param puntosVisitante Puntos obtenidos por el equipo visitante.
+     * @param puntosLocal     Puntos obtenidos por el equipo local.
+     * @return Resultado del enfrentamiento.
+     */
+    public static ResultadoEnfrentamiento de(int puntosVisitante, int puntosLocal) {
+        return new ResultadoEnfrentamiento(calcularTipo(puntosVisitante, puntosLocal), puntosVisitante,
+                puntosLocal);
+    }
+
+    private static TipoResultado calcularTipo(int puntosVisitante, int puntosLocal) {
+        if (puntosVisitante > puntosLocal) {
+            return TipoResultado.GANA_VISITANTE;
+        }
+        return puntosVisitante < puntosLocal ? TipoResultado.GANA_LOCAL : TipoResultado.EMPATE;
+    }
+
+    /**
+     * Arma el texto del resultado, donde el equipo 1 es el visitante y el equipo
+     * 2 el local.
+     * 
+     * @return Texto del resultado.
+     */
+    public String describir() {
+        return switch (tipo) {
+            case GANA_VISITANTE -> "El resultado es: El equipo 1 ganó con " + puntosVisitante
+                    + " puntos y el equipo 2 perdió con " + puntosLocal + " puntos";
+            case GANA_LOCAL -> "El resultado es: El equipo 1 perdió con " + puntosVisitante
+                    + " puntos y el equipo 2 ganó con " + puntosLocal + " puntos";
+            case EMPATE -> "El resultado es: El equipo 1 empató con " + puntosVisitante + " el equipo 2 con "
+                    + puntosLocal + " puntos";
+        };
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * Clase que mantiene la tabla de clasificación de los equipos de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * La tabla se actualiza de forma incremental cada vez que cambia el puntaje de
+ * un equipo, de modo que consultarla no requiere ordenar los equipos. Los
+ * equipos con el mismo puntaje conservan el orden en que fueron registrados.
+ * 
+ * Los cambios de puntaje solo se anotan en un conjunto concurrente, sin
+ * bloquear a los hilos que registran resultados, y se aplican una sola vez en la
+ * siguiente consulta de la tabla.
+ */
+class TablaClasificacion {
+
+    private final NavigableSet<Posicion> posiciones;
+    private final Map<Equipo, Posicion> posicionesPorEquipo;
+    private final Set<Equipo> pendientes;
+    private int[] conteoPorPuntaje;
+    private int siguienteOrden;
+    private volatile List<Equipo> tabla;
+
+    TablaClasificacion() {
+        this.posiciones = new TreeSet<>(Comparator.comparingInt((Posicion posicion) -> posicion.puntaje).reversed()
+                .thenComparingInt(posicion -> posicion.orden));
+        this.posicionesPorEquipo = new HashMap<>();
+        this.pendientes = ConcurrentHashMap.newKeySet();
+        this.conteoPorPuntaje = new int[16];
+    }
+
+    /**
+     * Agrega un equipo al final de los equipos con su mismo puntaje.
+     * 
+     * @param equipo Equipo a agregar.
+     */
+    synchronized void agregar(Equipo equipo) {
+        var posicion = new Posicion(equipo, siguienteOrden++, calcularPuntaje(equipo));
+        posicionesPorEquipo.put(equipo, posicion);
+        sumarConteo(posicion.puntaje, 1);
+        posiciones.add(posicion);
+        tabla = null;
+    }
+
+    /**
+     * Anota que el puntaje de un equipo cambió. El equipo se reubica en la
+     * siguiente consulta de la tabla, por lo que varios cambios seguidos, como
+     * los de una jornada completa, se aplican de una sola vez.
+     * 
+     * @param equipo Equipo cuyo puntaje cambió.
+     */
+    void actualizar(Equipo equipo) {
+        pendientes.add(equipo);
+    }
+
+    /**
+     * Obtiene la tabla completa, de mayor a menor puntaje.
+     * 
+     * @return Lista inmodificable con los equipos de la tabla.
+     */
+    List<Equipo> obtenerTabla() {
+        var actual = tabla;
+        if (actual != null && pendientes.isEmpty()) {
+            return actual;
+        }
+        synchronized (this) {
+            aplicarPendientes();
+            if (tabla == null) {
+                tabla = posiciones.stream().map(posicion -> posicion.equipo).toList();
+            }
+            return tabla;
+        }
+    }
+
+    /**
+     * Obtiene los primeros equipos de la tabla.
+     * 
+     * @param cantidad Cantidad máxima de equipos a obtener.
+     * @return Lista inmodificable con los mejores equipos de la tabla.
+     */
+    List<Equipo> obtenerMejores(int cantidad) {
+        var actual = tabla;
+        if (actual != null && pendientes.isEmpty()) {
+            return actual.subList(0, Math.min(cantidad, actual.size()));
+        }
+        synchronized (this) {
+            aplicarPendientes();
+            return posiciones.stream().limit(cantidad).map(posicion -> posicion.equipo).toList();
+        }
+    }
+
+    /**
+     * Obtiene la posición de un equipo en la tabla. Los equipos empatados en
+     * puntaje comparten la misma posición.
+     * 
+     * @param equipo Equipo del que se desea conocer la posición.
+     * @return La posición del equipo empezando en 1, o 0 si el equipo no está en
+     *         la tabla.
+     */
+    synchronized int obtenerPosicion(Equipo equipo) {
+        aplicarPendientes();
+        var posicion = posicionesPorEquipo.get(equipo);
+        if (posicion == null) {
+            return 0;
+        }
+        return 1 + posicionesPorEquipo.size() - contarHasta(posicion.puntaje);
+    }
+
+    /**
+     * Reubica los equipos cuyo puntaje cambió desde la última consulta. Debe
+     * llamarse con el monitor de la tabla tomado.
+     */
+    private void aplicarPendientes() {
+        var iterador = pendientes.iterator();
+        while (iterador.hasNext()) {
+            var equipo = iterador.next();
+            iterador.remove();
+            reubicar(equipo);
+        }
+    }
+
+    private void reubicar(Equipo equipo) {
+        var posicion = posicionesPorEquipo.get(equipo);
+        int puntaje = calcularPuntaje(equipo);
+        if (posicion == null || posicion.puntaje == puntaje) {
+            return;
+        }
+        posiciones.remove(posicion);
+        sumarConteo(posicion.puntaje, -1);
+        posicion.puntaje = puntaje;
+        sumarConteo(puntaje, 1);
+        posiciones.add(posicion);
+        tabla = null;
+    }
+
+    private static int calcularPuntaje(Equipo equipo) {
+        return equipo.getEstadistica() == null ? 0 : equipo.getEstadistica().getPuntaje();
+    }
+
+    /**
+     * Suma al número de equipos que tienen el puntaje dado. El conteo se lleva en
+     * un árbol de Fenwick para poder calcular posiciones en tiempo logarítmico.
+     * Debe llamarse mientras la posición afectada no está en el conjunto de
+     * posiciones, pues al ampliar el árbol solo se recuentan las que sí están.
+     */
+    private void sumarConteo(int puntaje, int cantidad) {
+        if (puntaje + 1 >= conteoPorPuntaje.length) {
+            ampliarConteo(puntaje + 1);
+        }
+        for (int i = puntaje + 1; i < conteoPorPuntaje.length; i += i & -i) {
+            conteoPorPuntaje[i] += cantidad;
+        }
+    }
+
+    /**
+     * Cuenta los equipos cuyo puntaje es menor o igual al puntaje dado.
+     */
+    private int contarHasta(int puntaje) {
+        int conteo = 0;
+        for (int i = Math.min(puntaje + 1, conteoPorPuntaje.length - 1); i > 0; i -= i & -i) {
+            conteo += conteoPorPuntaje[i];
+        }
+        return conteo;
+    }
+
+    private void ampliarConteo(int minimo) {
+        int longitud = conteoPorPuntaje.length;
+        while (longitud <= minimo) {
+            longitud *= 2;
+        }
+        conteoPorPuntaje = new int[longitud];
+        for (var posicion : posiciones) {
+            for (int i = posicion.puntaje + 1; i < longitud; i += i & -i) {
+                conteoPorPuntaje[i]++;
+            }
+        }
+    }
+
+    private static final class Posicion {
+        private final Equipo equipo;
+        private final int orden;
+        private int puntaje;
+
+        private Posicion(Equipo equipo, int orden, int puntaje) {
+            this.equipo = equipo;
+            this.orden = orden;
+            this.puntaje = puntaje;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Enumeración que representa los posibles resultados de un Enfrentamiento
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo;
+
+public enum TipoResultado {
+    GANA_VISITANTE,
+    GANA_LOCAL,
+    EMPATE
+}
@@ -7,18 +7,53 @@
  */
 package co.edu.uniquindio.poo;
 
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.LinkedList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import static co.edu.uniquindio.poo.util.AssertionUtil.ASSERTION;
 
+/**
+ * Las colecciones e índices del torneo admiten lectores y escritores
+ * concurrentes, de modo que varios anotadores pueden registrar equipos,
+ * jugadores y resultados a la vez sin un bloqueo global.
+ *
+ * Cada cambio del torneo, de sus equipos inscritos o de sus enfrentamientos
+ * registrados se valida, se aplica y se notifica a los observadores con el
+ * bloqueo de lectura de los cambios. Los cambios no se esperan entre sí, pero
+ * sí esperan a las operaciones que necesitan el torneo quieto, como activar el
+ * calendario de lugares, registrar un lote de enfrentamientos o guardar una
+ * instantánea. Quien cambia un equipo o un enfrentamiento toma primero su
+ * monitor y después el bloqueo de los cambios. El registro de un lote de
+ * enfrentamientos es la excepción: con el bloqueo tomado toma el monitor de
+ * enfrentamientos que aún no están registrados, por lo que el registro de un
+ * solo enfrentamiento no espera el bloqueo con el monitor tomado.
+ */
 public class Torneo {
     private final String nombre;
-    private LocalDate fechaInicio;
+    private volatile LocalDate fechaInicio;
     private LocalDate fechaInicioInscripciones;
     private LocalDate fechaCierreInscripciones;
     private final byte numeroParticipantes;
@@ -26,21 +61,51 @@ public class Torneo {
     private final int valorInscripcion;
     private final TipoTorneo tipoTorneo;
     private final TipoTorneoGenero tipoTorneoGenero;
-    private final Collection<Equipo> equipos;
+    private final Map<String, Equipo> equipos;
+    private final Collection<Equipo> ordenEquipos;
+    private final Map<ClaveJugador, Jugador> jugadores;
+    private final Equipo.Observador observadorEquipos;
+    private final TablaClasificacion clasificacion;
+    private final IndiceEnfrentamientos enfrentamientosPorClave;
+    private final Map<String, Collection<Enfrentamiento>> enfrentamientosPorJuez;
+    private final CalendarioEquipos calendarioEquipos;
+    private volatile CalendarioLugares calendarioLugares;
+    private final ReadWriteLock bloqueoCambios;
+    private final Enfrentamiento.Observador observadorEnfrentamientos;
     private final Collection<Juez> jueces;
+    private final Map<String, Juez> juecesPorLicencia;
     private final Collection<Estadistica> estadisticas;
     private final Collection<Enfrentamiento> enfrentamientos;
+    private final Clock reloj;
+    private final Collection<Observador> observadores;
+    private volatile VentanaInscripcion ventanaInscripcion;
+    private volatile ReglasElegibilidad reglasElegibilidad;
 
     public Torneo(String nombre, LocalDate fechaInicio,
             LocalDate fechaInicioInscripciones,
             LocalDate fechaCierreInscripciones, byte numeroParticipantes,
             byte limiteEdad, int valorInscripcion, TipoTorneo tipoTorneo, TipoTorneoGenero tipoTorneoGenero) {
+        this(nombre, fechaInicio, fechaInicioInscripciones, fechaCierreInscripciones, numeroParticipantes, limiteEdad,
+                valorInscripcion, tipoTorneo, tipoTorneoGenero, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Crea un torneo que toma la fecha actual del reloj dado, lo que permite
+     * ejecutar operaciones por lotes o pruebas con un reloj fijo.
+     */
+    public Torneo(String nombre, LocalDate fechaInicio,
+            LocalDate fechaInicioInscripciones,
+            LocalDate fechaCierreInscripciones, byte numeroParticipantes,
+            byte limiteEdad, int valorInscripcion, TipoTorneo tipoTorneo, TipoTorneoGenero tipoTorneoGenero,
+            Clock reloj) {
 
         ASSERTION.assertion(nombre != null, "El nombre es requerido");
+        ASSERTION.assertion(reloj != null, "El reloj es requerido");
         ASSERTION.assertion(numeroParticipantes >= 0, "El número de participantes no puede ser negativo");
         ASSERTION.assertion(limiteEdad >= 0, "El limite de edad no puede ser negativo");
         ASSERTION.assertion(valorInscripcion >= 0, "El valor de la inscripción no puede ser negativo");
 
+        this.reloj = reloj;
         setFechaInicioInscripciones(fechaInicioInscripciones);
         setFechaCierreInscripciones(fechaCierreInscripciones);
         setFechaInicio(fechaInicio);
@@ -50,11 +115,22 @@ public class Torneo {
         this.tipoTorneo = tipoTorneo;
         this.tipoTorneoGenero = tipoTorneoGenero;
         this.nombre = nombre;
-        this.enfrentamientos = new LinkedList<>();
+        this.enfrentamientos = new ListaCreciente<>();
 
-        this.jueces = new LinkedList<>();
-        this.equipos = new LinkedList<>();
-        this.estadisticas = new LinkedList<>();
+        this.jueces = new ConcurrentLinkedQueue<>();
+        this.juecesPorLicencia = new ConcurrentHashMap<>();
+        this.equipos = new ConcurrentHashMap<>();
+        this.ordenEquipos = new ConcurrentLinkedQueue<>();
+        this.jugadores = new ConcurrentHashMap<>();
+        this.observadorEquipos = new ObservadorEquipos();
+        this.clasificacion = new TablaClasificacion();
+        this.enfrentamientosPorClave = new IndiceEnfrentamientos();
+        this.enfrentamientosPorJuez = new ConcurrentHashMap<>();
+        this.calendarioEquipos = new CalendarioEquipos();
+        this.bloqueoCambios = new ReentrantReadWriteLock();
+        this.observadorEnfrentamientos = new ObservadorEnfrentamientos();
+        this.estadisticas = new ConcurrentLinkedQueue<>();
+        this.observadores = new CopyOnWriteArrayList<>();
     }
 
     public String getNombre() {
@@ -93,6 +169,10 @@ public class Torneo {
         return tipoTorneoGenero;
     }
 
+    public Clock getReloj() {
+        return reloj;
+    }
+
     public Collection<Juez> getJueces() {
         return Collections.unmodifiableCollection(jueces);
     }
@@ -102,7 +182,7 @@ public class Torneo {
     }
 
     public Collection<Equipo> getEquipos() {
-        return Collections.unmodifiableCollection(equipos);
+        return Collections.unmodifiableCollection(ordenEquipos);
 
     }
 
@@ -121,6 +201,7 @@ public class Torneo {
     public void setFechaInicioInscripciones(LocalDate fechaInicioInscripciones) {
         ASSERTION.assertion(fechaInicioInscripciones != null, "La fecha de inicio de inscripciones es requerida");
         this.fechaInicioInscripciones = fechaInicioInscripciones;
+        ventanaInscripcion = null;
     }
 
     public void setFechaCierreInscripciones(LocalDate fechaCierreInscripciones) {
@@ -128,6 +209,7 @@ public class Torneo {
         ASSERTION.assertion(fechaCierreInscripciones.isAfter(fechaInicioInscripciones),
                 "La fecha de cierre de inscripciones debe ser posterior a la fecha de inicio de inscripciones");
         this.fechaCierreInscripciones = fechaCierreInscripciones;
+        ventanaInscripcion = null;
     }
 
     /**
@@ -139,11 +221,33 @@ public class Torneo {
      *            abiertas.
      */
     public void registrarEquipo(Equipo equipo) {
-        validarEquipoExiste(equipo);
         validarInscripciopnesAbiertas();
-        ASSERTION.assertion(comprobarEquipoCumpleCondicionGenero(equipo),
-                "No cumple con la condición de género del torneo");
-        equipos.add(equipo);
+        inscribirEquipo(equipo);
+    }
+
+    /**
+     * Inscribe un equipo en el torneo sin validar las fechas de inscripción. Se
+     * usa para registrar lotes de equipos validando las fechas una sola vez.
+     * 
+     * @param equipo Equipo a ser inscrito.
+     */
+    void inscribirEquipo(Equipo equipo) {
+        validarEquipoExiste(equipo);
+        synchronized (equipo) {
+            ejecutarCambio(() -> {
+                ASSERTION.assertion(comprobarEquipoCumpleCondicionGenero(equipo), ReglasElegibilidad.MENSAJE_GENERO);
+                ASSERTION.assertion(equipos.putIfAbsent(equipo.getNombre(), equipo) == null,
+                        "El equipo ya esta registrado");
+                equipo.getJugadores().forEach(jugador -> jugadores.putIfAbsent(ClaveJugador.de(jugador), jugador));
+                equipo.agregarObservador(observadorEquipos);
+                observadores.forEach(observador -> observador.equipoRegistrado(equipo));
+                ordenEquipos.add(equipo);
+                clasificacion.agregar(equipo);
+                if (equipo.getEstadistica() != null) {
+                    equipo.getEstadistica().agregarObservador(estadistica -> clasificacion.actualizar(equipo));
+                }
+            });
+        }
     }
 
     /**
@@ -153,7 +257,12 @@ public class Torneo {
      */
     public void registrarJuez(Juez juez) {
         validarJuezExiste(juez);
-        jueces.add(juez);
+        ejecutarCambio(() -> {
+            ASSERTION.assertion(juecesPorLicencia.putIfAbsent(juez.getLicenciaJuez(), juez) == null,
+                    "El juez ya esta registrado");
+            jueces.add(juez);
+            observadores.forEach(observador -> observador.juezRegistrado(juez));
+        });
     }
 
     /**
@@ -174,19 +283,36 @@ public class Torneo {
      * @return Optional que contiene al juez encontrado o es vacío si no se
      *         encuentra.
      */
-    private Optional<Juez> buscarJuezPorLicencia(String licenciaJuez) {
-        Predicate<Juez> condicion = juez -> juez.getLicenciaJuez().equals(licenciaJuez);
-        return jueces.stream().filter(condicion).findAny();
+    Optional<Juez> buscarJuezPorLicencia(String licenciaJuez) {
+        return Optional.ofNullable(juecesPorLicencia.get(licenciaJuez));
     }
 
     /**
      * Valida que las inscripciones del torneo esten abiertas, en caso de no estarlo
      * genera un assertion error.
      */
-    private void validarInscripciopnesAbiertas() {
-        boolean inscripcionAbierta = fechaInicioInscripciones.isBefore(LocalDate.now())
-                && fechaCierreInscripciones.isAfter(LocalDate.now());
-        ASSERTION.assertion(inscripcionAbierta, "Las inscripciones no están abiertas");
+    void validarInscripciopnesAbiertas() {
+        ASSERTION.assertion(obtenerVentanaInscripcion().inscripcionAbierta(), "Las inscripciones no están abiertas");
+    }
+
+    /**
+     * Obtiene el estado de las inscripciones para el día actual del reloj. El
+     * estado solo se recalcula cuando cambia el día o las fechas de inscripción,
+     * por lo que las validaciones repetidas no consultan el calendario.
+     */
+    private VentanaInscripcion obtenerVentanaInscripcion() {
+        long ahora = reloj.millis();
+        var ventana = ventanaInscripcion;
+        if (ventana == null || ahora < ventana.inicioDia() || ahora >= ventana.finDia()) {
+            var zona = reloj.getZone();
+            var hoy = LocalDate.ofInstant(Instant.ofEpochMilli(ahora), zona);
+            ventana = new VentanaInscripcion(hoy.atStartOfDay(zona).toInstant().toEpochMilli(),
+                    hoy.plusDays(1).atStartOfDay(zona).toInstant().toEpochMilli(),
+                    fechaInicioInscripciones.isBefore(hoy) && fechaCierreInscripciones.isAfter(hoy),
+                    !hoy.isAfter(fechaCierreInscripciones));
+            ventanaInscripcion = ventana;
+        }
+        return ventana;
     }
 
     /**
@@ -200,7 +326,8 @@ public class Torneo {
 
     /**
      * Permite buscar un equipo por su nomnbre entre los equipos registrados en el
-     * torneo
+     * torneo. Los equipos están indexados por nombre, por lo que la búsqueda no
+     * recorre la colección de equipos.
      * 
      * @param nombre Nombre del equipo que se está buscando
      * @return Un Optional<Equipo> con el equipo cuyo nombre sea igual al nombre
@@ -208,8 +335,7 @@ public class Torneo {
      *         nombre igual al dado.
      */
     public Optional<Equipo> buscarEquipoPorNombre(String nombre) {
-        Predicate<Equipo> condicion = equipo -> equipo.getNombre().equals(nombre);
-        return equipos.stream().filter(condicion).findAny();
+        return Optional.ofNullable(equipos.get(nombre));
     }
 
     /**
@@ -236,8 +362,28 @@ public class Torneo {
      * @param jugador Jugador que se desea registrar.
      */
     public void registrarJugador(Equipo equipo, Jugador jugador) {
-        ASSERTION.assertion(!LocalDate.now().isAfter(fechaCierreInscripciones),
+        validarRegistroJugadoresAbierto();
+        inscribirJugador(equipo, jugador);
+    }
+
+    /**
+     * Valida que aún se puedan registrar jugadores en el torneo, en caso de que
+     * la fecha de cierre de inscripciones ya haya pasado genera un assertion
+     * error.
+     */
+    void validarRegistroJugadoresAbierto() {
+        ASSERTION.assertion(obtenerVentanaInscripcion().registroJugadoresAbierto(),
                 "No se pueden registrar jugadores después del a fecha de cierre de inscripciones");
+    }
+
+    /**
+     * Inscribe un jugador en el equipo sin validar las fechas de registro. Se usa
+     * para registrar lotes de jugadores validando las fechas una sola vez.
+     * 
+     * @param equipo  Equipo en el que se desea registrar el jugador.
+     * @param jugador Jugador que se desea registrar.
+     */
+    void inscribirJugador(Equipo equipo, Jugador jugador) {
         validarLimiteEdadJugador(jugador);
         validarJugadorExiste(jugador);
         equipo.registrarJugador(jugador);
@@ -245,7 +391,8 @@ public class Torneo {
 
     /**
      * Permite buscar un jugador basado en su nombre y apellido en todos los equipos
-     * registrados en el torneo.
+     * registrados en el torneo. Los jugadores están indexados por nombre y
+     * apellido, por lo que la búsqueda no recorre los equipos.
      * 
      * @param jugador Jugador que se desea buscar
      * @return Optional con el jugador encontrado o un optional vacío en caso de no
@@ -253,11 +400,7 @@ public class Torneo {
      *         buscado.
      */
     public Optional<Jugador> buscarJugador(Jugador jugador) {
-        return equipos.stream()
-                .map(equipo -> equipo.buscarJugador(jugador))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .findAny();
+        return Optional.ofNullable(jugadores.get(ClaveJugador.de(jugador)));
     }
 
     /**
@@ -274,25 +417,115 @@ public class Torneo {
      * del torneo excedan el limite de edad.
      */
     private void validarLimiteEdadJugador(Jugador jugador) {
-        var edadAlInicioTorneo = jugador.calcularEdad(fechaInicio);
-        ASSERTION.assertion(limiteEdad == 0 || limiteEdad >= edadAlInicioTorneo,
-                "No se pueden registrar jugadores que excedan el limite de edad del torneo");
+        ASSERTION.assertion(getReglasElegibilidad().cumpleLimiteEdad(jugador),
+                ReglasElegibilidad.MENSAJE_LIMITE_EDAD);
+    }
+
+    /**
+     * Obtiene las reglas de elegibilidad de los jugadores del torneo. Las reglas
+     * se calculan la primera vez que se necesitan y cada vez que no coinciden
+     * con la fecha de inicio actual del torneo, por lo que nunca se usan reglas
+     * calculadas con una fecha de inicio anterior aunque otro hilo la cambie.
+     * 
+     * @return Reglas de elegibilidad del torneo.
+     */
+    public ReglasElegibilidad getReglasElegibilidad() {
+        var fecha = fechaInicio;
+        var reglas = reglasElegibilidad;
+        if (reglas == null || !reglas.getFechaInicio().equals(fecha)) {
+            reglas = new ReglasElegibilidad(fecha, limiteEdad, tipoTorneoGenero);
+            reglasElegibilidad = reglas;
+        }
+        return reglas;
+    }
+
+    /**
+     * Evalúa en un solo recorrido si los jugadores de un equipo cumplen el límite
+     * de edad y el género del torneo, y si alguno ya está registrado en otro
+     * equipo del torneo.
+     * 
+     * @param equipo Equipo a evaluar.
+     * @return Lista con las infracciones encontradas, vacía si todos los
+     *         jugadores son elegibles.
+     */
+    public List<ReglasElegibilidad.Infraccion> evaluarElegibilidad(Equipo equipo) {
+        var infracciones = getReglasElegibilidad().evaluar(equipo);
+        for (var jugador : equipo.getJugadores()) {
+            var registrado = jugadores.get(ClaveJugador.de(jugador));
+            if (registrado != null && registrado != jugador) {
+                infracciones.add(new ReglasElegibilidad.Infraccion(jugador,
+                        ReglasElegibilidad.Regla.JUGADOR_REGISTRADO, ReglasElegibilidad.MENSAJE_JUGADOR_REGISTRADO));
+            }
+        }
+        return infracciones;
+    }
+
+    /**
+     * Evalúa en un solo recorrido si un lote de jugadores, por ejemplo uno que se
+     * va a importar, cumple el límite de edad y el género del torneo, y si alguno
+     * ya está registrado en el torneo o se repite dentro del lote.
+     * 
+     * @param lote Jugadores a evaluar.
+     * @return Lista con las infracciones encontradas en el orden del lote, vacía
+     *         si todos los jugadores son elegibles.
+     */
+    public List<ReglasElegibilidad.Infraccion> evaluarElegibilidad(Collection<Jugador> lote) {
+        ASSERTION.assertion(lote != null, "Los jugadores son requeridos");
+        var reglas = getReglasElegibilidad();
+        var infracciones = new ArrayList<ReglasElegibilidad.Infraccion>();
+        var claves = new HashSet<ClaveJugador>();
+        for (var jugador : lote) {
+            reglas.evaluar(jugador, infracciones);
+            var clave = ClaveJugador.de(jugador);
+            if (jugadores.containsKey(clave) || !claves.add(clave)) {
+                infracciones.add(new ReglasElegibilidad.Infraccion(jugador,
+                        ReglasElegibilidad.Regla.JUGADOR_REGISTRADO, ReglasElegibilidad.MENSAJE_JUGADOR_REGISTRADO));
+            }
+        }
+        return infracciones;
     }
 
     /**
      * Obtiene una colección de equipos clasificados por resultados de
-     * enfrentamiento.
+     * enfrentamiento. La tabla de clasificación se mantiene actualizada a medida
+     * que cambian las estadísticas, por lo que no se ordena en cada consulta.
      * 
      * @return Una colección de equipos ordenada por resultados de enfrentamiento.
      */
     public Collection<Equipo> obtenerListaEquiposClasificacionResultadosEnfrentamiento() {
-        return equipos.stream()
-                .sorted(Comparator.comparing((Equipo equipo) -> equipo.getEstadistica().getPuntaje()).reversed())
-                .toList();
+        return clasificacion.obtenerTabla();
     }
 
     /**
-     * Comprobar si el equipo contiene jugadores del mismo genero que del torneo
+     * Obtiene los mejores equipos de la tabla de clasificación.
+     * 
+     * @param cantidad Cantidad máxima de equipos a obtener.
+     * @return Colección con los primeros equipos de la clasificación, ordenada por
+     *         resultados de enfrentamiento.
+     */
+    public Collection<Equipo> obtenerMejoresEquiposClasificacion(int cantidad) {
+        ASSERTION.assertion(cantidad >= 0, "La cantidad de equipos no puede ser negativa");
+        return clasificacion.obtenerMejores(cantidad);
+    }
+
+    /**
+     * Obtiene la posición de un equipo en la tabla de clasificación. Los equipos
+     * con el mismo puntaje comparten la posición.
+     * 
+     * @param nombre Nombre del equipo.
+     * @return OptionalInt con la posición del equipo empezando en 1, o vacío si
+     *         no hay un equipo registrado con el nombre dado.
+     */
+    public OptionalInt obtenerPosicionEquipoClasificacion(String nombre) {
+        return buscarEquipoPorNombre(nombre)
+                .map(equipo -> OptionalInt.of(clasificacion.obtenerPosicion(equipo)))
+                .orElse(OptionalInt.empty());
+    }
+
+    /**
+     * Comprobar si el equipo contiene jugadores del mismo genero que del torneo.
+     * El equipo lleva la cantidad de jugadores de cada género, por lo que la
+     * comprobación no recorre sus jugadores.
      * 
      * @param equipo el equipo que se va a comprobar
      * @return valor booleano, que representara si se cumple o no, con la condición
@@ -300,75 +533,616 @@ public class Torneo {
      */
     private boolean comprobarEquipoCumpleCondicionGenero(Equipo equipo) {
 
-        boolean condicion = false;
-        if (tipoTorneoGenero == TipoTorneoGenero.HOMBRES) {
-            if (equipo.getJugadores().stream().allMatch(jugador -> jugador.getTipoGenero() == TipoGenero.HOMBRE)) {
-                condicion = true;
-            }
-        } else if (tipoTorneoGenero == TipoTorneoGenero.MUJERES) {
-            if (equipo.getJugadores().stream().allMatch(jugador -> jugador.getTipoGenero() == TipoGenero.MUJER)) {
-                condicion = true;
-            }
-        } else {
-            condicion = true;
-
-        }
-        return condicion;
+        var generoRequerido = getReglasElegibilidad().getGeneroRequerido();
+        return generoRequerido == null || equipo.getPlantilla().todosDelGenero(generoRequerido);
 
     }
 
     /**
      * Obtiene una colección de enfrentamientos en los que participa al menos un
-     * juez con la licencia especificada.
+     * juez con la licencia especificada. Los enfrentamientos están indexados por
+     * la licencia de sus jueces, por lo que la consulta no recorre todos los
+     * enfrentamientos del torneo.
      *
      * @param licencia Licencia del juez.
      * @return Colección de enfrentamientos en los que participa el juez con la
      *         licencia especificada.
      */
     public Collection<Enfrentamiento> obtenerListaEnfrentamientosJuezPorLicencia(String licencia) {
-        return enfrentamientos.stream()
-                .filter(enfrentamiento -> enfrentamiento.getJueces().stream()
-                        .anyMatch(juez -> juez.getLicenciaJuez().equals(licencia)))
-                .toList();
+        return List.copyOf(enfrentamientosPorJuez.getOrDefault(licencia, List.of()));
     }
 
     /**
      * Registra un enfrentamiento en la colección de enfrentamientos del torneo.
+     * Un enfrentamiento se considera repetido si ya existe otro con los mismos
+     * equipos, fecha, hora y lugar.
+     *
+     * Mientras se registra, el enfrentamiento no puede cambiar, de modo que los
+     * jueces y la fecha y hora con que se indexa son los mismos que tiene cuando
+     * el torneo empieza a observar sus cambios. Con el monitor del enfrentamiento
+     * tomado el bloqueo de los cambios solo se intenta tomar sin esperar, pues
+     * quien registra un lote lo mantiene mientras toma el monitor de cada
+     * enfrentamiento nuevo; si no está libre, se espera sin el monitor y se
+     * vuelve a intentar.
      *
      * @param enfrentamiento Enfrentamiento a registrar.
      * @throws AssertionError Si el enfrentamiento ya está registrado.
      */
     public void registrarEnfrentamiento(Enfrentamiento enfrentamiento) {
-        boolean existeEnfrentamiento = buscarEnfrentamiento(enfrentamiento).isPresent();
-        ASSERTION.assertion(!existeEnfrentamiento, "El enfrentamiento ya esta registrado");
+        var bloqueo = bloqueoCambios.readLock();
+        while (true) {
+            synchronized (enfrentamiento) {
+                if (intentarBloqueo(bloqueo)) {
+                    try {
+                        agregarEnfrentamiento(enfrentamiento);
+                        return;
+                    } finally {
+                        bloqueo.unlock();
+                    }
+                }
+            }
+            bloqueo.lock();
+            bloqueo.unlock();
+        }
+    }
+
+    /**
+     * Intenta tomar un bloqueo sin esperar, respetando a los hilos que ya lo
+     * esperan para escribir.
+     */
+    private static boolean intentarBloqueo(Lock bloqueo) {
+        try {
+            return bloqueo.tryLock(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Se interrumpió el registro del enfrentamiento", e);
+        }
+    }
+
+    /**
+     * Agrega un enfrentamiento a los índices del torneo y empieza a observar sus
+     * cambios. Se llama con el monitor del enfrentamiento y el bloqueo de los
+     * cambios tomados.
+     */
+    private void agregarEnfrentamiento(Enfrentamiento enfrentamiento) {
+        var clave = enfrentamiento.getClave();
+        ASSERTION.assertion(enfrentamientosPorClave.reservar(clave, enfrentamiento) == null,
+                "El enfrentamiento ya esta registrado");
+        var calendario = calendarioLugares;
+        if (calendario != null) {
+            try {
+                calendario.reservar(enfrentamiento);
+            } catch (RuntimeException e) {
+                enfrentamientosPorClave.liberar(clave, enfrentamiento);
+                throw e;
+            }
+        }
         enfrentamientos.add(enfrentamiento);
+        calendarioEquipos.agregar(enfrentamiento);
+        enfrentamiento.getJueces().forEach(juez -> indexarJuez(enfrentamiento, juez));
+        enfrentamiento.agregarObservador(observadorEnfrentamientos);
+        observadores.forEach(observador -> observador.enfrentamientoRegistrado(enfrentamiento));
     }
 
     /**
-     * Busca un enfrentamiento en la colección de enfrentamientos del torneo.
+     * Registra varios enfrentamientos a la vez, por ejemplo un fixture completo.
+     * Mientras tanto se bloquean los demás cambios del torneo, de modo que el
+     * lote se registra completo o no se registra.
      *
-     * @param enfrentamiento Enfrentamiento a buscar.
+     * Cada enfrentamiento se valida una sola vez: su clave se reserva en el índice
+     * y el enfrentamiento se reserva para que no cambie hasta terminar el lote, y
+     * si el calendario de lugares está activo se reserva su lugar. Si alguna
+     * reserva falla, se deshacen todas. Después se agregan los enfrentamientos a
+     * los índices del torneo en un solo paso por índice y se empieza a observar
+     * sus cambios.
+     *
+     * @param lote Enfrentamientos a registrar.
+     * @throws AssertionError Si algún enfrentamiento ya está registrado, está
+     *                        repetido en el lote, se está registrando en otro
+     *                        lote o se cruza en su lugar con otro
+     *                        enfrentamiento.
+     */
+    public void registrarEnfrentamientos(List<Enfrentamiento> lote) {
+        ASSERTION.assertion(lote != null, "Los enfrentamientos son requeridos");
+        var bloqueo = bloqueoCambios.writeLock();
+        bloqueo.lock();
+        try {
+            reservarLote(lote);
+            enfrentamientos.addAll(lote);
+            calendarioEquipos.agregarTodos(lote);
+            completarRegistros(lote);
+            for (var observador : observadores) {
+                for (var enfrentamiento : lote) {
+                    observador.enfrentamientoRegistrado(enfrentamiento);
+                }
+            }
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    /**
+     * Reserva la clave, el enfrentamiento y el lugar de cada enfrentamiento de un
+     * lote, o ninguno si alguna reserva falla. La clave se reserva antes de tomar
+     * el monitor del enfrentamiento, de modo que nunca se espera el monitor de un
+     * enfrentamiento ya registrado en el torneo.
+     */
+    private void reservarLote(List<Enfrentamiento> lote) {
+        var claves = new Enfrentamiento.Clave[lote.size()];
+        enfrentamientosPorClave.reservarTodos(lote, claves);
+        int enfrentamientosReservados = 0;
+        int lugaresReservados = 0;
+        var calendario = calendarioLugares;
+        try {
+            for (int i = 0; i < lote.size(); i++) {
+                var enfrentamiento = lote.get(i);
+                ASSERTION.assertion(enfrentamiento.reservarRegistro(),
+                        "El enfrentamiento se está registrando en otro lote");
+                enfrentamientosReservados++;
+                // La fecha y hora pudieron cambiar antes de reservar el enfrentamiento
+                ASSERTION.assertion(Objects.equals(enfrentamiento.getFecha(), claves[i].fecha())
+                        && Objects.equals(enfrentamiento.getHora(), claves[i].hora()),
+                        "El enfrentamiento cambió mientras se registraba");
+            }
+            if (calendario != null) {
+                for (var enfrentamiento : lote) {
+                    calendario.reservar(enfrentamiento);
+                    lugaresReservados++;
+                }
+            }
+        } catch (RuntimeException e) {
+            for (int i = 0; i < lugaresReservados; i++) {
+                calendario.cancelar(lote.get(i));
+            }
+            for (int i = 0; i < enfrentamientosReservados; i++) {
+                lote.get(i).liberarRegistro();
+            }
+            enfrentamientosPorClave.liberarTodos(lote, claves, lote.size());
+            throw e;
+        }
+    }
+
+    /**
+     * Agrega un observador que será notificado de cada cambio que se haga en el
+     * torneo, en sus equipos o en sus enfrentamientos.
+     *
+     * @param observador Observador a agregar.
+     */
+    void agregarObservador(Observador observador) {
+        observadores.add(observador);
+    }
+
+    /**
+     * Ejecuta un cambio del torneo con el bloqueo de lectura de los cambios.
+     */
+    private void ejecutarCambio(Runnable cambio) {
+        var bloqueo = bloqueoCambios.readLock();
+        bloqueo.lock();
+        try {
+            cambio.run();
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    /**
+     * Ejecuta una acción mientras se bloquean todos los cambios del torneo, de
+     * sus equipos y de sus enfrentamientos, por ejemplo para guardar su estado
+     * completo. Los cambios que ya empezaron terminan antes de ejecutar la
+     * acción.
+     *
+     * @param accion Acción a ejecutar.
+     * @throws IOException Si la acción genera el error.
+     */
+    void ejecutarSinCambios(Accion accion) throws IOException {
+        var bloqueo = bloqueoCambios.writeLock();
+        bloqueo.lock();
+        try {
+            accion.ejecutar();
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    /**
+     * Quita un observador del torneo.
+     *
+     * @param observador Observador a quitar.
+     */
+    void quitarObservador(Observador observador) {
+        observadores.remove(observador);
+    }
+
+    /**
+     * Activa el calendario de lugares del torneo. A partir de ese momento no se
+     * pueden registrar ni reprogramar enfrentamientos en un lugar que ya esté
+     * reservado a esa hora, y se pueden consultar los horarios libres de cada
+     * lugar.
+     *
+     * Mientras se llena el calendario con los enfrentamientos ya registrados se
+     * bloquean los cambios del torneo, para que ningún enfrentamiento quede fuera
+     * del calendario o con una reserva vieja.
+     *
+     * @param duracionEnfrentamiento Tiempo que un enfrentamiento ocupa su lugar.
+     * @throws AssertionError Si ya hay enfrentamientos registrados que se cruzan
+     *                        en el mismo lugar. En ese caso el calendario no se
+     *                        activa.
+     */
+    public void activarCalendarioLugares(Duration duracionEnfrentamiento) {
+        var calendario = new CalendarioLugares(duracionEnfrentamiento);
+        var bloqueo = bloqueoCambios.writeLock();
+        bloqueo.lock();
+        try {
+            enfrentamientos.forEach(calendario::reservar);
+            calendarioLugares = calendario;
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    /**
+     * Obtiene los horarios en que un lugar está libre entre dos fechas, por
+     * ejemplo durante una semana.
+     *
+     * @param lugar    Lugar a consultar.
+     * @param desde    Primera fecha a consultar.
+     * @param hasta    Última fecha a consultar.
+     * @param horarios Horas del día en que se pueden programar enfrentamientos.
+     * @return Lista con las fechas y horas libres, en orden.
+     * @throws AssertionError Si el calendario de lugares no está activo.
+     */
+    public List<LocalDateTime> obtenerHorariosLibresLugar(Lugar lugar, LocalDate desde, LocalDate hasta,
+            List<LocalTime> horarios) {
+        var calendario = calendarioLugares;
+        ASSERTION.assertion(calendario != null, "El calendario de lugares no esta activo");
+        ASSERTION.assertion(lugar != null && desde != null && hasta != null && horarios != null,
+                "El lugar, las fechas y los horarios son requeridos");
+        return calendario.obtenerHorariosLibres(lugar, desde, hasta, horarios);
+    }
+
+    /**
+     * Empieza a observar los enfrentamientos de un lote ya reservado y los agrega
+     * a las listas de sus jueces, en un solo recorrido del lote y con un solo
+     * paso por juez. Todos los enfrentamientos del lote comparten el arreglo con
+     * el observador del torneo.
+     */
+    private void completarRegistros(List<Enfrentamiento> lote) {
+        var observadoresLote = new Enfrentamiento.Observador[] { observadorEnfrentamientos };
+        var enfrentamientosPorLicencia = new HashMap<String, List<Enfrentamiento>>();
+        for (var enfrentamiento : lote) {
+            for (var juez : enfrentamiento.getArregloJueces()) {
+                enfrentamientosPorLicencia.computeIfAbsent(juez.getLicenciaJuez(), licencia -> new ArrayList<>())
+                        .add(enfrentamiento);
+            }
+            enfrentamiento.completarRegistro(observadoresLote);
+        }
+        enfrentamientosPorLicencia.forEach((licencia, lista) -> enfrentamientosPorJuez
+                .computeIfAbsent(licencia, l -> new ListaCreciente<>()).addAll(lista));
+    }
+
+    /**
+     * Agrega un enfrentamiento a la lista de enfrentamientos del juez dado.
+     */
+    private void indexarJuez(Enfrentamiento enfrentamiento, Juez juez) {
+        enfrentamientosPorJuez.computeIfAbsent(juez.getLicenciaJuez(), licencia -> new ListaCreciente<>())
+                .add(enfrentamiento);
+    }
+
+    /**
+     * Busca un enfrentamiento del torneo por su clave natural.
+     *
+     * @param clave Clave del enfrentamiento a buscar.
      * @return Optional con el enfrentamiento encontrado, o un Optional vacío si no
      *         se encuentra.
      */
-    private Optional<Enfrentamiento> buscarEnfrentamiento(Enfrentamiento enfrentamiento) {
-        return enfrentamientos.stream()
-                .filter(e -> e.equals(enfrentamiento))
-                .findAny();
+    public Optional<Enfrentamiento> buscarEnfrentamiento(Enfrentamiento.Clave clave) {
+        return Optional.ofNullable(enfrentamientosPorClave.buscar(clave));
+    }
+
+    /**
+     * Registra los resultados de varios enfrentamientos a la vez, por ejemplo los
+     * de una jornada completa. Primero se validan todos los marcadores y se
+     * reserva el registro del resultado de cada enfrentamiento y, solo si todos
+     * son válidos y quedaron reservados, se finalizan los enfrentamientos y se
+     * actualizan las estadísticas. La tabla de clasificación se reordena una sola
+     * vez, en la siguiente consulta.
+     *
+     * Varios hilos pueden registrar resultados a la vez. Mientras un lote tiene
+     * reservado un enfrentamiento, los demás lotes que lo incluyen fallan sin
+     * registrar nada, y el enfrentamiento no se puede llevar a cabo por otra vía.
+     *
+     * @param marcadores Marcadores de los enfrentamientos a finalizar.
+     * @throws AssertionError Si algún enfrentamiento no está registrado en el
+     *                        torneo, ya fue finalizado, está reservado por otro
+     *                        lote, está repetido o tiene puntos negativos. En
+     *                        ese caso no se registra ningún resultado.
+     */
+    public void registrarResultados(Collection<MarcadorEnfrentamiento> marcadores) {
+        ASSERTION.assertion(marcadores != null, "Los marcadores son requeridos");
+        Set<Enfrentamiento> enfrentamientosLote = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (var marcador : marcadores) {
+            var enfrentamiento = marcador.enfrentamiento();
+            ASSERTION.assertion(enfrentamiento != null, "El enfrentamiento es requerido");
+            ASSERTION.assertion(enfrentamientosPorClave.buscar(enfrentamiento.getClave()) == enfrentamiento,
+                    "El enfrentamiento no esta registrado en el torneo");
+            ASSERTION.assertion(marcador.puntosVisitante() >= 0 && marcador.puntosLocal() >= 0,
+                    "Los puntos no pueden ser negativos");
+            ASSERTION.assertion(enfrentamientosLote.add(enfrentamiento), "El enfrentamiento esta repetido");
+        }
+        var reservados = new ArrayList<Enfrentamiento>(enfrentamientosLote.size());
+        try {
+            for (var marcador : marcadores) {
+                ASSERTION.assertion(marcador.enfrentamiento().reservarResultado(),
+                        "El enfrentamiento ya fue finalizado");
+                reservados.add(marcador.enfrentamiento());
+            }
+        } catch (RuntimeException e) {
+            reservados.forEach(Enfrentamiento::liberarResultado);
+            throw e;
+        }
+        int registrados = 0;
+        try {
+            for (var marcador : marcadores) {
+                marcador.enfrentamiento().registrarResultado(marcador.puntosVisitante(), marcador.puntosLocal());
+                registrados++;
+            }
+        } finally {
+            reservados.subList(registrados, reservados.size()).forEach(Enfrentamiento::liberarResultado);
+        }
     }
 
     /**
      * Obtiene una colección de enfrentamientos en los que participa un equipo con
-     * el nombre especificado.
+     * el nombre especificado, ordenada por fecha y hora. Cada equipo tiene su
+     * propio calendario de enfrentamientos, por lo que la consulta no recorre
+     * todos los enfrentamientos del torneo.
      *
      * @param nombre Nombre del equipo.
      * @return Colección de enfrentamientos en los que participa el equipo con el
      *         nombre especificado.
      */
     public Collection<Enfrentamiento> obtenerListaEnfrentamientosEquipoPorNombre(String nombre) {
-        Predicate<Enfrentamiento> condicion1 = enfrentamiento -> enfrentamiento.getVisitante().getNombre()
-                .equals(nombre);
-        Predicate<Enfrentamiento> condicion2 = enfrentamiento -> enfrentamiento.getLocal().getNombre().equals(nombre);
-        return enfrentamientos.stream().filter(condicion1.or(condicion2)).toList();
+        return calendarioEquipos.obtenerEnfrentamientos(nombre);
+    }
+
+    /**
+     * Estado de las inscripciones del torneo durante un día.
+     * 
+     * @param inicioDia                Instante en que empieza el día, en
+     *                                 milisegundos.
+     * @param finDia                   Instante en que termina el día, en
+     *                                 milisegundos.
+     * @param inscripcionAbierta       Indica si se pueden inscribir equipos.
+     * @param registroJugadoresAbierto Indica si se pueden registrar jugadores.
+     */
+    private record VentanaInscripcion(long inicioDia, long finDia, boolean inscripcionAbierta,
+            boolean registroJugadoresAbierto) {
+    }
+
+    /**
+     * Clave compuesta por nombre y apellido con la que se identifica a un jugador
+     * dentro del torneo.
+     */
+    private record ClaveJugador(String nombre, String apellido) {
+
+        static ClaveJugador de(Jugador jugador) {
+            return new ClaveJugador(jugador.getNombre(), jugador.getApellido());
+        }
+    }
+
+    /**
+     * Mantiene el índice de jugadores del torneo sincronizado con los jugadores
+     * que se registran en los equipos inscritos, incluso cuando el registro se
+     * hace directamente en el equipo. Cada jugador debe ser del género del
+     * torneo, también los que se registran después de inscribir el equipo. El
+     * jugador se reserva en el índice al validarlo, para que dos equipos no
+     * puedan registrar a la vez al mismo jugador, y la reserva se libera si
+     * después el registro se rechaza.
+     */
+    private class ObservadorEquipos implements Equipo.Observador {
+
+        @Override
+        public void ejecutarCambio(Equipo equipo, Runnable cambio) {
+            Torneo.this.ejecutarCambio(cambio);
+        }
+
+        @Override
+        public void validarJugador(Equipo equipo, Jugador jugador) {
+            ASSERTION.assertion(getReglasElegibilidad().cumpleGenero(jugador), ReglasElegibilidad.MENSAJE_GENERO);
+            ASSERTION.assertion(jugadores.putIfAbsent(ClaveJugador.de(jugador), jugador) == null,
+                    "El jugador ya esta registrado");
+        }
+
+        @Override
+        public void jugadorRechazado(Equipo equipo, Jugador jugador) {
+            jugadores.remove(ClaveJugador.de(jugador), jugador);
+        }
+
+        @Override
+        public void jugadorRegistrado(Equipo equipo, Jugador jugador) {
+            jugadores.put(ClaveJugador.de(jugador), jugador);
+            observadores.forEach(observador -> observador.jugadorRegistrado(equipo, jugador));
+        }
+    }
+
+    /**
+     * Mantiene los índices de enfrentamientos del torneo sincronizados con los
+     * cambios que se hacen en los enfrentamientos registrados.
+     */
+    private class ObservadorEnfrentamientos implements Enfrentamiento.Observador {
+
+        @Override
+        public void juezRegistrado(Enfrentamiento enfrentamiento, Juez juez) {
+            indexarJuez(enfrentamiento, juez);
+            observadores.forEach(observador -> observador.juezRegistrado(enfrentamiento, juez));
+        }
+
+        @Override
+        public void puntosActualizados(Enfrentamiento enfrentamiento) {
+            observadores.forEach(observador -> observador.puntosActualizados(enfrentamiento));
+        }
+
+        @Override
+        public void enfrentamientoFinalizado(Enfrentamiento enfrentamiento) {
+            observadores.forEach(observador -> observador.enfrentamientoFinalizado(enfrentamiento));
+        }
+
+        @Override
+        public void estadoActualizado(Enfrentamiento enfrentamiento) {
+            observadores.forEach(observador -> observador.estadoActualizado(enfrentamiento));
+        }
+
+        /**
+         * Mantiene el bloqueo de lectura de los cambios mientras el enfrentamiento
+         * valida, aplica o cancela el cambio, de modo que el calendario no se
+         * activa con una reserva a medias ni se guarda el torneo con un cambio
+         * sin notificar.
+         */
+        @Override
+        public void ejecutarCambio(Enfrentamiento enfrentamiento, Runnable cambio) {
+            Torneo.this.ejecutarCambio(cambio);
+        }
+
+        /**
+         * Reserva la clave y el lugar del enfrentamiento en la nueva fecha y hora,
+         * validando y reservando en un solo paso.
+         */
+        @Override
+        public void validarFechaHora(Enfrentamiento enfrentamiento, LocalDate fecha, LocalTime hora) {
+            var clave = enfrentamiento.getClave().conFechaHora(fecha, hora);
+            var otro = enfrentamientosPorClave.reservar(clave, enfrentamiento);
+            ASSERTION.assertion(otro == null || otro == enfrentamiento, "El enfrentamiento ya esta registrado");
+            var calendario = calendarioLugares;
+            if (calendario != null) {
+                try {
+                    calendario.reservar(enfrentamiento, fecha, hora);
+                } catch (RuntimeException e) {
+                    if (otro == null) {
+                        enfrentamientosPorClave.liberar(clave, enfrentamiento);
+                    }
+                    throw e;
+                }
+            }
+        }
+
+        @Override
+        public void fechaHoraRechazada(Enfrentamiento enfrentamiento, LocalDate fecha, LocalTime hora) {
+            liberarFechaHora(enfrentamiento, fecha, hora);
+        }
+
+        @Override
+        public void fechaHoraActualizada(Enfrentamiento enfrentamiento, LocalDate fechaAnterior,
+                LocalTime horaAnterior) {
+            liberarFechaHora(enfrentamiento, fechaAnterior, horaAnterior);
+            calendarioEquipos.reubicar(enfrentamiento);
+            observadores.forEach(observador -> observador.fechaHoraActualizada(enfrentamiento));
+        }
+
+        /**
+         * Libera la clave y el lugar que el enfrentamiento tenía reservados en una
+         * fecha y hora, salvo que sean los de su fecha y hora actuales.
+         */
+        private void liberarFechaHora(Enfrentamiento enfrentamiento, LocalDate fecha, LocalTime hora) {
+            var clave = enfrentamiento.getClave().conFechaHora(fecha, hora);
+            if (!clave.equals(enfrentamiento.getClave())) {
+                enfrentamientosPorClave.liberar(clave, enfrentamiento);
+            }
+            var calendario = calendarioLugares;
+            if (calendario != null) {
+                calendario.liberar(enfrentamiento, fecha, hora);
+            }
+        }
+    }
+
+    /**
+     * Observador de los cambios en el torneo, en los equipos inscritos y en los
+     * enfrentamientos registrados. Cada notificación se hace después de que el
+     * cambio fue aplicado y antes de soltar el bloqueo de los cambios.
+     */
+    interface Observador {
+
+        /**
+         * Notifica que un equipo fue inscrito en el torneo, junto con los jugadores
+         * que ya tenía.
+         *
+         * @param equipo Equipo inscrito.
+         */
+        default void equipoRegistrado(Equipo equipo) {
+        }
+
+        /**
+         * Notifica que un jugador fue registrado en un equipo inscrito.
+         *
+         * @param equipo  Equipo en el que se registró el jugador.
+         * @param jugador Jugador registrado.
+         */
+        default void jugadorRegistrado(Equipo equipo, Jugador jugador) {
+        }
+
+        /**
+         * Notifica que un juez fue registrado en el torneo.
+         *
+         * @param juez Juez registrado.
+         */
+        default void juezRegistrado(Juez juez) {
+        }
+
+        /**
+         * Notifica que un enfrentamiento fue registrado en el torneo, junto con los
+         * jueces que ya tenía.
+         *
+         * @param enfrentamiento Enfrentamiento registrado.
+         */
+        default void enfrentamientoRegistrado(Enfrentamiento enfrentamiento) {
+        }
+
+        /**
+         * Notifica que un juez fue registrado en un enfrentamiento del torneo.
+         *
+         * @param enfrentamiento Enfrentamiento en el que se registró el juez.
+         * @param juez           Juez registrado.
+         */
+        default void juezRegistrado(Enfrentamiento enfrentamiento, Juez juez) {
+        }
+
+        /**
+         * Notifica que cambiaron los puntos de un enfrentamiento del torneo.
+         *
+         * @param enfrentamiento Enfrentamiento cuyos puntos cambiaron.
+         */
+        default void puntosActualizados(Enfrentamiento enfrentamiento) {
+        }
+
+        /**
+         * Notifica que cambiaron la fecha y la hora de un enfrentamiento del torneo.
+         *
+         * @param enfrentamiento Enfrentamiento reprogramado.
+         */
+        default void fechaHoraActualizada(Enfrentamiento enfrentamiento) {
+        }
+
+        /**
+         * Notifica que cambió el estado de un enfrentamiento del torneo sin que
+         * cambiaran su fecha y hora ni finalizara.
+         *
+         * @param enfrentamiento Enfrentamiento cuyo estado cambió.
+         */
+        default void estadoActualizado(Enfrentamiento enfrentamiento) {
+        }
+
+        /**
+         * Notifica que un enfrentamiento del torneo finalizó.
+         *
+         * @param enfrentamiento Enfrentamiento finalizado.
+         */
+        default void enfrentamientoFinalizado(Enfrentamiento enfrentamiento) {
+        }
+    }
+
+    /**
+     * Acción que se ejecuta mientras se bloquean los cambios del torneo.
+     */
+    interface Accion {
+        void ejecutar() throws IOException;
     }
 }
@@ -0,0 +1,78 @@
+package co.edu.uniquindio.poo.util;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+/**
+ * Diccionario compartido de textos que se repiten mucho, como los nombres y
+ * apellidos de las personas, para que todos los objetos que usan el mismo texto
+ * compartan una sola instancia.
+ * <p>
+ * Los textos se guardan con referencias débiles, de modo que un texto sale del
+ * diccionario cuando ya ningún objeto lo usa y el diccionario no crece con
+ * cada torneo que se carga y se descarta. Los textos se reparten en segmentos
+ * según su hash, cada uno con su propio bloqueo, para que los hilos que
+ * registran personas a la vez no se esperen entre sí.
+ */
+public enum DiccionarioTextos {
+    DICCIONARIO;
+
+    private static final int SEGMENTOS = 16;
+
+    private final Segmento[] segmentos;
+
+    DiccionarioTextos() {
+        this.segmentos = new Segmento[SEGMENTOS];
+        for (int i = 0; i < SEGMENTOS; i++) {
+            segmentos[i] = new Segmento();
+        }
+    }
+
+    /**
+     * Obtiene la instancia compartida de un texto, registrándolo si es la primera
+     * vez que aparece o si ya ningún objeto usaba la instancia anterior.
+     *
+     * @param texto Texto a buscar, puede ser null.
+     * @return Instancia compartida igual al texto, o null si el texto es null.
+     */
+    public String internar(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        int hash = texto.hashCode();
+        var segmento = segmentos[(hash ^ (hash >>> 16)) & (SEGMENTOS - 1)];
+        synchronized (segmento) {
+            var referencia = segmento.get(texto);
+            var existente = referencia == null ? null : referencia.get();
+            if (existente != null) {
+                return existente;
+            }
+            segmento.put(texto, new WeakReference<>(texto));
+            return texto;
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de textos que siguen en el diccionario. Los textos que ya
+     * no se usan pueden seguir contándose hasta que el recolector de basura los
+     * libere.
+     *
+     * @return Cantidad de textos en el diccionario.
+     */
+    public int getCantidad() {
+        int cantidad = 0;
+        for (var segmento : segmentos) {
+            synchronized (segmento) {
+                cantidad += segmento.size();
+            }
+        }
+        return cantidad;
+    }
+
+    /**
+     * Textos de un segmento. La clave y el valor son el mismo texto; el valor se
+     * guarda en una referencia débil para no impedir que se libere la clave.
+     */
+    private static final class Segmento extends WeakHashMap<String, WeakReference<String>> {
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Clase para probar el almacén por columnas de las estadísticas de varios Torneos
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AlmacenEstadisticasTest {
+    /**
+     * Instancia para el manejo de logs
+     */
+    private static final Logger LOG = Logger.getLogger(AlmacenEstadisticasTest.class.getName());
+
+    /**
+     * Directorio temporal para los archivos de las pruebas
+     */
+    @TempDir
+    Path directorio;
+
+    /**
+     * Verificar que el almacén se mantenga al día con los resultados y equipos
+     * registrados después de agregar los torneos, y que sus sumas, promedios y
+     * filtros coincidan con las estadísticas de los equipos
+     *
+     */
+    @Test
+    public void agregarYConsultarTorneos() throws IOException {
+        LOG.info("Inicio de prueba agregarYConsultarTorneos...");
+
+        var generador = new GeneradorTorneo(3);
+        var torneo1 = generador.generar(TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, (byte) 0, 10, 0, 0, 2, 2);
+        var torneo2 = generador.generar(TipoTorneo.REGIONAL, TipoTorneoGenero.MIXTO, (byte) 0, 6, 0, 0, 2, 2);
+
+        var almacen = new AlmacenEstadisticas();
+        assertEquals(0, almacen.agregarTorneo(torneo1));
+        assertEquals(1, almacen.agregarTorneo(torneo2));
+        assertEquals(16, almacen.getFilas());
+
+        // Los dos resultados del primer torneo son de enfrentamientos sin equipos en
+        // común
+        var primero = torneo1.getEnfrentamientos().iterator().next();
+        var equiposPrimero = List.of(primero.getLocal(), primero.getVisitante());
+        var segundo = torneo1.getEnfrentamientos().stream()
+                .filter(enfrentamiento -> !equiposPrimero.contains(enfrentamiento.getLocal())
+                        && !equiposPrimero.contains(enfrentamiento.getVisitante()))
+                .findFirst().orElseThrow();
+        torneo1.registrarResultados(List.of(new MarcadorEnfrentamiento(primero, 3, 1),
+                new MarcadorEnfrentamiento(segundo, 2, 2)));
+        var enfrentamientos2 = List.copyOf(torneo2.getEnfrentamientos());
+        torneo2.registrarResultados(List.of(new MarcadorEnfrentamiento(enfrentamientos2.get(0), 0, 1)));
+        // Un equipo inscrito después de agregar el torneo también queda en el almacén
+        var nuevo = new Equipo("Nuevo", new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300"),
+                new Estadistica());
+        torneo2.registrarEquipo(nuevo);
+        nuevo.getEstadistica().actualizarEstadisticas(true, false, false);
+
+        // Recuperación y verificación de datos
+        assertEquals(17, almacen.getFilas());
+        assertEquals("Nuevo", almacen.getNombreEquipo(16));
+        assertEquals(1, almacen.getTorneo(16));
+        assertEquals(3, almacen.sumar(AlmacenEstadisticas.Columna.GANADO));
+        assertEquals(2, almacen.sumar(AlmacenEstadisticas.Columna.EMPATADO));
+        assertEquals(2, almacen.sumar(AlmacenEstadisticas.Columna.PERDIDO));
+        assertEquals(sumarPuntaje(torneo1) + sumarPuntaje(torneo2),
+                almacen.sumar(AlmacenEstadisticas.Columna.PUNTAJE));
+        assertEquals(sumarPuntaje(torneo1), almacen.sumar(AlmacenEstadisticas.Columna.PUNTAJE, 0));
+        assertEquals(3.0 / 17, almacen.promediar(AlmacenEstadisticas.Columna.GANADO), 1e-9);
+        assertEquals(3, almacen.contar(AlmacenEstadisticas.Columna.GANADO, ganado -> ganado > 0));
+        var ganadores = almacen.filtrar(AlmacenEstadisticas.Columna.PUNTAJE, puntaje -> puntaje == 3);
+        assertEquals(3, ganadores.length);
+        assertEquals("Nuevo", almacen.getNombreEquipo(ganadores[2]));
+
+        // El almacén guardado se carga con las mismas filas
+        var archivo = directorio.resolve("estadisticas.almacen");
+        almacen.guardar(archivo);
+        var cargado = AlmacenEstadisticas.cargar(archivo);
+        assertEquals(17, cargado.getFilas());
+        assertEquals(2, cargado.getTorneos());
+        assertEquals(torneo2.getNombre(), cargado.getNombreTorneo(1));
+        assertEquals("Nuevo", cargado.getNombreEquipo(16));
+        assertEquals(almacen.sumar(AlmacenEstadisticas.Columna.PUNTAJE),
+                cargado.sumar(AlmacenEstadisticas.Columna.PUNTAJE));
+        assertArrayEquals(ganadores, cargado.filtrar(AlmacenEstadisticas.Columna.PUNTAJE, puntaje -> puntaje == 3));
+        LOG.info("Fin de prueba agregarYConsultarTorneos...");
+    }
+
+    /**
+     * Verificar que las estadísticas de varios equipos se actualicen a la vez
+     * desde varios hilos y que al cerrar el almacén las filas dejen de
+     * actualizarse
+     *
+     */
+    @Test
+    public void actualizarConcurrenteYCerrar() throws InterruptedException {
+        LOG.info("Inicio de prueba actualizarConcurrenteYCerrar...");
+
+        var torneo = new GeneradorTorneo(5).generar(TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, (byte) 0, 8, 0, 0,
+                0, 0);
+        var almacen = new AlmacenEstadisticas();
+        almacen.agregarTorneo(torneo);
+        var equipos = List.copyOf(torneo.getEquipos());
+
+        // Cada hilo registra victorias para todos los equipos
+        var hilos = new ArrayList<Thread>();
+        for (int i = 0; i < 4; i++) {
+            var hilo = new Thread(() -> {
+                for (int j = 0; j < 250; j++) {
+                    for (var equipo : equipos) {
+                        equipo.getEstadistica().actualizarEstadisticas(true, false, false);
+                    }
+                }
+            });
+            hilos.add(hilo);
+            hilo.start();
+        }
+        for (var hilo : hilos) {
+            hilo.join();
+        }
+        assertEquals(8 * 1000, almacen.sumar(AlmacenEstadisticas.Columna.GANADO));
+        assertEquals(8 * 3000, almacen.sumar(AlmacenEstadisticas.Columna.PUNTAJE));
+
+        // Después de cerrar, los resultados y los equipos nuevos no cambian el almacén
+        almacen.close();
+        equipos.get(0).getEstadistica().actualizarEstadisticas(true, false, false);
+        torneo.registrarEquipo(new Equipo("Nuevo",
+                new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300"), new Estadistica()));
+
+        // Recuperación y verificación de datos
+        assertEquals(8, almacen.getFilas());
+        assertEquals(8 * 1000, almacen.sumar(AlmacenEstadisticas.Columna.GANADO));
+        assertThrows(Throwable.class, () -> almacen.agregarTorneo(torneo));
+        LOG.info("Fin de prueba actualizarConcurrenteYCerrar...");
+    }
+
+    private static long sumarPuntaje(Torneo torneo) {
+        return torneo.getEquipos().stream().mapToLong(equipo -> equipo.getEstadistica().getPuntaje()).sum();
+    }
+}
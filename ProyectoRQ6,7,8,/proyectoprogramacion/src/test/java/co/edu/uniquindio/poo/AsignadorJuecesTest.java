@@ -0,0 +1,174 @@
+/**
+ * Clase para probar la asignación de jueces a los enfrentamientos de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class AsignadorJuecesTest {
+    /**
+     * Instancia para el manejo de logs
+     */
+    private static final Logger LOG = Logger.getLogger(AsignadorJuecesTest.class.getName());
+
+    /**
+     * Verificar que un enfrentamiento quede sin asignar cuando todos los jueces
+     * tienen otro enfrentamiento que se cruza con él, y que ningún juez quede con
+     * dos enfrentamientos a la misma hora
+     *
+     */
+    @Test
+    public void reportarEnfrentamientoSinJuezLibre() {
+        LOG.info("Inicio de prueba reportarEnfrentamientoSinJuezLibre...");
+        var torneo = crearTorneo();
+        var jueces = registrarJueces(torneo, 3);
+        var equipos = registrarEquipos(torneo, 8);
+
+        var fecha = LocalDate.of(2023, 11, 20);
+        var lugar = new Lugar("Centenario", "Armenia");
+        // El juez 1 ya tiene asignado un enfrentamiento a las 15:00
+        var asignado = new Enfrentamiento(fecha, LocalTime.of(15, 0), lugar, equipos.get(0), equipos.get(1));
+        asignado.registrarJuez(jueces.get(0));
+        torneo.registrarEnfrentamiento(asignado);
+        // Dos enfrentamientos más a las 15:00 y uno a las 15:30, que se cruza con
+        // todos los anteriores
+        var pendientes = List.of(
+                new Enfrentamiento(fecha, LocalTime.of(15, 30), lugar, equipos.get(2), equipos.get(3)),
+                new Enfrentamiento(fecha, LocalTime.of(15, 0), lugar, equipos.get(4), equipos.get(5)),
+                new Enfrentamiento(fecha, LocalTime.of(15, 0), lugar, equipos.get(6), equipos.get(7)));
+        pendientes.forEach(torneo::registrarEnfrentamiento);
+
+        var sinAsignar = new AsignadorJueces(torneo, Duration.ofMinutes(90)).asignar();
+
+        // Recuperación y verificación de datos
+        // Solo quedan dos jueces libres a las 15:00, por lo que el de las 15:30 no se
+        // puede asignar
+        assertEquals(List.of(pendientes.get(0)), sinAsignar);
+        assertTrue(pendientes.get(0).getJueces().isEmpty());
+        assertEquals(List.of(jueces.get(1)), List.copyOf(pendientes.get(1).getJueces()));
+        assertEquals(List.of(jueces.get(2)), List.copyOf(pendientes.get(2).getJueces()));
+        assertEquals(List.of(asignado), List.copyOf(torneo.obtenerListaEnfrentamientosJuezPorLicencia("L-1")));
+        LOG.info("Fin de prueba reportarEnfrentamientoSinJuezLibre...");
+    }
+
+    /**
+     * Verificar que en varias jornadas los enfrentamientos se repartan entre los
+     * jueces de modo que ninguno tenga más de un enfrentamiento que los demás
+     *
+     */
+    @Test
+    public void repartirCargaVariasJornadas() {
+        LOG.info("Inicio de prueba repartirCargaVariasJornadas...");
+        var torneo = crearTorneo();
+        var jueces = registrarJueces(torneo, 3);
+        var equipos = registrarEquipos(torneo, 4);
+
+        // Cuatro jornadas en días seguidos, cada una con dos enfrentamientos a las
+        // 15:00 en lugares distintos
+        var enfrentamientos = new ArrayList<Enfrentamiento>();
+        for (int jornada = 0; jornada < 4; jornada++) {
+            var fecha = LocalDate.of(2023, 11, 20).plusDays(jornada);
+            var visitante = equipos.get(jornada % 4);
+            var local = equipos.get((jornada + 1) % 4);
+            var otroVisitante = equipos.get((jornada + 2) % 4);
+            var otroLocal = equipos.get((jornada + 3) % 4);
+            enfrentamientos.add(new Enfrentamiento(fecha, LocalTime.of(15, 0), new Lugar("Centenario", "Armenia"),
+                    visitante, local));
+            enfrentamientos.add(new Enfrentamiento(fecha, LocalTime.of(15, 0), new Lugar("Hernán Ramírez", "Pereira"),
+                    otroVisitante, otroLocal));
+        }
+        enfrentamientos.forEach(torneo::registrarEnfrentamiento);
+
+        var sinAsignar = new AsignadorJueces(torneo, Duration.ofMinutes(90)).asignar();
+
+        // Recuperación y verificación de datos
+        assertTrue(sinAsignar.isEmpty());
+        var cargas = jueces.stream()
+                .map(juez -> torneo.obtenerListaEnfrentamientosJuezPorLicencia(juez.getLicenciaJuez()).size())
+                .toList();
+        assertEquals(List.of(3, 3, 2), cargas);
+        for (int i = 0; i < enfrentamientos.size(); i += 2) {
+            assertEquals(1, enfrentamientos.get(i).getJueces().size());
+            assertNotEquals(List.copyOf(enfrentamientos.get(i).getJueces()),
+                    List.copyOf(enfrentamientos.get(i + 1).getJueces()));
+        }
+        LOG.info("Fin de prueba repartirCargaVariasJornadas...");
+    }
+
+    /**
+     * Verificar que un enfrentamiento ya asignado que empieza después de uno
+     * pendiente impida asignarle ese juez al pendiente si se cruzan
+     *
+     */
+    @Test
+    public void respetarAsignadoPosteriorPendiente() {
+        LOG.info("Inicio de prueba respetarAsignadoPosteriorPendiente...");
+        var torneo = crearTorneo();
+        var jueces = registrarJueces(torneo, 2);
+        var equipos = registrarEquipos(torneo, 6);
+
+        var fecha = LocalDate.of(2023, 11, 20);
+        var lugar = new Lugar("Centenario", "Armenia");
+        // El juez 1 tiene asignado un enfrentamiento a las 17:00 y el juez 2 uno el
+        // día anterior, para que ambos tengan la misma carga
+        var posterior = new Enfrentamiento(fecha, LocalTime.of(17, 0), lugar, equipos.get(0), equipos.get(1));
+        posterior.registrarJuez(jueces.get(0));
+        var anterior = new Enfrentamiento(fecha.minusDays(1), LocalTime.of(17, 0), lugar, equipos.get(2),
+                equipos.get(3));
+        anterior.registrarJuez(jueces.get(1));
+        torneo.registrarEnfrentamiento(posterior);
+        torneo.registrarEnfrentamiento(anterior);
+        // El enfrentamiento pendiente de las 16:00 termina después de las 17:00
+        var pendiente = new Enfrentamiento(fecha, LocalTime.of(16, 0), lugar, equipos.get(4), equipos.get(5));
+        torneo.registrarEnfrentamiento(pendiente);
+
+        var sinAsignar = new AsignadorJueces(torneo, Duration.ofMinutes(90)).asignar();
+
+        // Recuperación y verificación de datos
+        assertTrue(sinAsignar.isEmpty());
+        assertEquals(List.of(jueces.get(1)), List.copyOf(pendiente.getJueces()));
+        assertEquals(List.of(posterior), List.copyOf(torneo.obtenerListaEnfrentamientosJuezPorLicencia("L-1")));
+        LOG.info("Fin de prueba respetarAsignadoPosteriorPendiente...");
+    }
+
+    private static Torneo crearTorneo() {
+        return new Torneo("Copa Piston", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO);
+    }
+
+    private static List<Juez> registrarJueces(Torneo torneo, int cantidad) {
+        var jueces = new ArrayList<Juez>();
+        for (int i = 1; i <= cantidad; i++) {
+            var juez = new Juez("Juez" + i, "Torres", "juez" + i + "@email.com", "311700000" + i, "L-" + i);
+            torneo.registrarJuez(juez);
+            jueces.add(juez);
+        }
+        return jueces;
+    }
+
+    private static List<Equipo> registrarEquipos(Torneo torneo, int cantidad) {
+        var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+        var equipos = new ArrayList<Equipo>();
+        for (int i = 0; i < cantidad; i++) {
+            var equipo = new Equipo("Equipo " + i, representante, new Estadistica());
+            torneo.registrarEquipo(equipo);
+            equipos.add(equipo);
+        }
+        return equipos;
+    }
+}
@@ -0,0 +1,417 @@
+/**
+ * Clase para probar la bitácora de cambios de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BitacoraTorneoTest {
+    /**
+     * Instancia para el manejo de logs
+     */
+    private static final Logger LOG = Logger.getLogger(BitacoraTorneoTest.class.getName());
+
+    /**
+     * Directorio temporal para los archivos de las pruebas
+     */
+    @TempDir
+    Path directorio;
+
+    /**
+     * Verificar que al abrir de nuevo la bitácora se reconstruyan los equipos,
+     * jugadores, jueces, enfrentamientos, resultados y la clasificación del
+     * torneo
+     *
+     */
+    @Test
+    public void reconstruirTorneo() throws IOException {
+        LOG.info("Inicio de prueba reconstruirTorneo...");
+
+        var archivo = directorio.resolve("torneo.bitacora");
+        var torneo = crearTorneo();
+        try (var bitacora = BitacoraTorneo.abrir(archivo, torneo, true)) {
+            registrarCambios(torneo);
+            assertEquals(15, bitacora.getRegistros());
+        }
+
+        var reconstruido = crearTorneo();
+        try (var bitacora = BitacoraTorneo.abrir(archivo, reconstruido, false)) {
+            assertEquals(15, bitacora.getRegistros());
+            assertEquals(3, reconstruido.getEquipos().size());
+            assertEquals(1, reconstruido.getJueces().size());
+            assertEquals(3, reconstruido.getEnfrentamientos().size());
+            assertEquals(2, reconstruido.buscarEquipoPorNombre("Uniquindio").orElseThrow().getJugadores().size());
+            assertEquals(2, reconstruido.obtenerListaEnfrentamientosJuezPorLicencia("L-001").size());
+
+            var enfrentamientos = List.copyOf(reconstruido.getEnfrentamientos());
+            assertEquals(EstadoEnfrentamiento.FINALIZADO, enfrentamientos.get(0).getEstadoEnfrentamiento());
+            assertEquals(EstadoEnfrentamiento.APLAZADO, enfrentamientos.get(1).getEstadoEnfrentamiento());
+            assertEquals(LocalDate.of(2023, 12, 5), enfrentamientos.get(1).getFecha());
+            assertEquals(LocalTime.of(18, 0), enfrentamientos.get(1).getHora());
+            assertEquals(EstadoEnfrentamiento.FINALIZADO, enfrentamientos.get(2).getEstadoEnfrentamiento());
+            assertEquals(List.copyOf(torneo.obtenerListaEquiposClasificacionResultadosEnfrentamiento()).stream()
+                    .map(Equipo::getNombre).toList(),
+                    List.copyOf(reconstruido.obtenerListaEquiposClasificacionResultadosEnfrentamiento()).stream()
+                            .map(Equipo::getNombre).toList());
+            assertEquals(torneo.buscarEquipoPorNombre("Uniquindio").orElseThrow().getEstadistica().getPuntaje(),
+                    reconstruido.buscarEquipoPorNombre("Uniquindio").orElseThrow().getEstadistica().getPuntaje());
+
+            // Los cambios hechos después de reconstruir el torneo se siguen agregando
+            reconstruido.registrarJugador("Uniquindio", new Jugador("Ana", "Rojas", "arojas@email.com",
+                    "3150000003", LocalDate.of(2003, 3, 3), TipoGenero.MUJER));
+        }
+
+        var ultimo = crearTorneo();
+        try (var bitacora = BitacoraTorneo.abrir(archivo, ultimo, false)) {
+            assertEquals(16, bitacora.getRegistros());
+            assertEquals(3, ultimo.buscarEquipoPorNombre("Uniquindio").orElseThrow().getJugadores().size());
+        }
+        LOG.info("Fin de prueba reconstruirTorneo...");
+    }
+
+    /**
+     * Verificar que un registro incompleto al final de la bitácora se descarte al
+     * abrirla de nuevo
+     *
+     */
+    @Test
+    public void descartarRegistroIncompleto() throws IOException {
+        LOG.info("Inicio de prueba descartarRegistroIncompleto...");
+
+        var archivo = directorio.resolve("torneo.bitacora");
+        var torneo = crearTorneo();
+        try (var bitacora = BitacoraTorneo.abrir(archivo, torneo, false)) {
+            registrarCambios(torneo);
+            assertEquals(15, bitacora.getRegistros());
+        }
+        long longitud = Files.size(archivo);
+        // Simula una escritura interrumpida a mitad de un registro
+        Files.write(archivo, new byte[] { 0, 0, 0, 40, 6, 0, 0 }, StandardOpenOption.APPEND);
+
+        var reconstruido = crearTorneo();
+        try (var bitacora = BitacoraTorneo.abrir(archivo, reconstruido, false)) {
+            assertEquals(15, bitacora.getRegistros());
+            assertEquals(3, reconstruido.getEnfrentamientos().size());
+        }
+        assertEquals(longitud, Files.size(archivo));
+        LOG.info("Fin de prueba descartarRegistroIncompleto...");
+    }
+
+    /**
+     * Verificar que al recuperar el torneo desde una instantánea solo se apliquen
+     * los cambios que la bitácora guardó después de ella
+     *
+     */
+    @Test
+    public void recuperarDesdeInstantanea() throws IOException {
+        LOG.info("Inicio de prueba recuperarDesdeInstantanea...");
+
+        var archivo = directorio.resolve("torneo.bitacora");
+        var instantanea = directorio.resolve("torneo.instantanea");
+        var torneo = crearTorneo();
+        try (var bitacora = BitacoraTorneo.abrir(archivo, torneo, false)) {
+            registrarCambios(torneo);
+            bitacora.guardarInstantanea(instantanea);
+
+            // Cambios posteriores a la instantánea, que solo quedan en la bitácora
+            torneo.registrarJugador("Uniquindio", new Jugador("Ana", "Rojas", "arojas@email.com", "3150000003",
+                    LocalDate.of(2003, 3, 3), TipoGenero.MUJER));
+            var cuarto = new Enfrentamiento(LocalDate.of(2023, 11, 28), LocalTime.of(15, 0),
+                    new Lugar("Centenario", "Armenia"), torneo.buscarEquipoPorNombre("Armenia").orElseThrow(),
+                    torneo.buscarEquipoPorNombre("Pereira").orElseThrow(), torneo.getReloj());
+            torneo.registrarEnfrentamiento(cuarto);
+            torneo.registrarResultados(List.of(new MarcadorEnfrentamiento(cuarto, 0, 2)));
+            List.copyOf(torneo.getEnfrentamientos()).get(1).aplazarEnfrentamiento(LocalDate.of(2023, 12, 6),
+                    LocalTime.of(18, 0));
+        }
+
+        long total;
+        try (var bitacora = BitacoraTorneo.recuperar(instantanea, archivo, torneo.getReloj(), false)) {
+            var recuperado = bitacora.getTorneo();
+            var enfrentamientos = List.copyOf(recuperado.getEnfrentamientos());
+            assertEquals(4, enfrentamientos.size());
+            assertEquals(3, recuperado.buscarEquipoPorNombre("Uniquindio").orElseThrow().getJugadores().size());
+            assertEquals(LocalDate.of(2023, 12, 6), enfrentamientos.get(1).getFecha());
+            assertEquals(EstadoEnfrentamiento.FINALIZADO, enfrentamientos.get(3).getEstadoEnfrentamiento());
+            for (var equipo : torneo.getEquipos()) {
+                assertEquals(equipo.getEstadistica().getPuntaje(),
+                        recuperado.buscarEquipoPorNombre(equipo.getNombre()).orElseThrow().getEstadistica()
+                                .getPuntaje());
+            }
+
+            // Los cambios hechos después de recuperar continúan la misma bitácora
+            long registros = bitacora.getRegistros();
+            recuperado.registrarJuez(new Juez("Sara", "Gómez", "sgomez@email.com", "3117000002", "L-002"));
+            assertEquals(registros + 1, bitacora.getRegistros());
+            total = bitacora.getRegistros();
+        }
+
+        var reconstruido = crearTorneo();
+        try (var bitacora = BitacoraTorneo.abrir(archivo, reconstruido, false)) {
+            assertEquals(2, reconstruido.getJueces().size());
+            assertEquals(4, reconstruido.getEnfrentamientos().size());
+            assertEquals(total, bitacora.getRegistros());
+        }
+        LOG.info("Fin de prueba recuperarDesdeInstantanea...");
+    }
+
+    /**
+     * Verificar que los enfrentamientos registrados desde varios hilos a la vez
+     * se reconstruyan con sus propios resultados, es decir, que el índice de cada
+     * enfrentamiento coincida con el orden de su registro en la bitácora
+     *
+     */
+    @Test
+    public void registrarEnfrentamientosConcurrentes() throws IOException, InterruptedException {
+        LOG.info("Inicio de prueba registrarEnfrentamientosConcurrentes...");
+
+        var archivo = directorio.resolve("torneo.bitacora");
+        var torneo = crearTorneo();
+        int hilos = 8;
+        int enfrentamientosPorHilo = 50;
+        long registros;
+        try (var bitacora = BitacoraTorneo.abrir(archivo, torneo, false)) {
+            var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+            var equipos = new ArrayList<Equipo>();
+            for (int i = 0; i < 2 * hilos; i++) {
+                var equipo = new Equipo("Equipo " + i, representante, new Estadistica());
+                torneo.registrarEquipo(equipo);
+                equipos.add(equipo);
+            }
+            var lugar = new Lugar("Centenario", "Armenia");
+            var inicio = new CountDownLatch(1);
+            var registradores = new ArrayList<Thread>();
+            for (int h = 0; h < hilos; h++) {
+                var local = equipos.get(2 * h);
+                var visitante = equipos.get(2 * h + 1);
+                var hora = LocalTime.of(8 + h, 0);
+                var registrador = new Thread(() -> {
+                    try {
+                        inicio.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < enfrentamientosPorHilo; i++) {
+                        var enfrentamiento = new Enfrentamiento(LocalDate.of(2023, 11, 25).plusDays(i), hora,
+                                lugar, visitante, local, torneo.getReloj());
+                        torneo.registrarEnfrentamiento(enfrentamiento);
+                        torneo.registrarResultados(List.of(new MarcadorEnfrentamiento(enfrentamiento, i % 5,
+                                hora.getHour())));
+                    }
+                });
+                registrador.start();
+                registradores.add(registrador);
+            }
+            inicio.countDown();
+            for (var registrador : registradores) {
+                registrador.join();
+            }
+            assertEquals(hilos * enfrentamientosPorHilo, torneo.getEnfrentamientos().size());
+            registros = bitacora.getRegistros();
+        }
+
+        var reconstruido = crearTorneo();
+        try (var bitacora = BitacoraTorneo.abrir(archivo, reconstruido, false)) {
+            assertEquals(registros, bitacora.getRegistros());
+            assertEquals(hilos * enfrentamientosPorHilo, reconstruido.getEnfrentamientos().size());
+            for (var enfrentamiento : reconstruido.getEnfrentamientos()) {
+                var original = torneo.buscarEnfrentamiento(enfrentamiento.getClave()).orElseThrow();
+                assertEquals(original.getPuntosVisitanteEnfrentamiento(),
+                        enfrentamiento.getPuntosVisitanteEnfrentamiento());
+                assertEquals(original.getPuntosLocalEnfrentamiento(), enfrentamiento.getPuntosLocalEnfrentamiento());
+                assertEquals(EstadoEnfrentamiento.FINALIZADO, enfrentamiento.getEstadoEnfrentamiento());
+            }
+        }
+        LOG.info("Fin de prueba registrarEnfrentamientosConcurrentes...");
+    }
+
+    /**
+     * Verificar que un enfrentamiento que queda pendiente al llevarse a cabo
+     * fuera de su fecha se reconstruya pendiente
+     *
+     */
+    @Test
+    public void reconstruirEnfrentamientoPendiente() throws IOException {
+        LOG.info("Inicio de prueba reconstruirEnfrentamientoPendiente...");
+
+        var archivo = directorio.resolve("torneo.bitacora");
+        var torneo = crearTorneo();
+        long registros;
+        try (var bitacora = BitacoraTorneo.abrir(archivo, torneo, false)) {
+            registrarCambios(torneo);
+            var segundo = List.copyOf(torneo.getEnfrentamientos()).get(1);
+            segundo.llevarACaboEnfrentamiento();
+            assertEquals(EstadoEnfrentamiento.PENDIENTE, segundo.getEstadoEnfrentamiento());
+            assertEquals(16, bitacora.getRegistros());
+            registros = bitacora.getRegistros();
+        }
+
+        var reconstruido = crearTorneo();
+        try (var bitacora = BitacoraTorneo.abrir(archivo, reconstruido, false)) {
+            // Recuperación y verificación de datos
+            assertEquals(registros, bitacora.getRegistros());
+            var segundo = List.copyOf(reconstruido.getEnfrentamientos()).get(1);
+            assertEquals(EstadoEnfrentamiento.PENDIENTE, segundo.getEstadoEnfrentamiento());
+            assertEquals(LocalDate.of(2023, 12, 5), segundo.getFecha());
+        }
+        LOG.info("Fin de prueba reconstruirEnfrentamientoPendiente...");
+    }
+
+    /**
+     * Verificar que las instantáneas guardadas mientras otros hilos registran
+     * resultados incluyan exactamente los cambios anteriores a su posición, de
+     * modo que al recuperar el torneo ningún resultado se aplica dos veces
+     *
+     */
+    @Test
+    public void guardarInstantaneasDuranteCambios() throws IOException, InterruptedException {
+        LOG.info("Inicio de prueba guardarInstantaneasDuranteCambios...");
+
+        var archivo = directorio.resolve("torneo.bitacora");
+        var torneo = crearTorneo();
+        int hilos = 4;
+        int enfrentamientosPorHilo = 100;
+        var instantaneas = new ArrayList<Path>();
+        try (var bitacora = BitacoraTorneo.abrir(archivo, torneo, false)) {
+            var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+            var equipos = new ArrayList<Equipo>();
+            for (int i = 0; i < 2 * hilos; i++) {
+                var equipo = new Equipo("Equipo " + i, representante, new Estadistica());
+                torneo.registrarEquipo(equipo);
+                equipos.add(equipo);
+            }
+            var lugar = new Lugar("Centenario", "Armenia");
+            var registradores = new ArrayList<Thread>();
+            for (int h = 0; h < hilos; h++) {
+                var local = equipos.get(2 * h);
+                var visitante = equipos.get(2 * h + 1);
+                var hora = LocalTime.of(8 + h, 0);
+                var registrador = new Thread(() -> {
+                    for (int i = 0; i < enfrentamientosPorHilo; i++) {
+                        var enfrentamiento = new Enfrentamiento(LocalDate.of(2023, 11, 25).plusDays(i), hora,
+                                lugar, visitante, local, torneo.getReloj());
+                        torneo.registrarEnfrentamiento(enfrentamiento);
+                        enfrentamiento.setPuntosVisitanteLocalEnfrentamiento(i % 3, 1);
+                        enfrentamiento.llevarACaboEnfrentamiento();
+                        torneo.registrarResultados(List.of(new MarcadorEnfrentamiento(enfrentamiento, i % 3, 1)));
+                    }
+                });
+                registrador.start();
+                registradores.add(registrador);
+            }
+            while (registradores.stream().anyMatch(Thread::isAlive) && instantaneas.size() < 20) {
+                var instantanea = directorio.resolve("torneo-" + instantaneas.size() + ".instantanea");
+                bitacora.guardarInstantanea(instantanea);
+                instantaneas.add(instantanea);
+            }
+            for (var registrador : registradores) {
+                registrador.join();
+            }
+        }
+
+        for (var instantanea : instantaneas) {
+            var copia = directorio.resolve("copia.bitacora");
+            Files.copy(archivo, copia, StandardCopyOption.REPLACE_EXISTING);
+            try (var bitacora = BitacoraTorneo.recuperar(instantanea, copia, torneo.getReloj(), false)) {
+                // Recuperación y verificación de datos
+                var recuperado = bitacora.getTorneo();
+                assertEquals(hilos * enfrentamientosPorHilo, recuperado.getEnfrentamientos().size());
+                for (var enfrentamiento : recuperado.getEnfrentamientos()) {
+                    assertEquals(EstadoEnfrentamiento.FINALIZADO, enfrentamiento.getEstadoEnfrentamiento());
+                }
+                for (var equipo : torneo.getEquipos()) {
+                    var estadistica = recuperado.buscarEquipoPorNombre(equipo.getNombre()).orElseThrow()
+                            .getEstadistica();
+                    assertEquals(equipo.getEstadistica().getGanado(), estadistica.getGanado());
+                    assertEquals(equipo.getEstadistica().getEmpatado(), estadistica.getEmpatado());
+                    assertEquals(equipo.getEstadistica().getPerdido(), estadistica.getPerdido());
+                }
+            }
+        }
+        LOG.info("Fin de prueba guardarInstantaneasDuranteCambios...");
+    }
+
+    /**
+     * Verificar que la bitácora solo se pueda abrir sobre un torneo vacío
+     *
+     */
+    @Test
+    public void abrirSobreTorneoConEquipos() {
+        LOG.info("Inicio de prueba abrirSobreTorneoConEquipos...");
+
+        var torneo = crearTorneo();
+        torneo.registrarEquipo(new Equipo("Uniquindio",
+                new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300"), new Estadistica()));
+
+        assertThrows(Throwable.class, () -> BitacoraTorneo.abrir(directorio.resolve("torneo.bitacora"), torneo, false));
+        LOG.info("Fin de prueba abrirSobreTorneoConEquipos...");
+    }
+
+    private static Torneo crearTorneo() {
+        var reloj = Clock.fixed(LocalDate.of(2023, 10, 20).atTime(12, 0).atZone(ZoneId.of("America/Bogota"))
+                .toInstant(), ZoneId.of("America/Bogota"));
+        return new Torneo("Copa Mundo", LocalDate.of(2023, 11, 20), LocalDate.of(2023, 10, 1),
+                LocalDate.of(2023, 11, 1), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, reloj);
+    }
+
+    /**
+     * Registra quince cambios en el torneo: tres equipos, dos jugadores, un juez,
+     * tres enfrentamientos, un juez de enfrentamiento, un aplazamiento y dos
+     * resultados con sus puntos.
+     */
+    private static void registrarCambios(Torneo torneo) {
+        var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+        var uniquindio = new Equipo("Uniquindio", representante, new Estadistica());
+        var armenia = new Equipo("Armenia", representante, new Estadistica());
+        var pereira = new Equipo("Pereira", representante, new Estadistica());
+        torneo.registrarEquipo(uniquindio);
+        torneo.registrarEquipo(armenia);
+        torneo.registrarEquipo(pereira);
+        torneo.registrarJugador(uniquindio, new Jugador("Christian", "Candela", "chrcandela@email.com",
+                "3150000001", LocalDate.of(2001, 1, 1), TipoGenero.HOMBRE));
+        torneo.registrarJugador(uniquindio, new Jugador("Laura", "Ríos", "lrios@email.com", "3150000002",
+                LocalDate.of(2002, 2, 2), TipoGenero.MUJER));
+        var juez = new Juez("Camilo", "Torres", "ctorres@email.com", "3117000001", "L-001");
+        torneo.registrarJuez(juez);
+
+        var lugar = new Lugar("Centenario", "Armenia");
+        var primero = new Enfrentamiento(LocalDate.of(2023, 11, 25), LocalTime.of(15, 0), lugar, uniquindio,
+                armenia, torneo.getReloj());
+        primero.registrarJuez(juez);
+        torneo.registrarEnfrentamiento(primero);
+        var segundo = new Enfrentamiento(LocalDate.of(2023, 11, 26), LocalTime.of(15, 0), lugar, armenia, pereira,
+                torneo.getReloj());
+        torneo.registrarEnfrentamiento(segundo);
+        var tercero = new Enfrentamiento(LocalDate.of(2023, 11, 27), LocalTime.of(15, 0), lugar, pereira,
+                uniquindio, torneo.getReloj());
+        torneo.registrarEnfrentamiento(tercero);
+        tercero.registrarJuez(juez);
+
+        segundo.aplazarEnfrentamiento(LocalDate.of(2023, 12, 5), LocalTime.of(18, 0));
+        torneo.registrarResultados(List.of(new MarcadorEnfrentamiento(primero, 3, 1),
+                new MarcadorEnfrentamiento(tercero, 2, 2)));
+    }
+}
@@ -8,9 +8,15 @@
 package co.edu.uniquindio.poo;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.Test;
@@ -148,4 +154,92 @@ public class EnfrentamientoTest {
                 LOG.info("Fin de prueba verificarEstadoEnfrentamientoAplazado");
         }
 
+        /**
+         * Verifica que un enfrentamiento creado con un reloj fijo se lleve a cabo
+         * únicamente cuando el reloj coincide con su fecha y hora.
+         */
+        @Test
+        public void llevarACaboEnfrentamientoConRelojFijo() {
+                LOG.info("Inicio de prueba llevarACaboEnfrentamientoConRelojFijo");
+
+                Lugar lugar = new Lugar("uq", "direccion uq");
+                Persona representante1 = new Persona("quiso", "bonie", "quiso123@example.com", "3054578458");
+                Equipo equipo1 = new Equipo("UQ", representante1, new Estadistica());
+                Equipo equipo2 = new Equipo("UTP", representante1, new Estadistica());
+                var zona = ZoneId.of("America/Bogota");
+                var reloj = Clock.fixed(LocalDateTime.of(2023, 11, 20, 15, 0, 30).atZone(zona).toInstant(), zona);
+
+                var enfrentamiento = new Enfrentamiento(LocalDate.of(2023, 11, 20), LocalTime.of(15, 0), lugar,
+                                equipo1, equipo2, reloj);
+                var enfrentamientoTarde = new Enfrentamiento(LocalDate.of(2023, 11, 20), LocalTime.of(15, 1), lugar,
+                                equipo1, equipo2, reloj);
+                enfrentamiento.setPuntosVisitanteLocalEnfrentamiento(2, 1);
+
+                enfrentamiento.llevarACaboEnfrentamiento();
+                enfrentamientoTarde.llevarACaboEnfrentamiento();
+
+                assertEquals(EstadoEnfrentamiento.FINALIZADO, enfrentamiento.getEstadoEnfrentamiento());
+                assertEquals(EstadoEnfrentamiento.PENDIENTE, enfrentamientoTarde.getEstadoEnfrentamiento());
+                assertEquals(1, equipo1.getEstadistica().getGanado());
+                assertEquals(1, equipo2.getEstadistica().getPerdido());
+
+                // Un enfrentamiento finalizado no se vuelve a llevar a cabo en el mismo minuto
+                assertThrows(Throwable.class, () -> enfrentamiento.llevarACaboEnfrentamiento());
+                assertEquals(EstadoEnfrentamiento.FINALIZADO, enfrentamiento.getEstadoEnfrentamiento());
+                assertEquals(1, equipo1.getEstadistica().getGanado());
+                assertEquals(1, equipo2.getEstadistica().getPerdido());
+
+                LOG.info("Fin de prueba llevarACaboEnfrentamientoConRelojFijo");
+        }
+
+        /**
+         * Verifica que el resultado de un enfrentamiento finalizado indique el tipo
+         * de resultado, los puntos y el ganador, y que su texto sea el mismo de
+         * siempre.
+         */
+        @Test
+        public void obtenerResultadoEnfrentamiento() {
+                LOG.info("Inicio de prueba obtenerResultadoEnfrentamiento");
+
+                var zona = ZoneId.of("America/Bogota");
+                var reloj = Clock.fixed(LocalDateTime.of(2023, 11, 20, 15, 0).atZone(zona).toInstant(), zona);
+                var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+                var lugar = new Lugar("granada", "Avenida Alamos");
+                var visitante = new Equipo("Real Madrid", representante, new Estadistica());
+                var local = new Equipo("Barcelona", representante, new Estadistica());
+                var fecha = LocalDate.of(2023, 11, 20);
+                var hora = LocalTime.of(15, 0);
+                var ganaVisitante = new Enfrentamiento(fecha, hora, lugar, visitante, local, reloj);
+                var ganaLocal = new Enfrentamiento(fecha, hora, lugar, visitante, local, reloj);
+                var empate = new Enfrentamiento(fecha, hora, lugar, visitante, local, reloj);
+                ganaVisitante.setPuntosVisitanteLocalEnfrentamiento(13, 8);
+                ganaLocal.setPuntosVisitanteLocalEnfrentamiento(1, 2);
+                empate.setPuntosVisitanteLocalEnfrentamiento(3, 3);
+
+                assertTrue(ganaVisitante.getResultado().isEmpty());
+                assertNull(ganaVisitante.getResultadoEnfrentamiento());
+
+                ganaVisitante.llevarACaboEnfrentamiento();
+                ganaLocal.llevarACaboEnfrentamiento();
+                empate.llevarACaboEnfrentamiento();
+                // Cambiar los puntos después de finalizar no cambia el resultado
+                ganaVisitante.setPuntosVisitanteLocalEnfrentamiento(0, 0);
+
+                assertEquals(new ResultadoEnfrentamiento(TipoResultado.GANA_VISITANTE, 13, 8),
+                                ganaVisitante.getResultado().orElseThrow());
+                assertEquals(TipoResultado.GANA_LOCAL, ganaLocal.getResultado().orElseThrow().tipo());
+                assertEquals(TipoResultado.EMPATE, empate.getResultado().orElseThrow().tipo());
+                assertEquals(visitante, ganaVisitante.getGanador().orElseThrow());
+                assertEquals(local, ganaLocal.getGanador().orElseThrow());
+                assertTrue(empate.getGanador().isEmpty());
+                assertEquals("El resultado es: El equipo 1 ganó con 13 puntos y el equipo 2 perdió con 8 puntos",
+                                ganaVisitante.getResultadoEnfrentamiento());
+                assertEquals("El resultado es: El equipo 1 perdió con 1 puntos y el equipo 2 ganó con 2 puntos",
+                                ganaLocal.getResultadoEnfrentamiento());
+                assertEquals("El resultado es: El equipo 1 empató con 3 el equipo 2 con 3 puntos",
+                                empate.getResultadoEnfrentamiento());
+
+                LOG.info("Fin de prueba obtenerResultadoEnfrentamiento");
+        }
+
 }
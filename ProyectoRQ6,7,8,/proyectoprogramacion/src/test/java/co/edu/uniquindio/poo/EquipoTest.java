@@ -11,7 +11,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.Test;
@@ -130,4 +133,187 @@ public class EquipoTest {
         LOG.info("Fin de prueba inscripcionNoAbierta...");
     }
 
+    /**
+     * Verificar que los equipos se puedan buscar por nombre y que el torneo
+     * conserve el orden de registro
+     * 
+     */
+    @Test
+    public void buscarEquipoPorNombreConservaOrden() {
+        LOG.info("Inicio de prueba buscarEquipoPorNombreConservaOrden...");
+        // Almacenar los datos de prueba Torneo{Copa Mundo\|fechaActual+ 1mes\|
+        // fechaActual - 15 días\|fechaActual+15 días\|24\|0\|0\|LOCAL}
+        // Equipos{Uniquindio, Quindío, Armenia}
+
+        Torneo torneo = new Torneo("Copa Mundo", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO);
+
+        var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+        var equipo1 = new Equipo("Uniquindio", representante, new Estadistica());
+        var equipo2 = new Equipo("Quindío", representante, new Estadistica());
+        var equipo3 = new Equipo("Armenia", representante, new Estadistica());
+
+        torneo.registrarEquipo(equipo1);
+        torneo.registrarEquipo(equipo2);
+        torneo.registrarEquipo(equipo3);
+
+        // Recuperación y verificación de datos
+        assertEquals(List.of(equipo1, equipo2, equipo3), List.copyOf(torneo.getEquipos()));
+        assertEquals(equipo2, torneo.buscarEquipoPorNombre("Quindío").get());
+        assertTrue(torneo.buscarEquipoPorNombre("Pereira").isEmpty());
+        LOG.info("Fin de prueba buscarEquipoPorNombreConservaOrden...");
+    }
+
+    /**
+     * Verificar que las fechas de inscripción se validen contra el reloj del
+     * torneo
+     * 
+     */
+    @Test
+    public void inscripcionConRelojDelTorneo() {
+        LOG.info("Inicio de prueba inscripcionConRelojDelTorneo...");
+        // Almacenar los datos de prueba Copa
+        // Mundo|2023-10-01|2023-08-01|2023-09-15|24|0|0|LOCAL con reloj en
+        // 2023-08-15 y luego en 2023-09-20
+
+        var zona = ZoneId.of("America/Bogota");
+        var relojAbierto = Clock.fixed(LocalDate.of(2023, 8, 15).atStartOfDay(zona).toInstant(), zona);
+        var relojCerrado = Clock.fixed(LocalDate.of(2023, 9, 20).atStartOfDay(zona).toInstant(), zona);
+
+        Torneo torneoAbierto = new Torneo("Copa Mundo", LocalDate.of(2023, 10, 1), LocalDate.of(2023, 8, 1),
+                LocalDate.of(2023, 9, 15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO,
+                relojAbierto);
+        Torneo torneoCerrado = new Torneo("Copa Mundo", LocalDate.of(2023, 10, 1), LocalDate.of(2023, 8, 1),
+                LocalDate.of(2023, 9, 15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO,
+                relojCerrado);
+
+        var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+
+        torneoAbierto.registrarEquipo(new Equipo("Uniquindio", representante, new Estadistica()));
+
+        // Recuperación y verificación de datos
+        assertEquals(1, torneoAbierto.getEquipos().size());
+        assertThrows(Throwable.class,
+                () -> torneoCerrado.registrarEquipo(new Equipo("Uniquindio", representante, new Estadistica())));
+
+        // Al cambiar las fechas de inscripción se vuelve a evaluar la ventana
+        torneoCerrado.setFechaCierreInscripciones(LocalDate.of(2023, 9, 25));
+        torneoCerrado.registrarEquipo(new Equipo("Uniquindio", representante, new Estadistica()));
+        assertEquals(1, torneoCerrado.getEquipos().size());
+        LOG.info("Fin de prueba inscripcionConRelojDelTorneo...");
+    }
+
+    /**
+     * Verificar que la plantilla del equipo filtre por género y fecha de
+     * nacimiento, busque por nombre y apellido y se pueda recorrer más allá de su
+     * capacidad inicial
+     * 
+     */
+    @Test
+    public void consultarPlantillaJugadores() {
+        LOG.info("Inicio de prueba consultarPlantillaJugadores...");
+
+        var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+        var equipo = new Equipo("Uniquindio", representante, new Estadistica());
+        for (int i = 0; i < 10; i++) {
+            equipo.registrarJugador(new Jugador("Jugador" + i, "Apellido", "jugador" + i + "@email.com",
+                    "315000000" + i, LocalDate.of(2000 + i, 1, 1), i < 3 ? TipoGenero.MUJER : TipoGenero.HOMBRE));
+        }
+        var plantilla = equipo.getPlantilla();
+
+        // Recuperación y verificación de datos
+        assertEquals(10, equipo.getJugadores().size());
+        assertEquals(List.of("Jugador0", "Jugador1", "Jugador2"), equipo.getJugadores().stream().limit(3)
+                .map(Jugador::getNombre).toList());
+        assertEquals(3, plantilla.contarGenero(TipoGenero.MUJER));
+        assertTrue(!plantilla.todosDelGenero(TipoGenero.HOMBRE));
+        assertEquals(List.of("Jugador0", "Jugador1"), plantilla.nacidosHasta(LocalDate.of(2001, 1, 1)).stream()
+                .map(Jugador::getNombre).toList());
+        assertEquals("jugador9@email.com", equipo.buscarJugador(new Jugador("Jugador9", "Apellido",
+                "otro@email.com", "1", LocalDate.of(2000, 1, 1), TipoGenero.HOMBRE)).orElseThrow().getEmail());
+        assertTrue(equipo.buscarJugador(new Jugador("Jugador9", "Otro", "otro@email.com", "1",
+                LocalDate.of(2000, 1, 1), TipoGenero.HOMBRE)).isEmpty());
+        assertThrows(Throwable.class, () -> equipo.getJugadores().clear());
+        LOG.info("Fin de prueba consultarPlantillaJugadores...");
+    }
+
+    /**
+     * Verificar que el equipo lleve la cantidad de jugadores de cada género y que
+     * el torneo rechace jugadores de otro género aun cuando se registran
+     * directamente en el equipo después de inscribirlo
+     * 
+     */
+    @Test
+    public void condicionGeneroContinua() {
+        LOG.info("Inicio de prueba condicionGeneroContinua...");
+
+        var zona = ZoneId.of("America/Bogota");
+        var reloj = Clock.fixed(LocalDate.of(2023, 8, 15).atStartOfDay(zona).toInstant(), zona);
+        var torneo = new Torneo("Copa Mundo", LocalDate.of(2023, 10, 1), LocalDate.of(2023, 8, 1),
+                LocalDate.of(2023, 9, 15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MUJERES, reloj);
+        var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+        var equipo = new Equipo("Uniquindio", representante, new Estadistica());
+        var mixto = new Equipo("Quindío", representante, new Estadistica());
+        equipo.registrarJugador(new Jugador("Laura", "Ríos", "lrios@email.com", "3150000002",
+                LocalDate.of(2001, 1, 9), TipoGenero.MUJER));
+        mixto.registrarJugador(new Jugador("Ana", "Gómez", "agomez@email.com", "3150000003",
+                LocalDate.of(2001, 1, 9), TipoGenero.MUJER));
+        mixto.registrarJugador(new Jugador("Christian", "Candela", "chrcandela@email.com", "3150000001",
+                LocalDate.of(2001, 1, 9), TipoGenero.HOMBRE));
+        torneo.registrarEquipo(equipo);
+
+        var hombre = new Jugador("Pedro", "Pérez", "pperez@email.com", "3150000004", LocalDate.of(2001, 1, 9),
+                TipoGenero.HOMBRE);
+
+        // Recuperación y verificación de datos
+        assertEquals(1, mixto.getCantidadJugadores(TipoGenero.MUJER));
+        assertEquals(1, mixto.getCantidadJugadores(TipoGenero.HOMBRE));
+        assertThrows(Throwable.class, () -> torneo.registrarEquipo(mixto));
+        assertThrows(Throwable.class, () -> equipo.registrarJugador(hombre));
+        assertThrows(Throwable.class, () -> torneo.registrarJugador(equipo, hombre));
+        assertEquals(0, equipo.getCantidadJugadores(TipoGenero.HOMBRE));
+        assertEquals(1, equipo.getJugadores().size());
+        // El jugador rechazado no queda reservado en el torneo
+        assertTrue(torneo.buscarJugador(hombre).isEmpty());
+        equipo.registrarJugador(new Jugador("María", "López", "mlopez@email.com", "3150000005",
+                LocalDate.of(2001, 1, 9), TipoGenero.MUJER));
+        assertEquals(2, equipo.getCantidadJugadores(TipoGenero.MUJER));
+        LOG.info("Fin de prueba condicionGeneroContinua...");
+    }
+
+    /**
+     * Verificar que un jugador que un torneo ya había reservado al validarlo se
+     * libere de ese torneo cuando otro torneo en el que está inscrito el equipo
+     * lo rechaza
+     * 
+     */
+    @Test
+    public void liberarJugadorRechazado() {
+        LOG.info("Inicio de prueba liberarJugadorRechazado...");
+
+        var zona = ZoneId.of("America/Bogota");
+        var reloj = Clock.fixed(LocalDate.of(2023, 8, 15).atStartOfDay(zona).toInstant(), zona);
+        var mixto = new Torneo("Copa Mundo", LocalDate.of(2023, 10, 1), LocalDate.of(2023, 8, 1),
+                LocalDate.of(2023, 9, 15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, reloj);
+        var mujeres = new Torneo("Copa Femenina", LocalDate.of(2023, 10, 1), LocalDate.of(2023, 8, 1),
+                LocalDate.of(2023, 9, 15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MUJERES, reloj);
+        var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+        var equipo = new Equipo("Uniquindio", representante, new Estadistica());
+        mixto.registrarEquipo(equipo);
+        mujeres.registrarEquipo(equipo);
+
+        var hombre = new Jugador("Pedro", "Pérez", "pperez@email.com", "3150000004", LocalDate.of(2001, 1, 9),
+                TipoGenero.HOMBRE);
+
+        // Recuperación y verificación de datos
+        assertThrows(Throwable.class, () -> equipo.registrarJugador(hombre));
+        assertTrue(equipo.getJugadores().isEmpty());
+        assertTrue(mixto.buscarJugador(hombre).isEmpty());
+        var otroEquipo = new Equipo("Quindío", representante, new Estadistica());
+        mixto.registrarEquipo(otroEquipo);
+        mixto.registrarJugador(otroEquipo, hombre);
+        assertEquals(List.of(hombre), List.copyOf(otroEquipo.getJugadores()));
+        LOG.info("Fin de prueba liberarJugadorRechazado...");
+    }
+
 }
@@ -0,0 +1,127 @@
+/**
+ * Clase para probar la exportación de los datos de un Torneo en CSV y JSON
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class ExportadorTorneoTest {
+    /**
+     * Instancia para el manejo de logs
+     */
+    private static final Logger LOG = Logger.getLogger(ExportadorTorneoTest.class.getName());
+
+    /**
+     * Verificar que la clasificación y los enfrentamientos se exporten en CSV y
+     * JSON, escapando los textos según cada formato
+     *
+     */
+    @Test
+    public void exportarClasificacionYEnfrentamientos() throws IOException {
+        LOG.info("Inicio de prueba exportarClasificacionYEnfrentamientos...");
+
+        var torneo = crearTorneo();
+
+        var clasificacion = new StringWriter();
+        new ExportadorTorneo(torneo, FormatoExportacion.CSV).exportarClasificacion(clasificacion);
+        var enfrentamientos = new ByteArrayOutputStream();
+        new ExportadorTorneo(torneo, FormatoExportacion.JSON).exportarEnfrentamientos(enfrentamientos);
+
+        // Recuperación y verificación de datos
+        assertEquals("""
+                posicion,equipo,puntaje,ganado,empatado,perdido
+                1,"Club ""Uni""\",5,1,1,0
+                1,"Quindío, FC",5,1,1,0
+                3,Pereira,2,0,0,2
+                """, clasificacion.toString());
+        assertEquals("""
+                [
+                {"fecha":"2023-11-25","hora":"15:00","lugar":"Centenario","ubicacion":"Armenia","visitante":"Quindío, FC","local":"Club \\"Uni\\"","estado":"FINALIZADO","puntosVisitante":2,"puntosLocal":2,"resultado":"EMPATE"},
+                {"fecha":"2023-11-26","hora":"15:30","lugar":null,"ubicacion":null,"visitante":"Pereira","local":"Quindío, FC","estado":"FINALIZADO","puntosVisitante":0,"puntosLocal":1,"resultado":"GANA_LOCAL"},
+                {"fecha":"2023-11-27","hora":"18:00","lugar":"Centenario","ubicacion":"Armenia","visitante":"Pereira","local":"Club \\"Uni\\"","estado":"FINALIZADO","puntosVisitante":1,"puntosLocal":3,"resultado":"GANA_LOCAL"},
+                {"fecha":"2023-12-01","hora":"09:05:30","lugar":"Centenario","ubicacion":"Armenia","visitante":"Pereira","local":"Quindío, FC","estado":null,"puntosVisitante":0,"puntosLocal":0,"resultado":null}
+                ]
+                """, enfrentamientos.toString(StandardCharsets.UTF_8));
+        LOG.info("Fin de prueba exportarClasificacionYEnfrentamientos...");
+    }
+
+    /**
+     * Verificar que los jugadores exportados en CSV se puedan importar en otro
+     * torneo, y que una tabla sin filas en JSON sea un arreglo vacío
+     *
+     */
+    @Test
+    public void exportarEImportarJugadores() throws IOException {
+        LOG.info("Inicio de prueba exportarEImportarJugadores...");
+
+        var torneo = crearTorneo();
+        var jugadores = new StringWriter();
+        new ExportadorTorneo(torneo, FormatoExportacion.CSV).exportarJugadores(jugadores);
+
+        var otroTorneo = crearTorneo();
+        var reporte = new ImportadorCsv(otroTorneo).importarJugadores(new StringReader(jugadores.toString()
+                .replace("Christian", "Cristian").replace("Laura", "Lorena")));
+        var vacio = new StringWriter();
+        new ExportadorTorneo(new GeneradorTorneo(1).generar(TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, (byte) 0, 0, 0,
+                0, 0, 0), FormatoExportacion.JSON).exportarClasificacion(vacio);
+
+        // Recuperación y verificación de datos
+        assertEquals("""
+                equipo,nombre,apellido,email,celular,fechaNacimiento,genero
+                "Club ""Uni""\",Christian,Candela,chrcandela@email.com,+57 3150000001,2001-01-09,HOMBRE
+                "Quindío, FC",Laura,Ríos,lrios@email.com,0315000002,1999-12-31,MUJER
+                """, jugadores.toString());
+        assertEquals(2, reporte.getRegistrados());
+        assertEquals(2, otroTorneo.buscarEquipoPorNombre("Club \"Uni\"").orElseThrow().getJugadores().size());
+        assertEquals("[]\n", vacio.toString());
+        LOG.info("Fin de prueba exportarEImportarJugadores...");
+    }
+
+    private static Torneo crearTorneo() {
+        var zona = ZoneId.of("America/Bogota");
+        var reloj = Clock.fixed(LocalDate.of(2023, 10, 20).atTime(12, 0).atZone(zona).toInstant(), zona);
+        var torneo = new Torneo("Copa Mundo", LocalDate.of(2023, 11, 20), LocalDate.of(2023, 10, 1),
+                LocalDate.of(2023, 11, 1), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, reloj);
+        var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+        var uni = new Equipo("Club \"Uni\"", representante, new Estadistica());
+        var quindio = new Equipo("Quindío, FC", representante, new Estadistica());
+        var pereira = new Equipo("Pereira", representante, new Estadistica());
+        torneo.registrarEquipo(uni);
+        torneo.registrarEquipo(quindio);
+        torneo.registrarEquipo(pereira);
+        torneo.registrarJugador(uni, new Jugador("Christian", "Candela", "chrcandela@email.com", "+57 3150000001",
+                LocalDate.of(2001, 1, 9), TipoGenero.HOMBRE));
+        torneo.registrarJugador(quindio, new Jugador("Laura", "Ríos", "lrios@email.com", "0315000002",
+                LocalDate.of(1999, 12, 31), TipoGenero.MUJER));
+
+        var lugar = new Lugar("Centenario", "Armenia");
+        var primero = new Enfrentamiento(LocalDate.of(2023, 11, 25), LocalTime.of(15, 0), lugar, quindio, uni, reloj);
+        var segundo = new Enfrentamiento(LocalDate.of(2023, 11, 26), LocalTime.of(15, 30), null, pereira, quindio,
+                reloj);
+        var tercero = new Enfrentamiento(LocalDate.of(2023, 11, 27), LocalTime.of(18, 0), lugar, pereira, uni, reloj);
+        var cuarto = new Enfrentamiento(LocalDate.of(2023, 12, 1), LocalTime.of(9, 5, 30), lugar, pereira, quindio,
+                reloj);
+        List.of(primero, segundo, tercero, cuarto).forEach(torneo::registrarEnfrentamiento);
+        torneo.registrarResultados(List.of(new MarcadorEnfrentamiento(primero, 2, 2),
+                new MarcadorEnfrentamiento(segundo, 0, 1), new MarcadorEnfrentamiento(tercero, 1, 3)));
+        return torneo;
+    }
+}
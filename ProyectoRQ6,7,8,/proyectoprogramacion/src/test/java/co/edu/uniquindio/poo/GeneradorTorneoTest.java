@@ -0,0 +1,112 @@
+/**
+ * Clase para probar la generación de Torneos sintéticos
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class GeneradorTorneoTest {
+    /**
+     * Instancia para el manejo de logs
+     */
+    private static final Logger LOG = Logger.getLogger(GeneradorTorneoTest.class.getName());
+
+    /**
+     * Verificar que el torneo generado tenga el tamaño pedido y cumpla las
+     * condiciones de género y edad del torneo
+     * 
+     */
+    @Test
+    public void generarTorneoTamanoYCondiciones() {
+        LOG.info("Inicio de prueba generarTorneoTamanoYCondiciones...");
+
+        var torneo = new GeneradorTorneo(7).generar(TipoTorneo.REGIONAL, TipoTorneoGenero.MUJERES, (byte) 18, 200,
+                15, 20, 5, 4);
+
+        // Recuperación y verificación de datos
+        assertEquals(200, torneo.getEquipos().size());
+        assertEquals(20, torneo.getJueces().size());
+        assertEquals(400, torneo.getEnfrentamientos().size());
+        var jugadores = torneo.getEquipos().stream().flatMap(equipo -> equipo.getJugadores().stream()).toList();
+        assertEquals(3000, jugadores.size());
+        assertTrue(jugadores.stream().allMatch(jugador -> jugador.getTipoGenero() == TipoGenero.MUJER));
+        assertTrue(jugadores.stream().allMatch(jugador -> jugador.calcularEdad(torneo.getFechaInicio()) <= 18));
+        LOG.info("Fin de prueba generarTorneoTamanoYCondiciones...");
+    }
+
+    /**
+     * Verificar que ningún lugar ni equipo tenga dos enfrentamientos en la misma
+     * franja, aun cuando se ocupan todas las franjas, y que se rechace pedir más
+     * enfrentamientos de los que caben
+     * 
+     */
+    @Test
+    public void generarEnfrentamientosSinCruces() {
+        LOG.info("Inicio de prueba generarEnfrentamientosSinCruces...");
+
+        var torneo = new GeneradorTorneo(3).generar(TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, (byte) 0, 20, 0, 2, 3,
+                40);
+
+        // Recuperación y verificación de datos
+        assertEquals(400, torneo.getEnfrentamientos().size());
+        var lugaresPorHora = new HashSet<List<Object>>();
+        var equiposPorHora = new HashSet<List<Object>>();
+        for (var enfrentamiento : torneo.getEnfrentamientos()) {
+            assertTrue(lugaresPorHora.add(List.of(enfrentamiento.getLugar().getNombre(), enfrentamiento.getFecha(),
+                    enfrentamiento.getHora())));
+            assertTrue(equiposPorHora.add(List.of(enfrentamiento.getLocal(), enfrentamiento.getFecha(),
+                    enfrentamiento.getHora())));
+            assertTrue(equiposPorHora.add(List.of(enfrentamiento.getVisitante(), enfrentamiento.getFecha(),
+                    enfrentamiento.getHora())));
+        }
+        torneo.activarCalendarioLugares(Duration.ofHours(2));
+
+        // Con dos equipos y un lugar caben 1260 enfrentamientos, uno por franja
+        var lleno = new GeneradorTorneo(3).generar(TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, (byte) 0, 2, 0, 0, 1,
+                1260);
+        assertEquals(1260, lleno.getEnfrentamientos().size());
+        assertThrows(Throwable.class, () -> new GeneradorTorneo(3).generar(TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO,
+                (byte) 0, 2, 0, 0, 1, 1261));
+        LOG.info("Fin de prueba generarEnfrentamientosSinCruces...");
+    }
+
+    /**
+     * Verificar que dos generadores con la misma semilla generen los mismos datos
+     * 
+     */
+    @Test
+    public void generarTorneoDeterminista() {
+        LOG.info("Inicio de prueba generarTorneoDeterminista...");
+
+        var torneo1 = new GeneradorTorneo(42).generar(TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, (byte) 0, 50, 10, 5,
+                3, 2);
+        var torneo2 = new GeneradorTorneo(42).generar(TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, (byte) 0, 50, 10, 5,
+                3, 2);
+
+        // Recuperación y verificación de datos
+        assertEquals(torneo1.getEquipos().stream().map(Equipo::getNombre).toList(),
+                torneo2.getEquipos().stream().map(Equipo::getNombre).toList());
+        assertEquals(torneo1.getEnfrentamientos().stream().map(Enfrentamiento::getClave).toList(),
+                torneo2.getEnfrentamientos().stream().map(Enfrentamiento::getClave).toList());
+        var jugadores1 = torneo1.getEquipos().stream().flatMap(equipo -> equipo.getJugadores().stream()).toList();
+        var jugadores2 = torneo2.getEquipos().stream().flatMap(equipo -> equipo.getJugadores().stream()).toList();
+        for (int i = 0; i < jugadores1.size(); i++) {
+            assertEquals(jugadores1.get(i).getApellido(), jugadores2.get(i).getApellido());
+            assertEquals(jugadores1.get(i).getFechaNacimiento(), jugadores2.get(i).getFechaNacimiento());
+        }
+        LOG.info("Fin de prueba generarTorneoDeterminista...");
+    }
+}
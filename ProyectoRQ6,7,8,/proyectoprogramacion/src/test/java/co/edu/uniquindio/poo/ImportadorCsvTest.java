@@ -0,0 +1,219 @@
+/**
+ * Clase para probar la importación de datos al Torneo desde archivos CSV
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ * 
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE) 
+ */
+package co.edu.uniquindio.poo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class ImportadorCsvTest {
+    /**
+     * Instancia para el manejo de logs
+     */
+    private static final Logger LOG = Logger.getLogger(ImportadorCsvTest.class.getName());
+
+    /**
+     * Verificar que se importen equipos, jugadores y jueces y que las filas con
+     * errores se reporten con su número de línea
+     * 
+     */
+    @Test
+    public void importarEquiposJugadoresJueces() throws IOException {
+        LOG.info("Inicio de prueba importarEquiposJugadoresJueces...");
+        // Almacenar los datos de prueba Torneo{Copa Mundo\|fechaActual+ 1mes\|
+        // fechaActual - 15 días\|fechaActual+15 días\|24\|18\|0\|LOCAL}
+
+        Torneo torneo = new Torneo("Copa Mundo", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                LocalDate.now().plusDays(15), (byte) 24, (byte) 18, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO);
+        var importador = new ImportadorCsv(torneo, 2);
+
+        var equipos = """
+                nombre,nombreRepresentante,apellidoRepresentante,email,celular
+                Uniquindio,Robinson,Pulgarin,rpulgarin@email.com,6067359300
+                "Quindío, FC",Paco,Roco,PacoRoco@gmail.com,334267783
+                Uniquindio,Robinson,Pulgarin,rpulgarin@email.com,6067359300
+                """;
+        var reporteEquipos = importador.importarEquipos(new StringReader(equipos));
+
+        var jugadores = """
+                equipo,nombre,apellido,email,celular,fechaNacimiento,genero
+                Uniquindio,Christian,Candela,chrcandela@email.com,6067431234,%s,HOMBRE
+                "Quindío, FC",Pabla,Narvaez,jcdxa@email,634540912,%s,MUJER
+                Pereira,Paco,Roco,PacoRoco@gmail.com,334267783,%s,HOMBRE
+                Uniquindio,Diego,Flores,dflores@email.com,3001234567,%s,HOMBRE
+                """.formatted(LocalDate.now().minusYears(15), LocalDate.now().minusYears(16),
+                LocalDate.now().minusYears(15), LocalDate.now().minusYears(30));
+        var reporteJugadores = importador.importarJugadores(new StringReader(jugadores));
+
+        var jueces = """
+                nombre,apellido,email,celular,licencia
+                Camilo,Tolon,CamiloTolon@gmail.com,3043891162,4321
+                Tra,Tri,CamiloTolon@gmail.com,3043891162
+                """;
+        var reporteJueces = importador.importarJueces(new StringReader(jueces));
+
+        // Recuperación y verificación de datos
+        assertEquals(2, reporteEquipos.getRegistrados());
+        assertEquals(List.of(4L), reporteEquipos.getErrores().stream().map(e -> e.linea()).toList());
+        assertTrue(torneo.buscarEquipoPorNombre("Quindío, FC").isPresent());
+
+        assertEquals(2, reporteJugadores.getRegistrados());
+        assertEquals(List.of(4L, 5L), reporteJugadores.getErrores().stream().map(e -> e.linea()).toList());
+        assertEquals(1, torneo.buscarEquipoPorNombre("Uniquindio").get().getJugadores().size());
+
+        assertEquals(1, reporteJueces.getRegistrados());
+        assertEquals(List.of(3L), reporteJueces.getErrores().stream().map(e -> e.linea()).toList());
+        assertEquals(1, torneo.getJueces().size());
+        LOG.info("Fin de prueba importarEquiposJugadoresJueces...");
+    }
+
+    /**
+     * Verificar que cuando las inscripciones están cerradas todas las filas se
+     * reporten con error
+     * 
+     */
+    @Test
+    public void importarEquiposInscripcionCerrada() throws IOException {
+        LOG.info("Inicio de prueba importarEquiposInscripcionCerrada...");
+        // Almacenar los datos de prueba Torneo{Copa Mundo\|fechaActual+ 1mes\|
+        // fechaActual - 15 días\|fechaActual-1 días\|24\|0\|0\|LOCAL}
+
+        Torneo torneo = new Torneo("Copa Mundo", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                LocalDate.now().minusDays(1), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO);
+
+        var equipos = """
+                nombre,nombreRepresentante,apellidoRepresentante,email,celular
+                Uniquindio,Robinson,Pulgarin,rpulgarin@email.com,6067359300
+                Quindío,Paco,Roco,PacoRoco@gmail.com,334267783
+                """;
+        var reporte = new ImportadorCsv(torneo).importarEquipos(new StringReader(equipos));
+
+        // Recuperación y verificación de datos
+        assertEquals(0, reporte.getRegistrados());
+        assertEquals(2, reporte.getErrores().size());
+        assertEquals(0, torneo.getEquipos().size());
+        LOG.info("Fin de prueba importarEquiposInscripcionCerrada...");
+    }
+
+    /**
+     * Verificar que se lean los campos entre comillas con saltos de línea, como
+     * los escribe ExportadorTorneo, que los espacios solo se recorten fuera de
+     * las comillas y que los errores se reporten en la línea donde empieza la
+     * fila
+     * 
+     */
+    @Test
+    public void importarCamposConSaltosDeLinea() throws IOException {
+        LOG.info("Inicio de prueba importarCamposConSaltosDeLinea...");
+        // Almacenar los datos de prueba Torneo{Copa Mundo\|fechaActual+ 1mes\|
+        // fechaActual - 15 días\|fechaActual+15 días\|24\|18\|0\|LOCAL}
+
+        Torneo torneo = new Torneo("Copa Mundo", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                LocalDate.now().plusDays(15), (byte) 24, (byte) 18, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO);
+        var importador = new ImportadorCsv(torneo);
+
+        var equipos = "nombre,nombreRepresentante,apellidoRepresentante,email,celular\r\n"
+                + "\"Quindío\r\nFC\",Paco,Roco,PacoRoco@gmail.com,334267783\r\n"
+                + "\"Pereira\n\"\"Matecaña\"\"\",Camilo,Tolon,CamiloTolon@gmail.com,3043891162\r\n"
+                + "Armenia,Robinson\r\n"
+                + " \" Caldas \" , Juan ,Tolon,JuanTolon@gmail.com,3043891163\r\n";
+        var reporteEquipos = importador.importarEquipos(new StringReader(equipos));
+
+        var jugadores = new StringWriter();
+        var jugador = new Jugador("Pabla", "Narvaez", "pnarvaez@email.com", "634540912",
+                LocalDate.now().minusYears(16), TipoGenero.MUJER);
+        torneo.registrarJugador("Quindío\r\nFC", jugador);
+        new ExportadorTorneo(torneo, FormatoExportacion.CSV).exportarJugadores(jugadores);
+        var otroTorneo = new Torneo("Copa Mundo", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                LocalDate.now().plusDays(15), (byte) 24, (byte) 18, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO);
+        otroTorneo.inscribirEquipo(new Equipo("Quindío\r\nFC",
+                new Persona("Paco", "Roco", "PacoRoco@gmail.com", "334267783"), new Estadistica()));
+        var reporteJugadores = new ImportadorCsv(otroTorneo).importarJugadores(new StringReader(jugadores.toString()));
+
+        // Recuperación y verificación de datos
+        assertEquals(3, reporteEquipos.getRegistrados());
+        assertEquals(List.of(6L), reporteEquipos.getErrores().stream().map(e -> e.linea()).toList());
+        assertTrue(torneo.buscarEquipoPorNombre("Pereira\n\"Matecaña\"").isPresent());
+        assertEquals("Juan", torneo.buscarEquipoPorNombre(" Caldas ").get().getRepresentante().getNombre());
+
+        assertTrue(reporteJugadores.isExitoso());
+        assertEquals(1, reporteJugadores.getRegistrados());
+        assertEquals(1, otroTorneo.buscarEquipoPorNombre("Quindío\r\nFC").get().getJugadores().size());
+        LOG.info("Fin de prueba importarCamposConSaltosDeLinea...");
+    }
+
+    /**
+     * Verificar que un jugador con el género vacío o inválido se reporte como
+     * error de su fila
+     * 
+     */
+    @Test
+    public void importarJugadoresGeneroInvalido() throws IOException {
+        LOG.info("Inicio de prueba importarJugadoresGeneroInvalido...");
+        // Almacenar los datos de prueba Torneo{Copa Mundo\|fechaActual+ 1mes\|
+        // fechaActual - 15 días\|fechaActual+15 días\|24\|18\|0\|LOCAL}
+
+        Torneo torneo = new Torneo("Copa Mundo", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                LocalDate.now().plusDays(15), (byte) 24, (byte) 18, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO);
+        torneo.inscribirEquipo(new Equipo("Uniquindio",
+                new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300"), new Estadistica()));
+
+        var jugadores = """
+                equipo,nombre,apellido,email,celular,fechaNacimiento,genero
+                Uniquindio,Christian,Candela,chrcandela@email.com,6067431234,%1$s,
+                Uniquindio,Diego,Flores,dflores@email.com,3001234567,%1$s,OTRO
+                Uniquindio,Pabla,Narvaez,pnarvaez@email.com,634540912,15-01-2010,MUJER
+                Uniquindio,Paco,Roco,PacoRoco@gmail.com,334267783,%1$s,HOMBRE
+                """.formatted(LocalDate.now().minusYears(15));
+        var reporte = new ImportadorCsv(torneo).importarJugadores(new StringReader(jugadores));
+
+        // Recuperación y verificación de datos
+        assertEquals(1, reporte.getRegistrados());
+        assertEquals(List.of(2L, 3L, 4L), reporte.getErrores().stream().map(e -> e.linea()).toList());
+        assertTrue(reporte.getErrores().stream().allMatch(e -> e.mensaje() != null));
+        assertEquals(1, torneo.buscarEquipoPorNombre("Uniquindio").get().getJugadores().size());
+        LOG.info("Fin de prueba importarJugadoresGeneroInvalido...");
+    }
+
+    /**
+     * Verificar que el reporte guarde el detalle de a lo sumo el máximo de
+     * errores pero cuente todas las filas con error
+     * 
+     */
+    @Test
+    public void importarMuchosErrores() throws IOException {
+        LOG.info("Inicio de prueba importarMuchosErrores...");
+        // Almacenar los datos de prueba Torneo{Copa Mundo\|fechaActual+ 1mes\|
+        // fechaActual - 15 días\|fechaActual+15 días\|24\|18\|0\|LOCAL}
+
+        Torneo torneo = new Torneo("Copa Mundo", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                LocalDate.now().plusDays(15), (byte) 24, (byte) 18, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO);
+        var filasInvalidas = ReporteImportacion.MAXIMO_ERRORES + 500;
+        var jueces = new StringBuilder("nombre,apellido,email,celular,licencia\n");
+        for (int i = 0; i < filasInvalidas; i++) {
+            jueces.append("Tra,Tri,CamiloTolon@gmail.com,3043891162\n");
+        }
+        var reporte = new ImportadorCsv(torneo).importarJueces(new StringReader(jueces.toString()));
+
+        // Recuperación y verificación de datos
+        assertFalse(reporte.isExitoso());
+        assertEquals(filasInvalidas, reporte.getCantidadErrores());
+        assertEquals(ReporteImportacion.MAXIMO_ERRORES, reporte.getErrores().size());
+        assertEquals(2L, reporte.getErrores().iterator().next().linea());
+        LOG.info("Fin de prueba importarMuchosErrores...");
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Clase para probar la instantánea binaria de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class InstantaneaTorneoTest {
+    /**
+     * Instancia para el manejo de logs
+     */
+    private static final Logger LOG = Logger.getLogger(InstantaneaTorneoTest.class.getName());
+
+    /**
+     * Directorio temporal para los archivos de las pruebas
+     */
+    @TempDir
+    Path directorio;
+
+    /**
+     * Verificar que al cargar la instantánea se obtengan los mismos equipos,
+     * jugadores, jueces, enfrentamientos, estadísticas y clasificación del torneo
+     * guardado
+     *
+     */
+    @Test
+    public void guardarYCargarTorneo() throws IOException {
+        LOG.info("Inicio de prueba guardarYCargarTorneo...");
+
+        var torneo = new GeneradorTorneo(5).generar(TipoTorneo.REGIONAL, TipoTorneoGenero.MIXTO, (byte) 0, 40, 8, 6,
+                3, 2);
+        var enfrentamientos = List.copyOf(torneo.getEnfrentamientos());
+        var marcadores = new ArrayList<MarcadorEnfrentamiento>();
+        for (int i = 0; i < enfrentamientos.size(); i += 3) {
+            marcadores.add(new MarcadorEnfrentamiento(enfrentamientos.get(i), i % 4, i % 3));
+        }
+        torneo.registrarResultados(marcadores);
+
+        var archivo = directorio.resolve("torneo.instantanea");
+        InstantaneaTorneo.guardar(torneo, archivo);
+        var cargado = InstantaneaTorneo.cargar(archivo, torneo.getReloj());
+
+        // Recuperación y verificación de datos
+        assertEquals(torneo.getNombre(), cargado.getNombre());
+        assertEquals(torneo.getFechaInicio(), cargado.getFechaInicio());
+        assertEquals(torneo.getTipoTorneo(), cargado.getTipoTorneo());
+        assertEquals(torneo.getEquipos().stream().map(Equipo::getNombre).toList(),
+                cargado.getEquipos().stream().map(Equipo::getNombre).toList());
+        assertEquals(torneo.getEquipos().stream().map(equipo -> equipo.getEstadistica().getPuntaje()).toList(),
+                cargado.getEquipos().stream().map(equipo -> equipo.getEstadistica().getPuntaje()).toList());
+        assertEquals(torneo.obtenerListaEquiposClasificacionResultadosEnfrentamiento().stream()
+                .map(Equipo::getNombre).toList(),
+                cargado.obtenerListaEquiposClasificacionResultadosEnfrentamiento().stream()
+                        .map(Equipo::getNombre).toList());
+        var jugadores = torneo.getEquipos().stream().flatMap(equipo -> equipo.getJugadores().stream()).toList();
+        var jugadoresCargados = cargado.getEquipos().stream().flatMap(equipo -> equipo.getJugadores().stream())
+                .toList();
+        assertEquals(jugadores.size(), jugadoresCargados.size());
+        for (int i = 0; i < jugadores.size(); i++) {
+            assertEquals(jugadores.get(i).getApellido(), jugadoresCargados.get(i).getApellido());
+            assertEquals(jugadores.get(i).getFechaNacimiento(), jugadoresCargados.get(i).getFechaNacimiento());
+            assertEquals(jugadores.get(i).getTipoGenero(), jugadoresCargados.get(i).getTipoGenero());
+        }
+        assertEquals(torneo.getJueces().stream().map(Juez::getLicenciaJuez).toList(),
+                cargado.getJueces().stream().map(Juez::getLicenciaJuez).toList());
+
+        var enfrentamientosCargados = List.copyOf(cargado.getEnfrentamientos());
+        assertEquals(enfrentamientos.stream().map(Enfrentamiento::getClave).toList(),
+                enfrentamientosCargados.stream().map(Enfrentamiento::getClave).toList());
+        for (int i = 0; i < enfrentamientos.size(); i++) {
+            assertEquals(enfrentamientos.get(i).getEstadoEnfrentamiento(),
+                    enfrentamientosCargados.get(i).getEstadoEnfrentamiento());
+            assertEquals(enfrentamientos.get(i).getResultadoEnfrentamiento(),
+                    enfrentamientosCargados.get(i).getResultadoEnfrentamiento());
+            assertEquals(enfrentamientos.get(i).getJueces().stream().map(Juez::getLicenciaJuez).toList(),
+                    enfrentamientosCargados.get(i).getJueces().stream().map(Juez::getLicenciaJuez).toList());
+        }
+        // Los equipos y jueces de los enfrentamientos son los mismos del torneo
+        var primero = enfrentamientosCargados.get(0);
+        assertSame(cargado.buscarEquipoPorNombre(primero.getLocal().getNombre()).orElseThrow(), primero.getLocal());
+        for (var juez : cargado.getJueces()) {
+            assertEquals(torneo.obtenerListaEnfrentamientosJuezPorLicencia(juez.getLicenciaJuez()).size(),
+                    cargado.obtenerListaEnfrentamientosJuezPorLicencia(juez.getLicenciaJuez()).size());
+        }
+        LOG.info("Fin de prueba guardarYCargarTorneo...");
+    }
+
+    /**
+     * Verificar que no se pueda cargar un archivo que no es una instantánea
+     *
+     */
+    @Test
+    public void cargarArchivoInvalido() throws IOException {
+        LOG.info("Inicio de prueba cargarArchivoInvalido...");
+
+        var archivo = directorio.resolve("torneo.instantanea");
+        Files.writeString(archivo, "Equipo,Representante");
+
+        assertThrows(Throwable.class, () -> InstantaneaTorneo.cargar(archivo));
+        LOG.info("Fin de prueba cargarArchivoInvalido...");
+    }
+}
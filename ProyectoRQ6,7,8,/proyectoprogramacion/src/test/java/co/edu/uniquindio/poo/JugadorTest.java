@@ -247,4 +247,41 @@ public class JugadorTest {
         LOG.info("Fin de prueba registrarJugadoresRepetidosTorneo...");
     }
 
+    /**
+     * Verificar que los jugadores registrados directamente en un equipo inscrito
+     * queden indexados en el torneo y no se puedan repetir en otro equipo
+     * 
+     */
+    @Test
+    public void registrarJugadorDesdeEquipoInscrito() {
+        LOG.info("Inicio de prueba registrarJugadorDesdeEquipoInscrito...");
+        // Almacenar los datos de prueba Torneo{Copa Mundo\|fechaActual+ 1mes\|
+        // fechaActual - 15 días\|fechaActual+15 días\|24\|18\|0\|LOCAL}
+        // Equipo{Uniquindio}, Equipo{Quindío}, Jugador
+        // {Christian,Candela,chrcandela@email.com,6067431234, fechaActual - 15 años}
+
+        var torneo = new Torneo("Copa Mundo", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                LocalDate.now().plusDays(15), (byte) 24, (byte) 18, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO);
+
+        var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+        var equipo = new Equipo("Uniquindio", representante, new Estadistica());
+        var equipo2 = new Equipo("Quindío", representante, new Estadistica());
+        torneo.registrarEquipo(equipo);
+        torneo.registrarEquipo(equipo2);
+
+        var jugador = new Jugador("Christian", "Candela", "chrcandela@email.com", "6067431234",
+                LocalDate.now().minusYears(15), TipoGenero.HOMBRE);
+        var jugador2 = new Jugador("Christian", "Candela", "ccandela@email.com", "6067431235",
+                LocalDate.now().minusYears(15), TipoGenero.HOMBRE);
+
+        equipo.registrarJugador(jugador);
+
+        // Recuperación y verificación de datos
+        assertEquals(jugador, torneo.buscarJugador(jugador2).get());
+        assertThrows(Throwable.class, () -> equipo2.registrarJugador(jugador2));
+        assertEquals(0, equipo2.getJugadores().size());
+
+        LOG.info("Fin de prueba registrarJugadorDesdeEquipoInscrito...");
+    }
+
 }
\ No newline at end of file
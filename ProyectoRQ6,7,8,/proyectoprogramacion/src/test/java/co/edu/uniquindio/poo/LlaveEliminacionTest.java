@@ -0,0 +1,151 @@
+/**
+ * Clase para probar la llave de eliminación directa de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class LlaveEliminacionTest {
+    /**
+     * Instancia para el manejo de logs
+     */
+    private static final Logger LOG = Logger.getLogger(LlaveEliminacionTest.class.getName());
+
+    /**
+     * Verificar que la llave siembre según la clasificación, que los mejores
+     * sembrados descansen en la primera ronda y que los ganadores avancen al
+     * finalizar cada enfrentamiento
+     *
+     */
+    @Test
+    public void avanzarGanadoresHastaLaFinal() {
+        LOG.info("Inicio de prueba avanzarGanadoresHastaLaFinal...");
+
+        var torneo = new GeneradorTorneo(11).generar(TipoTorneo.NACIONAL, TipoTorneoGenero.MIXTO, (byte) 0, 6, 0, 0,
+                0, 0);
+        var equipos = List.copyOf(torneo.getEquipos());
+        // El último equipo registrado queda primero en la clasificación
+        equipos.get(5).getEstadistica().actualizarEstadisticas(true, false, false);
+
+        var llave = new LlaveEliminacion(torneo, 6, List.of(new Lugar("Centenario", "Armenia")),
+                LocalTime.of(15, 0), 7);
+
+        assertEquals(3, llave.getRondas());
+        assertEquals(1, llave.obtenerSiembra(equipos.get(5)));
+        assertEquals(2, llave.obtenerSiembra(equipos.get(0)));
+
+        // En la primera ronda solo juegan las siembras 3 a 6
+        var primeraRonda = llave.obtenerEnfrentamientosRonda(0);
+        assertEquals(2, primeraRonda.size());
+        assertEquals(2, torneo.getEnfrentamientos().size());
+        assertEquals(torneo.getFechaInicio(), primeraRonda.get(0).getFecha());
+        assertEquals(0, llave.obtenerEnfrentamientosRonda(1).size());
+
+        // La siembra 4 empata con la 5 y avanza por estar mejor sembrada, y la 6
+        // elimina a la 3
+        torneo.registrarResultados(List.of(new MarcadorEnfrentamiento(primeraRonda.get(0), 1, 1),
+                new MarcadorEnfrentamiento(primeraRonda.get(1), 2, 1)));
+
+        var semifinales = llave.obtenerEnfrentamientosRonda(1);
+        assertEquals(2, semifinales.size());
+        assertEquals(torneo.getFechaInicio().plusDays(7), semifinales.get(0).getFecha());
+        assertEquals(1, llave.obtenerSiembra(semifinales.get(0).getLocal()));
+        assertEquals(4, llave.obtenerSiembra(semifinales.get(0).getVisitante()));
+        assertEquals(2, llave.obtenerSiembra(semifinales.get(1).getLocal()));
+        assertEquals(6, llave.obtenerSiembra(semifinales.get(1).getVisitante()));
+
+        torneo.registrarResultados(List.of(new MarcadorEnfrentamiento(semifinales.get(0), 0, 3),
+                new MarcadorEnfrentamiento(semifinales.get(1), 4, 0)));
+        assertTrue(llave.getCampeon().isEmpty());
+
+        var finalTorneo = llave.obtenerEnfrentamientosRonda(2);
+        assertEquals(1, finalTorneo.size());
+        torneo.registrarResultados(List.of(new MarcadorEnfrentamiento(finalTorneo.get(0), 2, 0)));
+
+        assertEquals(equipos.get(4), llave.getCampeon().orElseThrow());
+        assertEquals(6, llave.obtenerSiembra(llave.getCampeon().orElseThrow()));
+        LOG.info("Fin de prueba avanzarGanadoresHastaLaFinal...");
+    }
+
+    /**
+     * Verificar que con más enfrentamientos por ronda que lugares cada
+     * enfrentamiento tenga su propio lugar y día, y que la llave se pueda jugar
+     * completa con el calendario de lugares activo
+     *
+     */
+    @Test
+    public void repartirRondaEnLugaresYDias() {
+        LOG.info("Inicio de prueba repartirRondaEnLugaresYDias...");
+
+        var torneo = new GeneradorTorneo(11).generar(TipoTorneo.NACIONAL, TipoTorneoGenero.MIXTO, (byte) 0, 8, 0, 0,
+                0, 0);
+        torneo.activarCalendarioLugares(Duration.ofHours(2));
+        var lugares = List.of(new Lugar("Centenario", "Armenia"), new Lugar("Palogrande", "Manizales"));
+
+        var llave = new LlaveEliminacion(torneo, 8, lugares, LocalTime.of(15, 0), 1);
+
+        // Los cuatro enfrentamientos de la primera ronda ocupan dos días en los dos
+        // lugares
+        var primeraRonda = llave.obtenerEnfrentamientosRonda(0);
+        assertEquals(4, primeraRonda.size());
+        var franjas = new HashSet<String>();
+        for (var enfrentamiento : primeraRonda) {
+            franjas.add(enfrentamiento.getLugar().getNombre() + enfrentamiento.getFecha());
+        }
+        assertEquals(4, franjas.size());
+        assertEquals(torneo.getFechaInicio().plusDays(1), primeraRonda.get(3).getFecha());
+
+        var marcadores = new ArrayList<MarcadorEnfrentamiento>();
+        for (var enfrentamiento : primeraRonda) {
+            marcadores.add(new MarcadorEnfrentamiento(enfrentamiento, 0, 1));
+        }
+        torneo.registrarResultados(marcadores);
+
+        // La segunda ronda empieza después de los días que ocupó la primera
+        var semifinales = llave.obtenerEnfrentamientosRonda(1);
+        assertEquals(2, semifinales.size());
+        assertEquals(torneo.getFechaInicio().plusDays(2), semifinales.get(0).getFecha());
+        assertEquals(torneo.getFechaInicio().plusDays(2), semifinales.get(1).getFecha());
+        torneo.registrarResultados(List.of(new MarcadorEnfrentamiento(semifinales.get(0), 0, 1),
+                new MarcadorEnfrentamiento(semifinales.get(1), 0, 1)));
+
+        var finalTorneo = llave.obtenerEnfrentamientosRonda(2);
+        torneo.registrarResultados(List.of(new MarcadorEnfrentamiento(finalTorneo.get(0), 0, 1)));
+
+        assertEquals(1, llave.obtenerSiembra(llave.getCampeon().orElseThrow()));
+        assertEquals(7, torneo.getEnfrentamientos().size());
+        LOG.info("Fin de prueba repartirRondaEnLugaresYDias...");
+    }
+
+    /**
+     * Verificar que la eliminación directa solo se pueda usar en torneos
+     * nacionales o mundiales
+     *
+     */
+    @Test
+    public void llaveEnTorneoLocal() {
+        LOG.info("Inicio de prueba llaveEnTorneoLocal...");
+
+        var torneo = new GeneradorTorneo(11).generar(TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, (byte) 0, 4, 0, 0, 0,
+                0);
+
+        assertThrows(Throwable.class, () -> new LlaveEliminacion(torneo, 4,
+                List.of(new Lugar("Centenario", "Armenia")), LocalTime.of(15, 0), 7));
+        LOG.info("Fin de prueba llaveEnTorneoLocal...");
+    }
+}
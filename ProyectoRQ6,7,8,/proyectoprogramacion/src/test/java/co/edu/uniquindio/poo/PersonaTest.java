@@ -0,0 +1,64 @@
+/**
+ * Clase para probar el almacenamiento compacto de los datos de una Persona
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonaTest {
+    /**
+     * Instancia para el manejo de logs
+     */
+    private static final Logger LOG = Logger.getLogger(PersonaTest.class.getName());
+
+    /**
+     * Verificar que los nombres repetidos se compartan entre personas y que los
+     * celulares se recuperen tal como se registraron
+     *
+     */
+    @Test
+    public void compartirNombresYRecuperarCelulares() {
+        LOG.info("Inicio de prueba compartirNombresYRecuperarCelulares...");
+
+        var representante = new Persona(new String("Robinson"), new String("Pulgarin"), "rpulgarin@email.com",
+                "6067359300");
+        var jugador = new Jugador(new String("Robinson"), new String("Pulgarin"), "rpulgarin2@email.com",
+                "0031500000001", LocalDate.of(2001, 1, 9), TipoGenero.HOMBRE);
+        var juez = new Persona("Laura", "Ríos", "lrios@email.com", "+57 315 000 0002");
+        var largo = new Persona("Laura", "Ríos", "lrios@email.com", "123456789012345678");
+
+        // Recuperación y verificación de datos
+        assertSame(representante.getNombre(), jugador.getNombre());
+        assertSame(representante.getApellido(), jugador.getApellido());
+        assertEquals("6067359300", representante.getCelular());
+        assertEquals("0031500000001", jugador.getCelular());
+        assertEquals("+57 315 000 0002", juez.getCelular());
+        assertEquals("123456789012345678", largo.getCelular());
+        assertEquals("rpulgarin2@email.com", jugador.getEmail());
+        LOG.info("Fin de prueba compartirNombresYRecuperarCelulares...");
+    }
+
+    /**
+     * Verificar que no sea posible crear una persona sin celular
+     *
+     */
+    @Test
+    public void celularRequerido() {
+        LOG.info("Inicio de prueba celularRequerido...");
+
+        assertThrows(Throwable.class, () -> new Persona("Laura", "Ríos", "lrios@email.com", " "));
+        assertThrows(Throwable.class, () -> new Persona("Laura", "Ríos", "lrios@email.com", null));
+        LOG.info("Fin de prueba celularRequerido...");
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Clase para probar la programación del fixture de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class ProgramadorFixtureTest {
+    /**
+     * Instancia para el manejo de logs
+     */
+    private static final Logger LOG = Logger.getLogger(ProgramadorFixtureTest.class.getName());
+
+    /**
+     * Verificar que con un número impar de equipos cada par se enfrente una vez,
+     * que ningún equipo juegue dos veces en la misma fecha y que ningún lugar ni
+     * juez tenga dos enfrentamientos a la misma hora
+     *
+     */
+    @Test
+    public void programarTodosContraTodos() {
+        LOG.info("Inicio de prueba programarTodosContraTodos...");
+
+        var torneo = new GeneradorTorneo(3).generar(TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, (byte) 0, 7, 0, 2, 0,
+                0);
+        var lugares = List.of(new Lugar("Centenario", "Armenia"), new Lugar("San José", "Armenia"),
+                new Lugar("Hernán Ocampo", "Pereira"));
+        var enfrentamientos = new ProgramadorFixture(torneo).programar(false, lugares,
+                List.of(LocalTime.of(15, 0)), 7);
+
+        // Recuperación y verificación de datos
+        assertEquals(21, enfrentamientos.size());
+        assertEquals(21, torneo.getEnfrentamientos().size());
+        var pares = new HashSet<List<String>>();
+        var equiposPorFecha = new HashSet<List<Object>>();
+        var lugaresPorHora = new HashSet<List<Object>>();
+        var juecesPorHora = new HashSet<List<Object>>();
+        for (var enfrentamiento : enfrentamientos) {
+            String local = enfrentamiento.getLocal().getNombre();
+            String visitante = enfrentamiento.getVisitante().getNombre();
+            assertTrue(pares.add(local.compareTo(visitante) < 0 ? List.of(local, visitante) : List.of(visitante, local)));
+            assertTrue(equiposPorFecha.add(List.of(local, enfrentamiento.getFecha())));
+            assertTrue(equiposPorFecha.add(List.of(visitante, enfrentamiento.getFecha())));
+            assertTrue(enfrentamiento.getFecha().isAfter(torneo.getFechaInicio()));
+            assertTrue(lugaresPorHora.add(List.of(enfrentamiento.getLugar(), enfrentamiento.getFecha(),
+                    enfrentamiento.getHora())));
+            assertEquals(1, enfrentamiento.getJueces().size());
+            assertTrue(juecesPorHora.add(List.of(enfrentamiento.getJueces().iterator().next(),
+                    enfrentamiento.getFecha(), enfrentamiento.getHora())));
+        }
+        LOG.info("Fin de prueba programarTodosContraTodos...");
+    }
+
+    /**
+     * Verificar que en el fixture de ida y vuelta cada equipo reciba una vez como
+     * local a cada rival
+     *
+     */
+    @Test
+    public void programarIdaYVuelta() {
+        LOG.info("Inicio de prueba programarIdaYVuelta...");
+
+        var torneo = new GeneradorTorneo(5).generar(TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, (byte) 0, 6, 0, 3, 0,
+                0);
+        var lugares = List.of(new Lugar("Centenario", "Armenia"));
+        var enfrentamientos = new ProgramadorFixture(torneo).programar(true, lugares,
+                List.of(LocalTime.of(10, 0), LocalTime.of(15, 0)), 3);
+
+        // Recuperación y verificación de datos
+        assertEquals(30, enfrentamientos.size());
+        var cruces = new HashSet<List<String>>();
+        enfrentamientos.forEach(enfrentamiento -> assertTrue(cruces.add(
+                List.of(enfrentamiento.getLocal().getNombre(), enfrentamiento.getVisitante().getNombre()))));
+        assertEquals(torneo.getFechaInicio().plusDays(1), enfrentamientos.get(0).getFecha());
+        assertTrue(enfrentamientos.stream().map(Enfrentamiento::getFecha)
+                .allMatch(fecha -> !fecha.isAfter(torneo.getFechaInicio().plusDays(9 * 3 + 2))));
+        LOG.info("Fin de prueba programarIdaYVuelta...");
+    }
+
+    /**
+     * Verificar que si un enfrentamiento del fixture se cruza en su lugar con otro
+     * ya registrado no se registre ningún enfrentamiento del fixture
+     *
+     */
+    @Test
+    public void programarConLugarOcupado() {
+        LOG.info("Inicio de prueba programarConLugarOcupado...");
+
+        var torneo = new GeneradorTorneo(7).generar(TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO, (byte) 0, 6, 0, 3, 0,
+                0);
+        var lugar = new Lugar("Centenario", "Armenia");
+        var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+        // El último horario de la primera jornada ya está ocupado por otro enfrentamiento
+        torneo.registrarEnfrentamiento(new Enfrentamiento(torneo.getFechaInicio().plusDays(1), LocalTime.of(18, 0),
+                lugar, new Equipo("Pereira", representante, new Estadistica()),
+                new Equipo("Manizales", representante, new Estadistica()), torneo.getReloj()));
+        torneo.activarCalendarioLugares(Duration.ofHours(2));
+
+        assertThrows(Throwable.class, () -> new ProgramadorFixture(torneo).programar(false, List.of(lugar),
+                List.of(LocalTime.of(10, 0), LocalTime.of(14, 0), LocalTime.of(18, 0)), 7));
+        assertEquals(1, torneo.getEnfrentamientos().size());
+        // Las reservas que alcanzó a tomar el fixture se liberan
+        assertEquals(2, torneo.obtenerHorariosLibresLugar(lugar, torneo.getFechaInicio().plusDays(1),
+                torneo.getFechaInicio().plusDays(1), List.of(LocalTime.of(10, 0), LocalTime.of(14, 0),
+                        LocalTime.of(18, 0))).size());
+        LOG.info("Fin de prueba programarConLugarOcupado...");
+    }
+
+    /**
+     * Verificar que no se pueda programar el fixture sin jueces
+     *
+     */
+    @Test
+    public void programarSinJueces() {
+        LOG.info("Inicio de prueba programarSinJueces...");
+
+        var torneo = new Torneo("Copa Piston", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO);
+        var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+        torneo.registrarEquipo(new Equipo("Uniquindio", representante, new Estadistica()));
+        torneo.registrarEquipo(new Equipo("Barcelona", representante, new Estadistica()));
+
+        assertThrows(Throwable.class, () -> new ProgramadorFixture(torneo).programar(false,
+                List.of(new Lugar("Centenario", "Armenia")), List.of(LocalTime.of(15, 0)), 7));
+        LOG.info("Fin de prueba programarSinJueces...");
+    }
+}
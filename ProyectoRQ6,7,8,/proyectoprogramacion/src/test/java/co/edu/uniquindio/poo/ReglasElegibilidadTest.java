@@ -0,0 +1,111 @@
+/**
+ * Clase para probar las reglas de elegibilidad de los jugadores de un Torneo
+ * @author Área de programación UQ - Daniel Narvaez, Diego Flores, Esteban Maya
+ * @since 2023-11
+ *
+ * Licencia GNU/GPL V3.0 (https://raw.githubusercontent.com/grid-uq/poo/main/LICENSE)
+ */
+package co.edu.uniquindio.poo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class ReglasElegibilidadTest {
+    /**
+     * Instancia para el manejo de logs
+     */
+    private static final Logger LOG = Logger.getLogger(ReglasElegibilidadTest.class.getName());
+
+    /**
+     * Verificar que el límite de edad calculado como una fecha de corte coincida
+     * con la edad en años al inicio del torneo, incluso para los nacidos un 29 de
+     * febrero
+     *
+     */
+    @Test
+    public void limiteEdadComoFechaCorte() {
+        LOG.info("Inicio de prueba limiteEdadComoFechaCorte...");
+
+        for (var inicio : List.of(LocalDate.of(2024, 2, 28), LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1),
+                LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 1))) {
+            for (byte limite = 1; limite <= 24; limite += 23) {
+                var reglas = new ReglasElegibilidad(inicio, limite, TipoTorneoGenero.MIXTO);
+                var fecha = inicio.minusYears(limite + 2L);
+                while (fecha.isBefore(inicio.minusYears(limite - 1L))) {
+                    var jugador = new Jugador("Christian", "Candela", "chrcandela@email.com", "3150000001", fecha,
+                            TipoGenero.HOMBRE);
+                    // Recuperación y verificación de datos
+                    assertEquals(Period.between(fecha, inicio).getYears() <= limite, reglas.cumpleLimiteEdad(jugador),
+                            "Nacido el " + fecha + " con inicio el " + inicio);
+                    fecha = fecha.plusDays(1);
+                }
+            }
+        }
+        assertTrue(new ReglasElegibilidad(LocalDate.of(2024, 1, 1), (byte) 0, TipoTorneoGenero.MIXTO)
+                .cumpleLimiteEdad(new Jugador("Christian", "Candela", "chrcandela@email.com", "3150000001",
+                        LocalDate.MIN, TipoGenero.HOMBRE)));
+        LOG.info("Fin de prueba limiteEdadComoFechaCorte...");
+    }
+
+    /**
+     * Verificar que la evaluación de un equipo y de un lote de jugadores reporte
+     * todas las infracciones en un solo resultado, y que la fecha de corte se
+     * recalcule al cambiar la fecha de inicio del torneo
+     *
+     */
+    @Test
+    public void evaluarEquipoYLote() {
+        LOG.info("Inicio de prueba evaluarEquipoYLote...");
+
+        var zona = ZoneId.of("America/Bogota");
+        var reloj = Clock.fixed(LocalDate.of(2023, 10, 20).atStartOfDay(zona).toInstant(), zona);
+        var torneo = new Torneo("Copa Mundo", LocalDate.of(2023, 11, 20), LocalDate.of(2023, 10, 1),
+                LocalDate.of(2023, 11, 1), (byte) 24, (byte) 18, 0, TipoTorneo.LOCAL, TipoTorneoGenero.MUJERES,
+                reloj);
+        var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+        var registrada = new Jugador("Laura", "Ríos", "lrios@email.com", "3150000002", LocalDate.of(2007, 1, 1),
+                TipoGenero.MUJER);
+        var uniquindio = new Equipo("Uniquindio", representante, new Estadistica());
+        torneo.registrarEquipo(uniquindio);
+        torneo.registrarJugador(uniquindio, registrada);
+
+        var mayor = new Jugador("Ana", "Gómez", "agomez@email.com", "3150000003", LocalDate.of(2004, 11, 20),
+                TipoGenero.MUJER);
+        var hombreMayor = new Jugador("Christian", "Candela", "chrcandela@email.com", "3150000001",
+                LocalDate.of(2000, 1, 9), TipoGenero.HOMBRE);
+        var repetida = new Jugador("Laura", "Ríos", "otro@email.com", "3150000004", LocalDate.of(2008, 1, 1),
+                TipoGenero.MUJER);
+        var quindio = new Equipo("Quindío", representante, new Estadistica());
+        quindio.registrarJugador(mayor);
+        quindio.registrarJugador(hombreMayor);
+        quindio.registrarJugador(repetida);
+
+        // Recuperación y verificación de datos
+        assertEquals(List.of(ReglasElegibilidad.Regla.LIMITE_EDAD, ReglasElegibilidad.Regla.LIMITE_EDAD,
+                ReglasElegibilidad.Regla.GENERO, ReglasElegibilidad.Regla.JUGADOR_REGISTRADO),
+                torneo.evaluarElegibilidad(quindio).stream().map(ReglasElegibilidad.Infraccion::regla).toList());
+        assertTrue(torneo.evaluarElegibilidad(uniquindio).isEmpty());
+        var infracciones = torneo.evaluarElegibilidad(List.of(hombreMayor, repetida, mayor, mayor));
+        assertEquals(List.of(hombreMayor, hombreMayor, repetida, mayor, mayor, mayor),
+                infracciones.stream().map(ReglasElegibilidad.Infraccion::jugador).toList());
+        assertEquals(ReglasElegibilidad.Regla.JUGADOR_REGISTRADO, infracciones.get(5).regla());
+        assertThrows(Throwable.class, () -> torneo.registrarJugador(uniquindio, mayor));
+
+        // Si el torneo inicia un día antes, la jugadora nacida en 2004-11-20 aún tiene 18
+        torneo.setFechaInicio(LocalDate.of(2023, 11, 19));
+        assertTrue(torneo.getReglasElegibilidad().cumpleLimiteEdad(mayor));
+        torneo.registrarJugador(uniquindio, mayor);
+        assertEquals(2, uniquindio.getJugadores().size());
+        LOG.info("Fin de prueba evaluarEquipoYLote...");
+    }
+}
@@ -8,9 +8,16 @@
 package co.edu.uniquindio.poo;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.Test;
@@ -491,4 +498,551 @@ public class TorneoTest {
                 LOG.info("Fin de prueba VerificarBuenFuncionamientoObtenerListaEquiposClasificacionResultadosEnfrentamiento");
         }
 
+        /**
+         * Verifica que la tabla de clasificación se actualice cuando cambian las
+         * estadísticas de los equipos y que permita consultar los mejores equipos y
+         * la posición de un equipo.
+         */
+        @Test
+        public void verificarTablaClasificacionIncremental() {
+                LOG.info("Inicio de prueba verificarTablaClasificacionIncremental");
+
+                Torneo torneo = new Torneo("Copa Piston", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                                LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL,
+                                TipoTorneoGenero.MIXTO);
+
+                var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+                var equipo1 = new Equipo("Real Madrid", representante, new Estadistica());
+                var equipo2 = new Equipo("Barcelona", representante, new Estadistica());
+                var equipo3 = new Equipo("Sevilla", representante, new Estadistica());
+                torneo.registrarEquipo(equipo1);
+                torneo.registrarEquipo(equipo2);
+                torneo.registrarEquipo(equipo3);
+
+                // Sin partidos los equipos conservan el orden de registro
+                assertEquals(List.of(equipo1, equipo2, equipo3),
+                                List.copyOf(torneo.obtenerListaEquiposClasificacionResultadosEnfrentamiento()));
+                assertEquals(1, torneo.obtenerPosicionEquipoClasificacion("Sevilla").getAsInt());
+
+                // Sevilla gana, Barcelona empata y Real Madrid pierde
+                equipo3.getEstadistica().actualizarEstadisticas(true, false, false);
+                equipo2.getEstadistica().actualizarEstadisticas(false, true, false);
+                equipo1.getEstadistica().actualizarEstadisticas(false, false, true);
+
+                assertEquals(List.of(equipo3, equipo2, equipo1),
+                                List.copyOf(torneo.obtenerListaEquiposClasificacionResultadosEnfrentamiento()));
+                assertEquals(List.of(equipo3, equipo2), List.copyOf(torneo.obtenerMejoresEquiposClasificacion(2)));
+                assertEquals(1, torneo.obtenerPosicionEquipoClasificacion("Sevilla").getAsInt());
+                assertEquals(3, torneo.obtenerPosicionEquipoClasificacion("Real Madrid").getAsInt());
+                assertTrue(torneo.obtenerPosicionEquipoClasificacion("Betis").isEmpty());
+
+                LOG.info("Fin de prueba verificarTablaClasificacionIncremental");
+        }
+
+        /**
+         * Verifica que los jueces registrados en un enfrentamiento después de
+         * registrarlo en el torneo también se tengan en cuenta al consultar los
+         * enfrentamientos por licencia.
+         */
+        @Test
+        public void validarListaEnfrentamientosJuezRegistradoDespues() {
+                LOG.info("Inicio de prueba validarListaEnfrentamientosJuezRegistradoDespues...");
+
+                var representante = new Persona("Sancho", "Panza", "SanchoPanza@gmail.com", "3847834783");
+                var lugar = new Lugar("Camp nou", "Pereira");
+                var visitante = new Equipo("Los tilines", representante, new Estadistica());
+                var local = new Equipo("Los reprobados", representante, new Estadistica());
+                var enfrentamiento = new Enfrentamiento(LocalDate.now(), LocalTime.now(), lugar, visitante, local);
+                var juez = new Juez("Camilo", "Tolon", "CamiloTolon@gmail.com", "3043891162", "4321");
+
+                Torneo torneo = new Torneo("Copa Piston", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                                LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL,
+                                TipoTorneoGenero.HOMBRES);
+                torneo.registrarEnfrentamiento(enfrentamiento);
+
+                assertTrue(torneo.obtenerListaEnfrentamientosJuezPorLicencia("4321").isEmpty());
+
+                enfrentamiento.registrarJuez(juez);
+
+                assertEquals(List.of(enfrentamiento),
+                                List.copyOf(torneo.obtenerListaEnfrentamientosJuezPorLicencia("4321")));
+
+                LOG.info("Fin de prueba validarListaEnfrentamientosJuezRegistradoDespues...");
+        }
+
+        /**
+         * Verifica que los enfrentamientos de un equipo se obtengan ordenados por
+         * fecha y que el orden se actualice cuando un enfrentamiento es aplazado.
+         */
+        @Test
+        public void verificarListaEnfrentamientosEquipoOrdenadaPorFecha() {
+                LOG.info("Inicio de prueba verificarListaEnfrentamientosEquipoOrdenadaPorFecha...");
+
+                var representante = new Persona("Sancho", "Panza", "SanchoPanza@gmail.com", "3847834783");
+                var lugar = new Lugar("Camp nou", "Pereira");
+                var equipo1 = new Equipo("Los tilines", representante, new Estadistica());
+                var equipo2 = new Equipo("Los reprobados", representante, new Estadistica());
+                var equipo3 = new Equipo("Los chuchuwa", representante, new Estadistica());
+                var hora = LocalTime.of(15, 0);
+
+                var enfrentamiento1 = new Enfrentamiento(LocalDate.of(2023, 11, 20), hora, lugar, equipo1, equipo2);
+                var enfrentamiento2 = new Enfrentamiento(LocalDate.of(2023, 11, 5), hora, lugar, equipo3, equipo1);
+                var enfrentamiento3 = new Enfrentamiento(LocalDate.of(2023, 11, 10), hora, lugar, equipo2, equipo3);
+
+                Torneo torneo = new Torneo("Copa Piston", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                                LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL,
+                                TipoTorneoGenero.HOMBRES);
+                torneo.registrarEnfrentamiento(enfrentamiento1);
+                torneo.registrarEnfrentamiento(enfrentamiento2);
+                torneo.registrarEnfrentamiento(enfrentamiento3);
+
+                assertEquals(List.of(enfrentamiento2, enfrentamiento1),
+                                List.copyOf(torneo.obtenerListaEnfrentamientosEquipoPorNombre("Los tilines")));
+
+                enfrentamiento2.aplazarEnfrentamiento(LocalDate.of(2023, 11, 30), hora);
+
+                assertEquals(List.of(enfrentamiento1, enfrentamiento2),
+                                List.copyOf(torneo.obtenerListaEnfrentamientosEquipoPorNombre("Los tilines")));
+                assertEquals(List.of(enfrentamiento3, enfrentamiento2),
+                                List.copyOf(torneo.obtenerListaEnfrentamientosEquipoPorNombre("Los chuchuwa")));
+
+                LOG.info("Fin de prueba verificarListaEnfrentamientosEquipoOrdenadaPorFecha...");
+        }
+
+        /**
+         * Verifica que no sea posible registrar dos veces el mismo partido aunque se
+         * trate de objetos distintos.
+         */
+        @Test
+        public void verificarAgregarEnfrentamientoRepetido() {
+                LOG.info("Inicio de prueba verificarAgregarEnfrentamientoRepetido...");
+
+                var representante = new Persona("Sancho", "Panza", "SanchoPanza@gmail.com", "3847834783");
+                var visitante = new Equipo("Los tilines", representante, new Estadistica());
+                var local = new Equipo("Los reprobados", representante, new Estadistica());
+                var fecha = LocalDate.of(2023, 11, 20);
+                var hora = LocalTime.of(15, 0);
+
+                var enfrentamiento1 = new Enfrentamiento(fecha, hora, new Lugar("Camp nou", "Pereira"), visitante,
+                                local);
+                var enfrentamiento2 = new Enfrentamiento(fecha, hora, new Lugar("Camp nou", "Pereira"), visitante,
+                                local);
+
+                Torneo torneo = new Torneo("Copa Piston", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                                LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL,
+                                TipoTorneoGenero.HOMBRES);
+                torneo.registrarEnfrentamiento(enfrentamiento1);
+
+                assertThrows(Throwable.class, () -> torneo.registrarEnfrentamiento(enfrentamiento2));
+                assertEquals(enfrentamiento1, torneo.buscarEnfrentamiento(enfrentamiento2.getClave()).get());
+                assertEquals(1, torneo.getEnfrentamientos().size());
+
+                LOG.info("Fin de prueba verificarAgregarEnfrentamientoRepetido...");
+        }
+
+        /**
+         * Verifica que los resultados de una jornada se registren en un solo paso,
+         * actualizando las estadísticas y la clasificación, y que un lote con un
+         * marcador inválido no registre ningún resultado.
+         */
+        @Test
+        public void verificarRegistrarResultadosJornada() {
+                LOG.info("Inicio de prueba verificarRegistrarResultadosJornada");
+
+                Torneo torneo = new Torneo("Copa Piston", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                                LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL,
+                                TipoTorneoGenero.MIXTO);
+
+                var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+                var lugar = new Lugar("granada", "Avenida Alamos");
+                var equipo1 = new Equipo("Real Madrid", representante, new Estadistica());
+                var equipo2 = new Equipo("Barcelona", representante, new Estadistica());
+                var equipo3 = new Equipo("Sevilla", representante, new Estadistica());
+                var equipo4 = new Equipo("Betis", representante, new Estadistica());
+                torneo.registrarEquipo(equipo1);
+                torneo.registrarEquipo(equipo2);
+                torneo.registrarEquipo(equipo3);
+                torneo.registrarEquipo(equipo4);
+
+                var fecha = LocalDate.of(2023, 11, 20);
+                var enfrentamiento1 = new Enfrentamiento(fecha, LocalTime.of(15, 0), lugar, equipo1, equipo2);
+                var enfrentamiento2 = new Enfrentamiento(fecha, LocalTime.of(18, 0), lugar, equipo3, equipo4);
+                var noRegistrado = new Enfrentamiento(fecha, LocalTime.of(20, 0), lugar, equipo1, equipo3);
+                torneo.registrarEnfrentamiento(enfrentamiento1);
+                torneo.registrarEnfrentamiento(enfrentamiento2);
+
+                // Un lote con un enfrentamiento no registrado no se aplica
+                assertThrows(Throwable.class, () -> torneo.registrarResultados(List.of(
+                                new MarcadorEnfrentamiento(enfrentamiento1, 1, 0),
+                                new MarcadorEnfrentamiento(noRegistrado, 1, 0))));
+                assertEquals(0, equipo1.getEstadistica().getPuntaje());
+                assertNull(enfrentamiento1.getEstadoEnfrentamiento());
+
+                torneo.registrarResultados(List.of(
+                                new MarcadorEnfrentamiento(enfrentamiento1, 0, 2),
+                                new MarcadorEnfrentamiento(enfrentamiento2, 1, 1)));
+
+                assertEquals(EstadoEnfrentamiento.FINALIZADO, enfrentamiento1.getEstadoEnfrentamiento());
+                assertEquals(EstadoEnfrentamiento.FINALIZADO, enfrentamiento2.getEstadoEnfrentamiento());
+                assertEquals(List.of(equipo2, equipo3, equipo4, equipo1),
+                                List.copyOf(torneo.obtenerListaEquiposClasificacionResultadosEnfrentamiento()));
+
+                // Un enfrentamiento finalizado no se puede volver a registrar
+                assertThrows(Throwable.class, () -> torneo.registrarResultados(List.of(
+                                new MarcadorEnfrentamiento(enfrentamiento1, 3, 0))));
+
+                LOG.info("Fin de prueba verificarRegistrarResultadosJornada");
+        }
+
+        /**
+         * Verificar que varios anotadores puedan registrar resultados a la vez sin
+         * perder actualizaciones de las estadísticas ni finalizar dos veces un
+         * mismo enfrentamiento
+         */
+        @Test
+        public void verificarRegistrarResultadosConcurrentes() throws InterruptedException {
+                LOG.info("Inicio de prueba verificarRegistrarResultadosConcurrentes");
+
+                Torneo torneo = new Torneo("Copa Piston", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                                LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL,
+                                TipoTorneoGenero.MIXTO);
+
+                var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+                var lugar = new Lugar("granada", "Avenida Alamos");
+                var equipos = new ArrayList<Equipo>();
+                for (int i = 0; i < 8; i++) {
+                        var equipo = new Equipo("Equipo " + i, representante, new Estadistica());
+                        torneo.registrarEquipo(equipo);
+                        equipos.add(equipo);
+                }
+
+                int hilos = 8;
+                int enfrentamientosPorHilo = 250;
+                var fecha = LocalDate.of(2023, 11, 20);
+                var enfrentamientos = new ArrayList<Enfrentamiento>();
+                for (int i = 0; i < hilos * enfrentamientosPorHilo; i++) {
+                        var enfrentamiento = new Enfrentamiento(fecha.plusDays(i), LocalTime.of(15, 0), lugar,
+                                        equipos.get(i % 8), equipos.get((i + 1) % 8));
+                        torneo.registrarEnfrentamiento(enfrentamiento);
+                        enfrentamientos.add(enfrentamiento);
+                }
+                var disputado = enfrentamientos.get(0);
+
+                // Cada hilo registra sus propios resultados e intenta finalizar el mismo
+                // enfrentamiento disputado
+                var inicio = new CountDownLatch(1);
+                var finalizacionesDisputado = new AtomicInteger();
+                var anotadores = new ArrayList<Thread>();
+                for (int h = 0; h < hilos; h++) {
+                        int primero = h * enfrentamientosPorHilo;
+                        var anotador = new Thread(() -> {
+                                try {
+                                        inicio.await();
+                                } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                        return;
+                                }
+                                try {
+                                        torneo.registrarResultados(
+                                                        List.of(new MarcadorEnfrentamiento(disputado, 2, 1)));
+                                        finalizacionesDisputado.incrementAndGet();
+                                } catch (RuntimeException e) {
+                                        // Otro anotador ya finalizó el enfrentamiento
+                                }
+                                for (int i = Math.max(primero, 1); i < primero + enfrentamientosPorHilo; i++) {
+                                        torneo.registrarResultados(List.of(new MarcadorEnfrentamiento(
+                                                        enfrentamientos.get(i), i % 3, 1)));
+                                }
+                        });
+                        anotador.start();
+                        anotadores.add(anotador);
+                }
+                inicio.countDown();
+                for (var anotador : anotadores) {
+                        anotador.join();
+                }
+
+                assertEquals(1, finalizacionesDisputado.get());
+                int partidos = 0;
+                for (var equipo : equipos) {
+                        var estadistica = equipo.getEstadistica();
+                        partidos += estadistica.getGanado() + estadistica.getEmpatado() + estadistica.getPerdido();
+                }
+                assertEquals(2 * hilos * enfrentamientosPorHilo, partidos);
+
+                var tabla = List.copyOf(torneo.obtenerListaEquiposClasificacionResultadosEnfrentamiento());
+                assertEquals(8, tabla.size());
+                for (int i = 1; i < tabla.size(); i++) {
+                        assertTrue(tabla.get(i - 1).getEstadistica().getPuntaje() >= tabla.get(i).getEstadistica()
+                                        .getPuntaje());
+                }
+
+                LOG.info("Fin de prueba verificarRegistrarResultadosConcurrentes");
+        }
+
+        /**
+         * Verificar que dos lotes de resultados que comparten un enfrentamiento y se
+         * registran a la vez no queden a medias: uno se registra completo y el otro
+         * no registra ningún resultado
+         */
+        @Test
+        public void verificarRegistrarResultadosLotesCruzados() throws InterruptedException {
+                LOG.info("Inicio de prueba verificarRegistrarResultadosLotesCruzados");
+
+                Torneo torneo = new Torneo("Copa Piston", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                                LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL,
+                                TipoTorneoGenero.MIXTO);
+
+                var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+                var lugar = new Lugar("granada", "Avenida Alamos");
+                var equipo1 = new Equipo("Real Madrid", representante, new Estadistica());
+                var equipo2 = new Equipo("Barcelona", representante, new Estadistica());
+                torneo.registrarEquipo(equipo1);
+                torneo.registrarEquipo(equipo2);
+
+                var fecha = LocalDate.of(2023, 11, 20);
+                for (int ronda = 0; ronda < 200; ronda++) {
+                        var primero = new Enfrentamiento(fecha.plusDays(3 * ronda), LocalTime.of(15, 0), lugar,
+                                        equipo1, equipo2);
+                        var compartido = new Enfrentamiento(fecha.plusDays(3 * ronda + 1), LocalTime.of(15, 0), lugar,
+                                        equipo1, equipo2);
+                        var ultimo = new Enfrentamiento(fecha.plusDays(3 * ronda + 2), LocalTime.of(15, 0), lugar,
+                                        equipo1, equipo2);
+                        torneo.registrarEnfrentamiento(primero);
+                        torneo.registrarEnfrentamiento(compartido);
+                        torneo.registrarEnfrentamiento(ultimo);
+
+                        var inicio = new CountDownLatch(1);
+                        var registrados = new AtomicInteger();
+                        var anotadores = new ArrayList<Thread>();
+                        for (var lote : List.of(
+                                        List.of(new MarcadorEnfrentamiento(primero, 1, 0),
+                                                        new MarcadorEnfrentamiento(compartido, 1, 0)),
+                                        List.of(new MarcadorEnfrentamiento(ultimo, 0, 1),
+                                                        new MarcadorEnfrentamiento(compartido, 0, 1)))) {
+                                var anotador = new Thread(() -> {
+                                        try {
+                                                inicio.await();
+                                                torneo.registrarResultados(lote);
+                                                registrados.incrementAndGet();
+                                        } catch (InterruptedException e) {
+                                                Thread.currentThread().interrupt();
+                                        } catch (RuntimeException | AssertionError e) {
+                                                // El otro lote reservó el enfrentamiento compartido
+                                        }
+                                });
+                                anotador.start();
+                                anotadores.add(anotador);
+                        }
+                        inicio.countDown();
+                        for (var anotador : anotadores) {
+                                anotador.join();
+                        }
+
+                        // Recuperación y verificación de datos
+                        assertEquals(1, registrados.get());
+                        assertEquals(EstadoEnfrentamiento.FINALIZADO, compartido.getEstadoEnfrentamiento());
+                        boolean ganaPrimerLote = compartido.getPuntosVisitanteEnfrentamiento() == 1;
+                        assertEquals(ganaPrimerLote, primero.getEstadoEnfrentamiento() == EstadoEnfrentamiento.FINALIZADO);
+                        assertEquals(!ganaPrimerLote, ultimo.getEstadoEnfrentamiento() == EstadoEnfrentamiento.FINALIZADO);
+                }
+                assertEquals(400, equipo1.getEstadistica().getGanado() + equipo1.getEstadistica().getPerdido());
+
+                LOG.info("Fin de prueba verificarRegistrarResultadosLotesCruzados");
+        }
+
+        /**
+         * Verificar que un lote de enfrentamientos desordenado quede en los índices
+         * del torneo en orden de fecha y hora, y que un lote con una clave repetida
+         * no registre ninguno de sus enfrentamientos ni los deje reservados
+         */
+        @Test
+        public void verificarRegistrarEnfrentamientosLote() {
+                LOG.info("Inicio de prueba verificarRegistrarEnfrentamientosLote");
+
+                Torneo torneo = new Torneo("Copa Piston", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                                LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL,
+                                TipoTorneoGenero.MIXTO);
+
+                var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+                var lugar = new Lugar("granada", "Avenida Alamos");
+                var equipo1 = new Equipo("Real Madrid", representante, new Estadistica());
+                var equipo2 = new Equipo("Barcelona", representante, new Estadistica());
+                torneo.registrarEquipo(equipo1);
+                torneo.registrarEquipo(equipo2);
+                var juez = new Juez("Camilo", "Torres", "ctorres@email.com", "3117000001", "L-001");
+
+                var fecha = LocalDate.of(2023, 11, 20);
+                var existente = new Enfrentamiento(fecha.plusDays(5), LocalTime.of(15, 0), lugar, equipo1, equipo2);
+                torneo.registrarEnfrentamiento(existente);
+                var ultimo = new Enfrentamiento(fecha.plusDays(9), LocalTime.of(15, 0), lugar, equipo2, equipo1);
+                var primero = new Enfrentamiento(fecha.plusDays(1), LocalTime.of(15, 0), lugar, equipo1, equipo2);
+                var mismoDia = new Enfrentamiento(fecha.plusDays(5), LocalTime.of(10, 0), lugar, equipo2, equipo1);
+                for (var enfrentamiento : List.of(ultimo, primero, mismoDia)) {
+                        enfrentamiento.registrarJuez(juez);
+                }
+                torneo.registrarEnfrentamientos(List.of(ultimo, primero, mismoDia));
+
+                var nuevo = new Enfrentamiento(fecha.plusDays(20), LocalTime.of(15, 0), lugar, equipo1, equipo2);
+                var repetido = new Enfrentamiento(fecha.plusDays(1), LocalTime.of(15, 0), lugar, equipo1, equipo2);
+                assertThrows(Throwable.class, () -> torneo.registrarEnfrentamientos(List.of(nuevo, repetido)));
+
+                // Recuperación y verificación de datos
+                assertEquals(List.of(primero, mismoDia, existente, ultimo),
+                                List.copyOf(torneo.obtenerListaEnfrentamientosEquipoPorNombre("Barcelona")));
+                assertEquals(List.of(ultimo, primero, mismoDia),
+                                List.copyOf(torneo.obtenerListaEnfrentamientosJuezPorLicencia("L-001")));
+                assertEquals(mismoDia, torneo.buscarEnfrentamiento(mismoDia.getClave()).orElseThrow());
+                assertEquals(4, torneo.getEnfrentamientos().size());
+                assertTrue(torneo.buscarEnfrentamiento(nuevo.getClave()).isEmpty());
+                nuevo.registrarJuez(juez);
+                torneo.registrarEnfrentamiento(nuevo);
+                assertEquals(nuevo, torneo.buscarEnfrentamiento(nuevo.getClave()).orElseThrow());
+
+                LOG.info("Fin de prueba verificarRegistrarEnfrentamientosLote");
+        }
+
+        /**
+         * Verificar que con el calendario de lugares activo no se pueda reservar dos
+         * veces un lugar a la misma hora, ni siquiera al aplazar un enfrentamiento, y
+         * que se puedan consultar los horarios libres del lugar
+         */
+        @Test
+        public void verificarCalendarioLugares() {
+                LOG.info("Inicio de prueba verificarCalendarioLugares");
+
+                Torneo torneo = new Torneo("Copa Piston", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                                LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL,
+                                TipoTorneoGenero.MIXTO);
+
+                var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+                var equipo1 = new Equipo("Real Madrid", representante, new Estadistica());
+                var equipo2 = new Equipo("Barcelona", representante, new Estadistica());
+                var equipo3 = new Equipo("Sevilla", representante, new Estadistica());
+                var equipo4 = new Equipo("Betis", representante, new Estadistica());
+                torneo.registrarEquipo(equipo1);
+                torneo.registrarEquipo(equipo2);
+                torneo.registrarEquipo(equipo3);
+                torneo.registrarEquipo(equipo4);
+
+                var fecha = LocalDate.of(2023, 11, 20);
+                var enfrentamiento1 = new Enfrentamiento(fecha, LocalTime.of(15, 0), new Lugar("granada",
+                                "Avenida Alamos"), equipo1, equipo2);
+                torneo.registrarEnfrentamiento(enfrentamiento1);
+                torneo.activarCalendarioLugares(Duration.ofHours(2));
+
+                // El mismo lugar a las 16:00 se cruza con el enfrentamiento de las 15:00
+                var cruzado = new Enfrentamiento(fecha, LocalTime.of(16, 0), new Lugar("granada", "Avenida Alamos"),
+                                equipo3, equipo4);
+                assertThrows(Throwable.class, () -> torneo.registrarEnfrentamiento(cruzado));
+                assertEquals(1, torneo.getEnfrentamientos().size());
+                assertTrue(torneo.buscarEnfrentamiento(cruzado.getClave()).isEmpty());
+
+                var enfrentamiento2 = new Enfrentamiento(fecha, LocalTime.of(17, 0), new Lugar("granada",
+                                "Avenida Alamos"), equipo3, equipo4);
+                torneo.registrarEnfrentamiento(enfrentamiento2);
+
+                var lugar = new Lugar("granada", "Avenida Alamos");
+                var horarios = List.of(LocalTime.of(15, 0), LocalTime.of(17, 0));
+                assertEquals(List.of(fecha.plusDays(1).atTime(15, 0), fecha.plusDays(1).atTime(17, 0)),
+                                torneo.obtenerHorariosLibresLugar(lugar, fecha, fecha.plusDays(1), horarios));
+
+                // Al aplazar se libera el horario anterior, y no se puede aplazar a un horario
+                // ocupado
+                enfrentamiento2.aplazarEnfrentamiento(fecha.plusDays(1), LocalTime.of(15, 0));
+                assertThrows(Throwable.class,
+                                () -> enfrentamiento1.aplazarEnfrentamiento(fecha.plusDays(1), LocalTime.of(16, 0)));
+                assertEquals(fecha, enfrentamiento1.getFecha());
+                assertNull(enfrentamiento1.getEstadoEnfrentamiento());
+                assertEquals(List.of(fecha.atTime(17, 0), fecha.plusDays(1).atTime(17, 0)),
+                                torneo.obtenerHorariosLibresLugar(lugar, fecha, fecha.plusDays(1), horarios));
+
+                LOG.info("Fin de prueba verificarCalendarioLugares");
+        }
+
+        /**
+         * Verificar que al aplazar a la vez varios enfrentamientos al mismo horario de
+         * un lugar solo uno lo reserve, y que un aplazamiento rechazado por otro
+         * torneo no deje reservas en el calendario del primero
+         */
+        @Test
+        public void verificarCalendarioLugaresAplazamientosConcurrentes() throws InterruptedException {
+                LOG.info("Inicio de prueba verificarCalendarioLugaresAplazamientosConcurrentes");
+
+                Torneo torneo = new Torneo("Copa Piston", LocalDate.now().plusMonths(1), LocalDate.now().minusDays(15),
+                                LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0, TipoTorneo.LOCAL,
+                                TipoTorneoGenero.MIXTO);
+                Torneo otroTorneo = new Torneo("Copa Cafetera", LocalDate.now().plusMonths(1),
+                                LocalDate.now().minusDays(15), LocalDate.now().plusDays(15), (byte) 24, (byte) 0, 0,
+                                TipoTorneo.LOCAL, TipoTorneoGenero.MIXTO);
+                var representante = new Persona("Robinson", "Pulgarin", "rpulgarin@email.com", "6067359300");
+                var lugar = new Lugar("granada", "Avenida Alamos");
+                var hora = LocalTime.of(15, 0);
+                var fecha = LocalDate.now().plusDays(1);
+                var destino = fecha.plusDays(30);
+                var equipos = new ArrayList<Equipo>();
+                for (int i = 0; i < 8; i++) {
+                        equipos.add(new Equipo("Equipo " + i, representante, new Estadistica()));
+                }
+                torneo.activarCalendarioLugares(Duration.ofHours(2));
+                otroTorneo.activarCalendarioLugares(Duration.ofHours(2));
+                var enfrentamientos = new ArrayList<Enfrentamiento>();
+                for (int i = 0; i < 8; i++) {
+                        var enfrentamiento = new Enfrentamiento(fecha.plusDays(i), hora, lugar, equipos.get(i),
+                                        equipos.get((i + 1) % 8));
+                        torneo.registrarEnfrentamiento(enfrentamiento);
+                        enfrentamientos.add(enfrentamiento);
+                }
+
+                var inicio = new CountDownLatch(1);
+                var aplazados = new AtomicInteger();
+                var hilos = new ArrayList<Thread>();
+                for (var enfrentamiento : enfrentamientos) {
+                        var hilo = new Thread(() -> {
+                                try {
+                                        inicio.await();
+                                        enfrentamiento.aplazarEnfrentamiento(destino, hora);
+                                        aplazados.incrementAndGet();
+                                } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                } catch (RuntimeException e) {
+                                        // Otro enfrentamiento ya tomó el horario
+                                }
+                        });
+                        hilo.start();
+                        hilos.add(hilo);
+                }
+                inicio.countDown();
+                for (var hilo : hilos) {
+                        hilo.join();
+                }
+
+                // Solo queda libre la fecha original del enfrentamiento aplazado
+                assertEquals(1, aplazados.get());
+                var horarios = List.of(hora);
+                var libres = torneo.obtenerHorariosLibresLugar(lugar, fecha, destino, horarios);
+                assertEquals(31 - 8, libres.size());
+                var aplazado = enfrentamientos.stream().filter(e -> e.getFecha().equals(destino)).findFirst()
+                                .orElseThrow();
+                assertTrue(libres.contains(fecha.plusDays(enfrentamientos.indexOf(aplazado)).atTime(hora)));
+
+                // El otro torneo rechaza el aplazamiento, y el primero conserva la reserva
+                // anterior sin quedarse con la nueva
+                int indice = enfrentamientos.get(1) == aplazado ? 2 : 1;
+                var enfrentamiento = enfrentamientos.get(indice);
+                otroTorneo.registrarEnfrentamiento(new Enfrentamiento(fecha.plusDays(20), hora, lugar, equipos.get(5),
+                                equipos.get(6)));
+                otroTorneo.registrarEnfrentamiento(enfrentamiento);
+                assertThrows(Throwable.class, () -> enfrentamiento.aplazarEnfrentamiento(fecha.plusDays(20), hora));
+                assertEquals(fecha.plusDays(indice), enfrentamiento.getFecha());
+                assertEquals(List.of(fecha.plusDays(20).atTime(hora)), torneo.obtenerHorariosLibresLugar(lugar,
+                                fecha.plusDays(20), fecha.plusDays(20), horarios));
+                assertTrue(torneo.buscarEnfrentamiento(enfrentamiento.getClave().conFechaHora(fecha.plusDays(20), hora))
+                                .isEmpty());
+                assertTrue(torneo.obtenerHorariosLibresLugar(lugar, fecha.plusDays(indice), fecha.plusDays(indice),
+                                horarios).isEmpty());
+
+                LOG.info("Fin de prueba verificarCalendarioLugaresAplazamientosConcurrentes");
+        }
+
 }